@@ -0,0 +1,59 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.dynamic.sql.util.BeanPropertyGetter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads simple and nested properties through the reflection support used by insert statements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BeanPropertyGetterBenchmark {
+
+    private PersonRecord record;
+
+    @Setup
+    public void setup() {
+        record = PersonRecord.of(22);
+    }
+
+    @Benchmark
+    public Object simpleProperty() {
+        return BeanPropertyGetter.instance().getPropertyValue(record, "lastName"); //$NON-NLS-1$
+    }
+
+    @Benchmark
+    public Object nestedProperty() {
+        return BeanPropertyGetter.instance().getPropertyValue(record, "address.city"); //$NON-NLS-1$
+    }
+}
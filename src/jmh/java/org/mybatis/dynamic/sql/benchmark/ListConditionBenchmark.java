@@ -0,0 +1,78 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmark;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.SqlConditions.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.mybatis.dynamic.sql.delete.DeleteSupport;
+import org.mybatis.dynamic.sql.select.SelectSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Renders list value conditions (in and not in) of increasing size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ListConditionBenchmark {
+
+    @Param({"10", "1000", "50000"})
+    public int size;
+
+    @Param({"sql", "mybatis3", "spring"})
+    public String placeholder;
+
+    private PersonColumns columns;
+    private Integer[] values;
+
+    @Setup
+    public void setup() {
+        columns = PersonColumns.of(placeholder);
+        values = IntStream.range(0, size).boxed().toArray(Integer[]::new);
+    }
+
+    @Benchmark
+    public SelectSupport selectIn() {
+        return select(columns.id, columns.firstName)
+                .from(columns.person)
+                .where(columns.id, isIn(values))
+                .build();
+    }
+
+    @Benchmark
+    public DeleteSupport deleteNotIn() {
+        return deleteFrom(columns.person)
+                .where(columns.id, isNotIn(values))
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmark;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.SqlConditions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.dynamic.sql.SqlCriterion;
+import org.mybatis.dynamic.sql.select.SelectSupport;
+import org.mybatis.dynamic.sql.select.SelectSupportBuilder.SelectSupportWhereBuilder;
+import org.mybatis.dynamic.sql.select.SelectSupportBuilder.SelectSupportWhereBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Renders where clauses with deeply nested sub criteria, and with many criteria at one level.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class NestedCriteriaBenchmark {
+
+    @Param({"1", "8", "64"})
+    public int depth;
+
+    @Param({"sql", "mybatis3", "spring"})
+    public String placeholder;
+
+    private PersonColumns columns;
+
+    @Setup
+    public void setup() {
+        columns = PersonColumns.of(placeholder);
+    }
+
+    @Benchmark
+    public SelectSupport nested() {
+        return select(columns.id, columns.firstName)
+                .from(columns.person)
+                .where(columns.id, isEqualTo(1), nestedCriterion(depth))
+                .build();
+    }
+
+    @Benchmark
+    public SelectSupport flat() {
+        SelectSupportWhereBuilder builder = select(columns.id, columns.firstName)
+                .from(columns.person)
+                .where(columns.id, isEqualTo(1));
+        for (int i = 0; i < depth; i++) {
+            builder.or(columns.age, isGreaterThan(i), or(columns.lastName, isLike("F%"))); //$NON-NLS-1$
+        }
+        return builder.build();
+    }
+
+    private SqlCriterion<?> nestedCriterion(int level) {
+        if (level == 1) {
+            return or(columns.lastName, isLike("F%")); //$NON-NLS-1$
+        }
+        return and(columns.age, isGreaterThan(level), nestedCriterion(level - 1));
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmark;
+
+import java.sql.JDBCType;
+
+import org.mybatis.dynamic.sql.MyBatis3Column;
+import org.mybatis.dynamic.sql.SpringNamedParameterColumn;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+/**
+ * The same person table described with each of the column types, so benchmarks can
+ * compare the placeholder strategies.
+ */
+public class PersonColumns {
+    public final SqlTable person = SqlTable.of("person").withAlias("a");
+    public final SqlColumn<Integer> id;
+    public final SqlColumn<String> firstName;
+    public final SqlColumn<String> lastName;
+    public final SqlColumn<Integer> age;
+    public final SqlColumn<String> city;
+
+    private PersonColumns(ColumnFactory factory) {
+        id = factory.column("id", JDBCType.INTEGER).inTable(person);
+        firstName = factory.column("first_name", JDBCType.VARCHAR).inTable(person);
+        lastName = factory.column("last_name", JDBCType.VARCHAR).inTable(person);
+        age = factory.column("age", JDBCType.INTEGER).inTable(person);
+        city = factory.column("city", JDBCType.VARCHAR).inTable(person);
+    }
+
+    @FunctionalInterface
+    private interface ColumnFactory {
+        <T> SqlColumn<T> column(String name, JDBCType jdbcType);
+    }
+
+    /**
+     * Returns the columns for a placeholder strategy.
+     * 
+     * @param placeholder one of "sql", "mybatis3" or "spring"
+     * @return the columns
+     */
+    public static PersonColumns of(String placeholder) {
+        switch (placeholder) {
+        case "sql": //$NON-NLS-1$
+            return new PersonColumns(SqlColumn::of);
+        case "mybatis3": //$NON-NLS-1$
+            return new PersonColumns(MyBatis3Column::of);
+        case "spring": //$NON-NLS-1$
+            return new PersonColumns(SpringNamedParameterColumn::of);
+        default:
+            throw new IllegalArgumentException("Unknown placeholder strategy: " + placeholder); //$NON-NLS-1$
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmark;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.SqlConditions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.dynamic.sql.select.SelectSupport;
+import org.mybatis.dynamic.sql.where.ShapeCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Builds statements through one shape cache from several threads, so lookups contend for the
+ * cache.  Change the number of threads with the -t option.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+public class ShapeCacheBenchmark {
+
+    private PersonColumns columns;
+    private ShapeCache cache;
+
+    @Setup
+    public void setup() {
+        columns = PersonColumns.of("mybatis3"); //$NON-NLS-1$
+        cache = ShapeCache.of(64);
+    }
+
+    @Benchmark
+    public SelectSupport selectWithCache() {
+        return select(columns.id, columns.firstName, columns.lastName)
+                .from(columns.person)
+                .where(columns.id, isGreaterThan(5))
+                .and(columns.lastName, isLike("F%"), or(columns.age, isBetween(20).and(30))) //$NON-NLS-1$
+                .withShapeCache(cache)
+                .build();
+    }
+
+    @Benchmark
+    public SelectSupport selectWithoutCache() {
+        return select(columns.id, columns.firstName, columns.lastName)
+                .from(columns.person)
+                .where(columns.id, isGreaterThan(5))
+                .and(columns.lastName, isLike("F%"), or(columns.age, isBetween(20).and(30))) //$NON-NLS-1$
+                .build();
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.benchmark;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.SqlConditions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mybatis.dynamic.sql.delete.DeleteSupport;
+import org.mybatis.dynamic.sql.insert.InsertSupport;
+import org.mybatis.dynamic.sql.select.SelectSupport;
+import org.mybatis.dynamic.sql.update.UpdateSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Builds each kind of statement through SqlBuilder, for each placeholder strategy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class StatementBenchmark {
+
+    @Param({"sql", "mybatis3", "spring"})
+    public String placeholder;
+
+    private PersonColumns columns;
+    private PersonRecord record;
+
+    @Setup
+    public void setup() {
+        columns = PersonColumns.of(placeholder);
+        record = PersonRecord.of(22);
+    }
+
+    @Benchmark
+    public SelectSupport selectStatement() {
+        return select(columns.id, columns.firstName, columns.lastName)
+                .from(columns.person)
+                .where(columns.id, isGreaterThan(5))
+                .and(columns.lastName, isLike("F%"), or(columns.age, isBetween(20).and(30)))
+                .or(columns.firstName, isIn("Fred", "Wilma", "Pebbles"))
+                .orderBy(columns.lastName, columns.id.descending())
+                .build();
+    }
+
+    @Benchmark
+    public SelectSupport selectCountStatement() {
+        return select().count()
+                .from(columns.person)
+                .where(columns.age, isGreaterThanOrEqualTo(18))
+                .build();
+    }
+
+    @Benchmark
+    public InsertSupport<PersonRecord> insertStatement() {
+        return insert(record)
+                .into(columns.person)
+                .map(columns.id).toProperty("id") //$NON-NLS-1$
+                .map(columns.firstName).toProperty("firstName") //$NON-NLS-1$
+                .map(columns.lastName).toProperty("lastName") //$NON-NLS-1$
+                .map(columns.age).toPropertyWhenPresent("age") //$NON-NLS-1$
+                .map(columns.city).toNull()
+                .build();
+    }
+
+    @Benchmark
+    public UpdateSupport updateStatement() {
+        return update(columns.person)
+                .set(columns.firstName).equalTo("Barney") //$NON-NLS-1$
+                .set(columns.lastName).equalTo("Rubble") //$NON-NLS-1$
+                .set(columns.city).equalToNull()
+                .where(columns.id, isEqualTo(3))
+                .and(columns.age, isLessThan(50))
+                .build();
+    }
+
+    @Benchmark
+    public DeleteSupport deleteStatement() {
+        return deleteFrom(columns.person)
+                .where(columns.id, isEqualTo(3))
+                .or(columns.lastName, isNull())
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.mybatis.dynamic.sql.util.RenderingContext;
+
+/**
+ * A condition that compares a column to a collection of values bound as a single array parameter.
+ * 
+ * <p>Unlike a list condition, the rendered SQL has one placeholder however many values there are,
+ * so the SQL for ten values and ten thousand values is the same.  The parameter value is an
+ * Object[] holding the values.  The SQL is determined by an {@link ArrayDialect}, the default is
+ * {@link ArrayDialect#ANY}.
+ * 
+ * @param <T> the Java type of the column
+ */
+public abstract class AbstractArrayValueCondition<T> extends Condition<T> {
+    private final List<T> values;
+    private final ArrayDialect arrayDialect;
+
+    protected AbstractArrayValueCondition(Collection<T> values) {
+        this.values = new ArrayList<>(values);
+        arrayDialect = ArrayDialect.ANY;
+    }
+
+    /**
+     * Creates a copy of a condition that renders with a different dialect.  Conditions are immutable,
+     * so subclasses use this constructor to return a copy - for example from a <code>withDialect</code> method.
+     * 
+     * @param source the condition to copy
+     * @param arrayDialect the dialect that determines the rendered SQL
+     */
+    protected AbstractArrayValueCondition(AbstractArrayValueCondition<T> source, ArrayDialect arrayDialect) {
+        values = source.values;
+        this.arrayDialect = arrayDialect;
+    }
+
+    protected ArrayDialect arrayDialect() {
+        return arrayDialect;
+    }
+
+    private Object[] valueArray() {
+        Object[] valueArray = new Object[values.size()];
+        for (int i = 0; i < valueArray.length; i++) {
+            valueArray[i] = transformValue(values.get(i));
+        }
+        return valueArray;
+    }
+
+    @Override
+    protected void render(RenderingContext context, SqlColumn<T> column, String columnName) {
+        String mapKey = formatParameterMapKey(context.nextSequence());
+        String placeholder = context.bindArrayParameter(column, PARAMETERS_PREFIX, mapKey, valueArray());
+        context.append(renderCondition(columnName, placeholder));
+    }
+
+    @Override
+    public int parameterCount() {
+        return 1;
+    }
+
+    @Override
+    public Object shapeDetails() {
+        return arrayDialect;
+    }
+
+    @Override
+    public void renderParameters(AtomicInteger sequence, Map<String, Object> parameters) {
+        parameters.put(formatParameterMapKey(sequence.getAndIncrement()), valueArray());
+    }
+
+    protected abstract String renderCondition(String columnName, String placeholder);
+}
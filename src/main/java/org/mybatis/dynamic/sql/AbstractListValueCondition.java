@@ -15,20 +15,55 @@
  */
 package org.mybatis.dynamic.sql;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import org.mybatis.dynamic.sql.util.FragmentAndParameters;
-import org.mybatis.dynamic.sql.util.FragmentCollector;
-import org.mybatis.dynamic.sql.util.FragmentCollector.Triple;
+import org.mybatis.dynamic.sql.util.RenderingContext;
 
 public abstract class AbstractListValueCondition<T> extends Condition<T> {
-    private List<T> values;
+    private final List<T> values;
+    private final PaddingPolicy paddingPolicy;
+    private final int chunkSize;
 
     protected AbstractListValueCondition(Stream<T> values) {
         this.values = values.collect(Collectors.toList());
+        paddingPolicy = PaddingPolicy.none();
+        chunkSize = 0;
+    }
+
+    /**
+     * Creates a copy of a condition that pads its list of values when it is rendered, so that lists
+     * of different lengths can render the same SQL.  Conditions are immutable, so subclasses use this
+     * constructor to return a padded copy - for example from a <code>withPadding</code> method.
+     * 
+     * @param source the condition to copy
+     * @param paddingPolicy the policy that determines the number of placeholders to render
+     */
+    protected AbstractListValueCondition(AbstractListValueCondition<T> source, PaddingPolicy paddingPolicy) {
+        values = source.values;
+        this.paddingPolicy = paddingPolicy;
+        chunkSize = source.chunkSize;
+    }
+
+    /**
+     * Creates a copy of a condition that splits the rendered list into groups of at most chunkSize
+     * placeholders.  For example, an "in" condition renders <code>(column in (...) or column in (...))</code>.
+     * Some databases limit the number of values in a single list - Oracle, for example, allows at most 1000.
+     * 
+     * @param source the condition to copy
+     * @param chunkSize the maximum number of placeholders in a single list
+     */
+    protected AbstractListValueCondition(AbstractListValueCondition<T> source, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be greater than zero"); //$NON-NLS-1$
+        }
+        values = source.values;
+        paddingPolicy = source.paddingPolicy;
+        this.chunkSize = chunkSize;
     }
     
     protected final Stream<T> values() {
@@ -36,34 +71,65 @@ public abstract class AbstractListValueCondition<T> extends Condition<T> {
     }
 
     /**
-     * This method allows subclasses to alter the value before it is placed
-     * into the parameter map.  An example of this is when the case insensitive
-     * conditions will change a value to upper case.
-     * 
-     * We do not expose the values stream because we cannot allow subclasses
-     * to change the order or number of values.
-     *  
-     * @param value
-     * @return the transformed value - in most cases the value is not changed
+     * Returns the value for a placeholder.  Placeholders beyond the end of the list are padding,
+     * and repeat the last value.
      */
-    protected T transformValue(T value) {
-        return value;
+    private T valueAt(int index) {
+        return transformValue(values.get(Math.min(index, values.size() - 1)));
     }
-    
+
     @Override
-    protected FragmentAndParameters render(AtomicInteger sequence, SqlColumn<T> column, String columnName) {
-        FragmentCollector fc = values()
-                .map(v -> toTriple(sequence, column, v))
-                .collect(FragmentCollector.tripleCollector());
+    protected void render(RenderingContext context, SqlColumn<T> column, String columnName) {
+        String[] placeholders = new String[parameterCount()];
+        for (int i = 0; i < placeholders.length; i++) {
+            String mapKey = formatParameterMapKey(context.nextSequence());
+            placeholders[i] = context.bindParameter(column, PARAMETERS_PREFIX, mapKey, valueAt(i));
+        }
         
-        return new FragmentAndParameters.Builder(renderCondition(columnName, fc.fragments()))
-                .withParameters(fc.parameters())
-                .build();
+        if (chunkSize == 0 || placeholders.length <= chunkSize) {
+            context.append(renderCondition(columnName, Arrays.stream(placeholders)));
+            return;
+        }
+
+        context.append('(');
+        for (int start = 0; start < placeholders.length; start += chunkSize) {
+            if (start > 0) {
+                context.append(chunkConnector());
+            }
+            int end = Math.min(start + chunkSize, placeholders.length);
+            context.append(renderCondition(columnName, Arrays.stream(placeholders, start, end)));
+        }
+        context.append(')');
+    }
+
+    /**
+     * Returns the connector placed between chunks of a list that has been split into
+     * chunks.  "in" conditions are joined with "or", negated conditions
+     * should override this method to join with "and".
+     * 
+     * @return the connector, including surrounding spaces
+     */
+    protected String chunkConnector() {
+        return " or "; //$NON-NLS-1$
+    }
+
+    @Override
+    public Object shapeDetails() {
+        return chunkSize;
+    }
+
+    @Override
+    public int parameterCount() {
+        // a padding policy should never shrink the list, but values must not be dropped if one does
+        return values.isEmpty() ? 0 : Math.max(values.size(), paddingPolicy.paddedSize(values.size()));
     }
     
-    private Triple toTriple(AtomicInteger sequence, SqlColumn<?> column, Object value) {
-        String mapKey = formatParameterMapKey(sequence.getAndIncrement());
-        return Triple.of(mapKey, column.getFormattedJdbcPlaceholder(PARAMETERS_PREFIX, mapKey), value);
+    @Override
+    public void renderParameters(AtomicInteger sequence, Map<String, Object> parameters) {
+        int parameterCount = parameterCount();
+        for (int i = 0; i < parameterCount; i++) {
+            parameters.put(formatParameterMapKey(sequence.getAndIncrement()), valueAt(i));
+        }
     }
 
     protected abstract String renderCondition(String columnName, Stream<String> placeholders);
@@ -15,15 +15,26 @@
  */
 package org.mybatis.dynamic.sql;
 
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
-import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+import org.mybatis.dynamic.sql.util.RenderingContext;
 
 public abstract class AbstractNoValueCondition <T> extends Condition<T> {
 
     @Override
-    protected FragmentAndParameters render(AtomicInteger sequence, SqlColumn<T> column, String columnName) {
-        return new FragmentAndParameters.Builder(renderCondition(columnName)).build();
+    protected void render(RenderingContext context, SqlColumn<T> column, String columnName) {
+        context.append(renderCondition(columnName));
+    }
+
+    @Override
+    public int parameterCount() {
+        return 0;
+    }
+    
+    @Override
+    public void renderParameters(AtomicInteger sequence, Map<String, Object> parameters) {
+        // nothing to render
     }
     
     protected abstract String renderCondition(String columnName);
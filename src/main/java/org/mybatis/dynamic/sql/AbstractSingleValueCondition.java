@@ -15,30 +15,43 @@
  */
 package org.mybatis.dynamic.sql;
 
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
-import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+import org.mybatis.dynamic.sql.util.RenderingContext;
 
 public abstract class AbstractSingleValueCondition<T> extends Condition<T> {
     private T value;
+    private BindParameter<T> bindParameter;
     
     protected AbstractSingleValueCondition(T value) {
         this.value = value;
     }
     
+    protected AbstractSingleValueCondition(BindParameter<T> bindParameter) {
+        this.bindParameter = bindParameter;
+    }
+    
     protected T value() {
         return value;
     }
     
     @Override
-    protected FragmentAndParameters render(AtomicInteger sequence, SqlColumn<T> column, String columnName) {
-        String mapKey = formatParameterMapKey(sequence.getAndIncrement());
-        String fragment = renderCondition(columnName,
-                column.getFormattedJdbcPlaceholder(PARAMETERS_PREFIX, mapKey));
+    protected void render(RenderingContext context, SqlColumn<T> column, String columnName) {
+        String mapKey = formatParameterMapKey(context.nextSequence());
+        String placeholder = context.bindParameter(column, PARAMETERS_PREFIX, mapKey,
+                parameterValue(value(), bindParameter));
+        context.append(renderCondition(columnName, placeholder));
+    }
 
-        return new FragmentAndParameters.Builder(fragment)
-                .withParameter(mapKey, value())
-                .build();
+    @Override
+    public int parameterCount() {
+        return 1;
+    }
+    
+    @Override
+    public void renderParameters(AtomicInteger sequence, Map<String, Object> parameters) {
+        parameters.put(formatParameterMapKey(sequence.getAndIncrement()), parameterValue(value(), bindParameter));
     }
     
     protected abstract String renderCondition(String columnName, String placeholder);
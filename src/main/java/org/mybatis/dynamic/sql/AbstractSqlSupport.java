@@ -15,6 +15,8 @@
  */
 package org.mybatis.dynamic.sql;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 public abstract class AbstractSqlSupport {
@@ -22,10 +24,78 @@ public abstract class AbstractSqlSupport {
     public static final String ONE_SPACE = " "; //$NON-NLS-1$
     private static final String UNKNOWN_TABLE = "<<unknown>>"; //$NON-NLS-1$
 
-    private SqlTable table;
+    private final SqlTable table;
+    private final List<Binding> bindings;
+    private String fullStatement;
 
     public AbstractSqlSupport(SqlTable table) {
+        this(table, Collections.emptyList());
+    }
+
+    protected AbstractSqlSupport(SqlTable table, List<Binding> bindings) {
+        this(table, bindings, null);
+    }
+
+    /**
+     * Creates a support object whose full statement is already known, so it is not rendered again.
+     * 
+     * @param table the table
+     * @param bindings the bindings
+     * @param fullStatement the rendered statement, or null to render it when it is first requested
+     */
+    protected AbstractSqlSupport(SqlTable table, List<Binding> bindings, String fullStatement) {
         this.table = table;
+        this.bindings = bindings;
+        this.fullStatement = fullStatement;
+    }
+
+    /**
+     * Creates a copy of another support object - for example with different parameter values.  The
+     * copy has the same table, bindings and full statement, and the statement is rendered at most once
+     * for both.
+     * 
+     * @param source the support object to copy
+     */
+    protected AbstractSqlSupport(AbstractSqlSupport source) {
+        this(source.table, source.bindings, source.fullStatement());
+    }
+
+    /**
+     * Returns the parameter values in placeholder order for statements rendered with
+     * {@link RenderingStrategy#POSITIONAL}.  For statements rendered with named placeholders the
+     * list is empty and the values are in the parameter map instead.
+     * 
+     * @return the bindings
+     */
+    public List<Binding> getBindings() {
+        return bindings;
+    }
+
+    /**
+     * Returns the full statement, rendering it the first time it is requested.  Support objects
+     * are immutable, so the statement is rendered at most once however often a framework asks for it.
+     * There is no synchronization - if two threads race, both render an equal string and either
+     * may be kept, as with {@link String#hashCode()}.
+     * 
+     * @return the full statement
+     */
+    protected String fullStatement() {
+        String statement = fullStatement;
+        if (statement == null) {
+            statement = renderFullStatement();
+            fullStatement = statement;
+        }
+        return statement;
+    }
+
+    protected abstract String renderFullStatement();
+
+    /**
+     * Returns the length of an optional clause, including the space that separates it from
+     * the previous clause.
+     */
+    protected static int length(String clause) {
+        return clause == null ? 0 : clause.length() + 1;
     }
 
     private Optional<SqlTable> table() {
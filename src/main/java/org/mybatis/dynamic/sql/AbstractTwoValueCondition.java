@@ -15,19 +15,27 @@
  */
 package org.mybatis.dynamic.sql;
 
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
-import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+import org.mybatis.dynamic.sql.util.RenderingContext;
 
 public abstract class AbstractTwoValueCondition<T> extends Condition<T> {
     private T value1;
     private T value2;
+    private BindParameter<T> bindParameter1;
+    private BindParameter<T> bindParameter2;
     
     protected AbstractTwoValueCondition(T value1, T value2) {
         this.value1 = value1;
         this.value2 = value2;
     }
 
+    protected AbstractTwoValueCondition(BindParameter<T> bindParameter1, BindParameter<T> bindParameter2) {
+        this.bindParameter1 = bindParameter1;
+        this.bindParameter2 = bindParameter2;
+    }
+
     protected T value1() {
         return value1;
     }
@@ -37,17 +45,25 @@ public abstract class AbstractTwoValueCondition<T> extends Condition<T> {
     }
 
     @Override
-    protected FragmentAndParameters render(AtomicInteger sequence, SqlColumn<T> column, String columnName) {
-        String mapKey1 = formatParameterMapKey(sequence.getAndIncrement());
-        String mapKey2 = formatParameterMapKey(sequence.getAndIncrement());
-        String fragment = renderCondition(columnName,
-                column.getFormattedJdbcPlaceholder(PARAMETERS_PREFIX, mapKey1),
-                column.getFormattedJdbcPlaceholder(PARAMETERS_PREFIX, mapKey2));
-                
-        return new FragmentAndParameters.Builder(fragment)
-                .withParameter(mapKey1, value1())
-                .withParameter(mapKey2, value2())
-                .build();
+    protected void render(RenderingContext context, SqlColumn<T> column, String columnName) {
+        String mapKey1 = formatParameterMapKey(context.nextSequence());
+        String mapKey2 = formatParameterMapKey(context.nextSequence());
+        String placeholder1 = context.bindParameter(column, PARAMETERS_PREFIX, mapKey1,
+                parameterValue(value1(), bindParameter1));
+        String placeholder2 = context.bindParameter(column, PARAMETERS_PREFIX, mapKey2,
+                parameterValue(value2(), bindParameter2));
+        context.append(renderCondition(columnName, placeholder1, placeholder2));
+    }
+
+    @Override
+    public int parameterCount() {
+        return 2;
+    }
+    
+    @Override
+    public void renderParameters(AtomicInteger sequence, Map<String, Object> parameters) {
+        parameters.put(formatParameterMapKey(sequence.getAndIncrement()), parameterValue(value1(), bindParameter1));
+        parameters.put(formatParameterMapKey(sequence.getAndIncrement()), parameterValue(value2(), bindParameter2));
     }
 
     protected abstract String renderCondition(String columnName, String placeholder1, String placeholder2);
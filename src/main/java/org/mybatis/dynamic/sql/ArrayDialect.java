@@ -0,0 +1,49 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql;
+
+/**
+ * The SQL used to compare a column to a single array parameter.  Databases support
+ * different syntax for this comparison.
+ */
+public enum ArrayDialect {
+    /** <code>column = any(?)</code> and <code>column &lt;&gt; all(?)</code> - for example PostgreSQL and H2 */
+    ANY("= any(", "<> all(", ")"), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    /** <code>column in (unnest(?))</code> and <code>column not in (unnest(?))</code> - for example HSQLDB */
+    UNNEST("in (unnest(", "not in (unnest(", "))"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+    private String inPrefix;
+    private String notInPrefix;
+    private String suffix;
+
+    private ArrayDialect(String inPrefix, String notInPrefix, String suffix) {
+        this.inPrefix = inPrefix;
+        this.notInPrefix = notInPrefix;
+        this.suffix = suffix;
+    }
+
+    public String renderIn(String columnName, String placeholder) {
+        return render(columnName, inPrefix, placeholder);
+    }
+
+    public String renderNotIn(String columnName, String placeholder) {
+        return render(columnName, notInPrefix, placeholder);
+    }
+
+    private String render(String columnName, String prefix, String placeholder) {
+        return columnName + " " + prefix + placeholder + suffix; //$NON-NLS-1$
+    }
+}
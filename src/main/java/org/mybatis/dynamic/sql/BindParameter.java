@@ -0,0 +1,62 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * A named placeholder for a value that will be supplied after a statement is compiled.
+ * A bind parameter is placed in the parameter map of a compiled statement in place of a value,
+ * and is replaced with the real value each time the compiled statement is bound.
+ *
+ * @param <T> the Java type of the value that will be bound
+ */
+public class BindParameter<T> {
+
+    private String name;
+    private UnaryOperator<T> transformer = UnaryOperator.identity();
+
+    private BindParameter(String name) {
+        this.name = name;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns a copy of this parameter that will apply the transformer to values as they are bound.
+     * Conditions use this to apply the same value transformations (for example, converting to upper case)
+     * that they would apply to a literal value.
+     *
+     * @param transformer the transformation to apply
+     * @return a new bind parameter with the same name
+     */
+    public BindParameter<T> withTransformer(UnaryOperator<T> transformer) {
+        BindParameter<T> bindParameter = new BindParameter<>(name);
+        bindParameter.transformer = transformer;
+        return bindParameter;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Object bind(Object value) {
+        return value == null ? null : transformer.apply((T) value);
+    }
+
+    public static <T> BindParameter<T> of(String name) {
+        return new BindParameter<>(name);
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql;
+
+import java.sql.JDBCType;
+
+/**
+ * A parameter value for a positional ("?") placeholder, and the JDBC type of the column
+ * it is bound to.
+ */
+public class Binding {
+    private Object value;
+    private JDBCType jdbcType;
+
+    private Binding(Object value, JDBCType jdbcType) {
+        this.value = value;
+        this.jdbcType = jdbcType;
+    }
+
+    public Object value() {
+        return value;
+    }
+
+    public JDBCType jdbcType() {
+        return jdbcType;
+    }
+
+    @Override
+    public String toString() {
+        return value + " (" + jdbcType + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    public static Binding of(Object value, JDBCType jdbcType) {
+        return new Binding(value, jdbcType);
+    }
+}
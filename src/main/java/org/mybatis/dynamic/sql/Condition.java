@@ -15,9 +15,12 @@
  */
 package org.mybatis.dynamic.sql;
 
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+import org.mybatis.dynamic.sql.util.OrdinalParameterMap;
+import org.mybatis.dynamic.sql.util.RenderingContext;
 
 public abstract class Condition<T> {
     protected static final String PARAMETERS_PREFIX = "parameters"; //$NON-NLS-1$
@@ -30,9 +33,92 @@ public abstract class Condition<T> {
         return render(sequence, column, column.nameIncludingTableAlias());
     }
     
-    protected abstract FragmentAndParameters render(AtomicInteger sequence, SqlColumn<T> column, String columnName);
+    public void renderIgnoringTableAlias(RenderingContext context, SqlColumn<T> column) {
+        render(context, column, column.name());
+    }
+    
+    public void renderIncludingTableAlias(RenderingContext context, SqlColumn<T> column) {
+        render(context, column, column.nameIncludingTableAlias());
+    }
+    
+    protected FragmentAndParameters render(AtomicInteger sequence, SqlColumn<T> column, String columnName) {
+        RenderingContext context = RenderingContext.of(sequence);
+        render(context, column, columnName);
+        return new FragmentAndParameters.Builder(context.sql())
+                .withParameters(context.parameters())
+                .build();
+    }
+    
+    /**
+     * Appends the rendered condition to the context's buffer, and places the parameters
+     * directly into the context's parameter map.
+     * 
+     * @param context the context shared by the entire where clause
+     * @param column the column the condition applies to
+     * @param columnName the column name as it should appear in the SQL
+     */
+    protected abstract void render(RenderingContext context, SqlColumn<T> column, String columnName);
+
+    /**
+     * Returns the number of parameters this condition will place in the parameter map.
+     * The rendered SQL for a condition is determined by the condition's class, the column,
+     * and this number - never by the values themselves.  This allows a rendered where clause
+     * to be reused for other conditions of the same shape.
+     * 
+     * @return the number of parameters rendered by this condition
+     */
+    public abstract int parameterCount();
+
+    /**
+     * Returns any setting of this condition, other than the class and the number of parameters,
+     * that changes the rendered SQL.  Conditions of the same class with the same parameter count
+     * and equal shape details always render the same SQL.
+     * 
+     * @return the shape details, or null if there are none
+     */
+    public Object shapeDetails() {
+        return null;
+    }
+    
+    /**
+     * Places this condition's parameters into the parameter map with the same keys
+     * that would be used by the render methods, but without rendering any SQL.
+     * 
+     * @param sequence the parameter sequence shared by the entire where clause
+     * @param parameters the map that will receive the parameters
+     */
+    public abstract void renderParameters(AtomicInteger sequence, Map<String, Object> parameters);
+
+    /**
+     * This method allows subclasses to alter the value before it is placed
+     * into the parameter map.  An example of this is when the case insensitive
+     * conditions will change a value to upper case.
+     * 
+     * @param value
+     * @return the transformed value - in most cases the value is not changed
+     */
+    protected T transformValue(T value) {
+        return value;
+    }
+
+    /**
+     * Calculates the object to place in the parameter map.  If the condition holds a bind parameter
+     * rather than a value, the bind parameter is placed in the map and the transformation is
+     * applied when a value is bound.
+     * 
+     * @param value the literal value
+     * @param bindParameter the bind parameter - null if the condition holds a literal value
+     * @return the object to place in the parameter map
+     */
+    protected Object parameterValue(T value, BindParameter<T> bindParameter) {
+        if (bindParameter == null) {
+            return transformValue(value);
+        } else {
+            return bindParameter.withTransformer(this::transformValue);
+        }
+    }
 
     protected String formatParameterMapKey(int number) {
-        return "p" + number; //$NON-NLS-1$
+        return OrdinalParameterMap.parameterKey(number);
     }
 }
@@ -81,6 +81,16 @@ public class MyBatis3Column<T> extends SqlColumn<T> {
         buffer.append('}');
         return buffer.toString();
     }
+    
+    /**
+     * The JDBC type and type handler of this column apply to single values, so they are not used for
+     * arrays.  The value of an array parameter is never null, so MyBatis does not need a JDBC type, and
+     * will pass the array to the driver unchanged.
+     */
+    @Override
+    public String getFormattedJdbcArrayPlaceholder(String prefix, String parameterName) {
+        return "#{" + prefix + "." + parameterName + "}"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
 
     public static <T> MyBatis3Column<T> of(String name, JDBCType jdbcType) {
         return new MyBatis3Column<>(name, jdbcType);
@@ -0,0 +1,90 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql;
+
+import java.util.Arrays;
+
+/**
+ * Determines how many placeholders are rendered for a list condition such as "in".
+ *
+ * <p>Every different list length renders a different SQL string, so a statement that is
+ * executed with lists of many different lengths fills database plan caches, statement caches and
+ * the {@link org.mybatis.dynamic.sql.where.ShapeCache} with statements that differ only in the
+ * number of placeholders.  A padding policy rounds the list length up to one of a small number of
+ * sizes.  The extra placeholders are bound to the last value in the list, which does not change
+ * the result of "in" or "not in" conditions.
+ */
+@FunctionalInterface
+public interface PaddingPolicy {
+
+    /**
+     * Returns the number of placeholders to render for a list with the given number of values.
+     *
+     * @param size the number of values in the list
+     * @return the number of placeholders - never less than size
+     */
+    int paddedSize(int size);
+
+    /**
+     * A policy that does not pad lists.
+     *
+     * @return the policy
+     */
+    static PaddingPolicy none() {
+        return size -> size;
+    }
+
+    /**
+     * A policy that rounds list sizes up to the next power of two.
+     *
+     * @return the policy
+     */
+    static PaddingPolicy powersOfTwo() {
+        return size -> size <= 1 ? size : Integer.highestOneBit(size - 1) << 1;
+    }
+
+    /**
+     * A policy that rounds list sizes up to the next size in a ladder - for example 10, 50, 100, 500.
+     * Sizes larger than the last step of the ladder are rounded up to a multiple of the last step.
+     *
+     * @param steps the sizes of the ladder
+     * @return the policy
+     */
+    static PaddingPolicy ladder(int...steps) {
+        if (steps.length == 0) {
+            throw new IllegalArgumentException("A ladder must have at least one step"); //$NON-NLS-1$
+        }
+
+        int[] sortedSteps = Arrays.stream(steps).sorted().distinct().toArray();
+        if (sortedSteps[0] < 1) {
+            throw new IllegalArgumentException("Ladder steps must be greater than zero"); //$NON-NLS-1$
+        }
+
+        int lastStep = sortedSteps[sortedSteps.length - 1];
+        return size -> {
+            if (size == 0) {
+                return 0;
+            }
+
+            if (size > lastStep) {
+                return (size + lastStep - 1) / lastStep * lastStep;
+            }
+
+            int index = Arrays.binarySearch(sortedSteps, size);
+            return index >= 0 ? size : sortedSteps[-index - 1];
+        };
+    }
+}
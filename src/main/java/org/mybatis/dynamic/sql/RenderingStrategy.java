@@ -0,0 +1,35 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql;
+
+/**
+ * Determines how parameters are rendered into a statement.
+ */
+public enum RenderingStrategy {
+    /**
+     * Placeholders are rendered by the column (for example "#{parameters.p1,jdbcType=INTEGER}" for
+     * a MyBatis3Column) and parameter values are placed in the statement's parameter map. This is
+     * the default.
+     */
+    NAMED,
+
+    /**
+     * Placeholders are rendered as "?" and parameter values are placed in the statement's list of
+     * bindings in the same order as the placeholders, so they can be set on a
+     * {@link java.sql.PreparedStatement} by index.  The parameter map is empty.
+     */
+    POSITIONAL
+}
@@ -58,6 +58,15 @@ public class SpringNamedParameterColumn<T> extends SqlColumn<T> {
         return ":" + parameterName; //$NON-NLS-1$
     }
 
+    /**
+     * Several records are in the statement, so the parameter name must be qualified by the record.
+     * A BeanPropertySqlParameterSource over the statement resolves names like "records[2].firstName".
+     */
+    @Override
+    public String getFormattedRecordPlaceholder(String prefix, String property) {
+        return ":" + prefix + "." + property; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
     public static <T> SpringNamedParameterColumn<T> of(String name, JDBCType jdbcType) {
         return new SpringNamedParameterColumn<>(name, jdbcType);
     }
@@ -15,8 +15,13 @@
  */
 package org.mybatis.dynamic.sql;
 
+import java.util.List;
+
 import org.mybatis.dynamic.sql.delete.DeleteSupportBuilder;
+import org.mybatis.dynamic.sql.insert.InsertBatchSupportBuilder;
 import org.mybatis.dynamic.sql.insert.InsertSupportBuilder;
+import org.mybatis.dynamic.sql.insert.InsertTemplateBuilder;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertSupportBuilder;
 import org.mybatis.dynamic.sql.select.SelectCountOrDistinctBuilder;
 import org.mybatis.dynamic.sql.select.SelectSupportBuilder;
 import org.mybatis.dynamic.sql.update.UpdateSupportBuilder;
@@ -31,6 +36,18 @@ public interface SqlBuilder {
         return InsertSupportBuilder.of(record);
     }
     
+    public static <T> MultiRowInsertSupportBuilder<T> insertMultiple(List<T> records) {
+        return MultiRowInsertSupportBuilder.of(records);
+    }
+    
+    public static <T> InsertBatchSupportBuilder<T> insertBatch(List<T> records) {
+        return InsertBatchSupportBuilder.of(records);
+    }
+    
+    public static <T> InsertTemplateBuilder<T> insertTemplate(Class<T> recordType) {
+        return InsertTemplateBuilder.of(recordType);
+    }
+    
     public static SelectSupportBuilder select(SqlColumn<?>...columns) {
         return SelectSupportBuilder.of(columns);
     }
@@ -42,4 +59,15 @@ public interface SqlBuilder {
     public static UpdateSupportBuilder update(SqlTable table) {
         return UpdateSupportBuilder.of(table);
     }
+
+    /**
+     * Creates a named placeholder for a value that will be supplied when a compiled
+     * statement is bound.
+     * 
+     * @param name the name used to bind a value
+     * @return the bind parameter
+     */
+    public static <T> BindParameter<T> bindParam(String name) {
+        return BindParameter.of(name);
+    }
 }
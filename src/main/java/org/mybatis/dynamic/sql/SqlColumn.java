@@ -93,6 +93,30 @@ public class SqlColumn<T> extends AbstractColumn<T> {
         return "{" + prefix + "." + parameterName + "}"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
     }
     
+    /**
+     * Formats the placeholder for a parameter that holds an array of values for this column, for example
+     * in an "in array" condition.
+     * 
+     * @param prefix the parameter prefix
+     * @param parameterName the parameter name
+     * @return the placeholder
+     */
+    public String getFormattedJdbcArrayPlaceholder(String prefix, String parameterName) {
+        return getFormattedJdbcPlaceholder(prefix, parameterName);
+    }
+    
+    /**
+     * Formats the placeholder for a property of one record in a statement that holds several records,
+     * for example a multi-row insert.  The prefix identifies the record, for example "records[2]".
+     * 
+     * @param prefix the prefix that identifies the record
+     * @param property the property of the record
+     * @return the placeholder
+     */
+    public String getFormattedRecordPlaceholder(String prefix, String property) {
+        return getFormattedJdbcPlaceholder(prefix, property);
+    }
+    
     public String orderByPhrase() {
         return columnAlias().orElseGet(this::name) + " " + sortOrder; //$NON-NLS-1$
     }
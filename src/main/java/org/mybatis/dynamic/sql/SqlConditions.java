@@ -15,6 +15,7 @@
  */
 package org.mybatis.dynamic.sql;
 
+import java.util.Collection;
 import java.util.stream.Stream;
 
 import org.mybatis.dynamic.sql.where.condition.IsBetween;
@@ -22,7 +23,9 @@ import org.mybatis.dynamic.sql.where.condition.IsEqualTo;
 import org.mybatis.dynamic.sql.where.condition.IsGreaterThan;
 import org.mybatis.dynamic.sql.where.condition.IsGreaterThanOrEqualTo;
 import org.mybatis.dynamic.sql.where.condition.IsIn;
+import org.mybatis.dynamic.sql.where.condition.IsInArray;
 import org.mybatis.dynamic.sql.where.condition.IsInCaseInsensitive;
+import org.mybatis.dynamic.sql.where.condition.IsInTable;
 import org.mybatis.dynamic.sql.where.condition.IsLessThan;
 import org.mybatis.dynamic.sql.where.condition.IsLessThanOrEqualTo;
 import org.mybatis.dynamic.sql.where.condition.IsLike;
@@ -30,6 +33,7 @@ import org.mybatis.dynamic.sql.where.condition.IsLikeCaseInsensitive;
 import org.mybatis.dynamic.sql.where.condition.IsNotBetween;
 import org.mybatis.dynamic.sql.where.condition.IsNotEqualTo;
 import org.mybatis.dynamic.sql.where.condition.IsNotIn;
+import org.mybatis.dynamic.sql.where.condition.IsNotInArray;
 import org.mybatis.dynamic.sql.where.condition.IsNotInCaseInsensitive;
 import org.mybatis.dynamic.sql.where.condition.IsNotLike;
 import org.mybatis.dynamic.sql.where.condition.IsNotLikeCaseInsensitive;
@@ -59,25 +63,49 @@ public interface SqlConditions {
         return IsEqualTo.of(value);
     }
 
+    static <T> IsEqualTo<T> isEqualTo(BindParameter<T> bindParameter) {
+        return IsEqualTo.of(bindParameter);
+    }
+
     static <T> IsNotEqualTo<T> isNotEqualTo(T value) {
         return IsNotEqualTo.of(value);
     }
 
+    static <T> IsNotEqualTo<T> isNotEqualTo(BindParameter<T> bindParameter) {
+        return IsNotEqualTo.of(bindParameter);
+    }
+
     static <T> IsGreaterThan<T> isGreaterThan(T value) {
         return IsGreaterThan.of(value);
     }
+
+    static <T> IsGreaterThan<T> isGreaterThan(BindParameter<T> bindParameter) {
+        return IsGreaterThan.of(bindParameter);
+    }
     
     static <T> IsGreaterThanOrEqualTo<T> isGreaterThanOrEqualTo(T value) {
         return IsGreaterThanOrEqualTo.of(value);
     }
+
+    static <T> IsGreaterThanOrEqualTo<T> isGreaterThanOrEqualTo(BindParameter<T> bindParameter) {
+        return IsGreaterThanOrEqualTo.of(bindParameter);
+    }
     
     static <T> IsLessThan<T> isLessThan(T value) {
         return IsLessThan.of(value);
     }
+
+    static <T> IsLessThan<T> isLessThan(BindParameter<T> bindParameter) {
+        return IsLessThan.of(bindParameter);
+    }
     
     static <T> IsLessThanOrEqualTo<T> isLessThanOrEqualTo(T value) {
         return IsLessThanOrEqualTo.of(value);
     }
+
+    static <T> IsLessThanOrEqualTo<T> isLessThanOrEqualTo(BindParameter<T> bindParameter) {
+        return IsLessThanOrEqualTo.of(bindParameter);
+    }
     
     @SafeVarargs
     static <T> IsIn<T> isIn(T...values) {
@@ -97,31 +125,67 @@ public interface SqlConditions {
         return IsNotIn.of(values);
     }
     
+    static <T> IsInArray<T> isInArray(Collection<T> values) {
+        return IsInArray.of(values);
+    }
+
+    static <T> IsNotInArray<T> isNotInArray(Collection<T> values) {
+        return IsNotInArray.of(values);
+    }
+    
+    static <T> IsInTable<T> isInTable(String tableName, String columnName) {
+        return IsInTable.of(tableName, columnName);
+    }
+    
     static <T> IsBetween.Builder<T> isBetween(T value1) {
         return IsBetween.isBetween(value1);
     }
+
+    static IsBetween.BindParameterBuilder isBetween(BindParameter<?> bindParameter1) {
+        return IsBetween.isBetween(bindParameter1);
+    }
     
     static <T> IsNotBetween.Builder<T> isNotBetween(T value1) {
         return IsNotBetween.isNotBetween(value1);
     }
+
+    static IsNotBetween.BindParameterBuilder isNotBetween(BindParameter<?> bindParameter1) {
+        return IsNotBetween.isNotBetween(bindParameter1);
+    }
     
     // for strings only
     static IsLike isLike(String value) {
         return IsLike.of(value);
     }
+
+    static IsLike isLike(BindParameter<String> bindParameter) {
+        return IsLike.of(bindParameter);
+    }
     
     static IsLikeCaseInsensitive isLikeCaseInsensitive(String value) {
         return IsLikeCaseInsensitive.of(value);
     }
+
+    static IsLikeCaseInsensitive isLikeCaseInsensitive(BindParameter<String> bindParameter) {
+        return IsLikeCaseInsensitive.of(bindParameter);
+    }
     
     static IsNotLike isNotLike(String value) {
         return IsNotLike.of(value);
     }
+
+    static IsNotLike isNotLike(BindParameter<String> bindParameter) {
+        return IsNotLike.of(bindParameter);
+    }
     
     static IsNotLikeCaseInsensitive isNotLikeCaseInsensitive(String value) {
         return IsNotLikeCaseInsensitive.of(value);
     }
 
+    static IsNotLikeCaseInsensitive isNotLikeCaseInsensitive(BindParameter<String> bindParameter) {
+        return IsNotLikeCaseInsensitive.of(bindParameter);
+    }
+
     static IsInCaseInsensitive isInCaseInsensitive(String...values) {
         return IsInCaseInsensitive.of(Stream.of(values));
     }
@@ -15,26 +15,37 @@
  */
 package org.mybatis.dynamic.sql.delete;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import org.mybatis.dynamic.sql.AbstractSqlSupport;
+import org.mybatis.dynamic.sql.Binding;
 import org.mybatis.dynamic.sql.SqlTable;
 
 public class DeleteSupport extends AbstractSqlSupport {
 
-    private String whereClause;
-    private Map<String, Object> parameters = new HashMap<>();
+    private final String whereClause;
+    private final Map<String, Object> parameters;
     
     private DeleteSupport(SqlTable table) {
         super(table);
+        whereClause = null;
+        parameters = Collections.emptyMap();
     }
     
-    private DeleteSupport(String whereClause, Map<String, Object> parameters, SqlTable table) {
-        super(table);
+    private DeleteSupport(String whereClause, Map<String, Object> parameters, List<Binding> bindings, SqlTable table) {
+        super(table, bindings);
         this.whereClause = whereClause;
-        this.parameters.putAll(parameters);
+        this.parameters = parameters;
+    }
+
+    private DeleteSupport(DeleteSupport source, Map<String, Object> parameters) {
+        super(source);
+        whereClause = source.whereClause;
+        this.parameters = parameters;
     }
 
     public String getWhereClause() {
@@ -50,9 +61,22 @@ public class DeleteSupport extends AbstractSqlSupport {
     }
     
     public String getFullDeleteStatement() {
-        return "delete from " //$NON-NLS-1$
-                + tableName()
-                + whereClause().map(w -> ONE_SPACE + w).orElse(EMPTY_STRING);
+        return fullStatement();
+    }
+
+    @Override
+    protected String renderFullStatement() {
+        String tableName = tableName();
+        StringBuilder buffer = new StringBuilder(13 + tableName.length() + length(whereClause));
+        buffer.append("delete from ").append(tableName); //$NON-NLS-1$
+        if (whereClause != null) {
+            buffer.append(ONE_SPACE).append(whereClause);
+        }
+        return buffer.toString();
+    }
+
+    DeleteSupport withParameters(Map<String, Object> parameters) {
+        return new DeleteSupport(this, parameters);
     }
 
     public static DeleteSupport of(SqlTable table) {
@@ -60,6 +84,21 @@ public class DeleteSupport extends AbstractSqlSupport {
     }
     
     public static DeleteSupport of(String whereClause, Map<String, Object> parameters, SqlTable table) {
-        return new DeleteSupport(whereClause, parameters, table);
+        return of(whereClause, parameters, Collections.emptyList(), table);
+    }
+    
+    public static DeleteSupport of(String whereClause, Map<String, Object> parameters, List<Binding> bindings,
+            SqlTable table) {
+        return new DeleteSupport(whereClause, new HashMap<>(parameters), bindings, table);
+    }
+
+    /**
+     * Uses the map as the statement parameters without copying it. The where clause
+     * renders its parameters into a map that belongs to the statement, so the copy
+     * made by {@link #of(String, Map, List, SqlTable)} is not needed on that path.
+     */
+    static DeleteSupport adopt(String whereClause, Map<String, Object> parameters, List<Binding> bindings,
+            SqlTable table) {
+        return new DeleteSupport(whereClause, parameters, bindings, table);
     }
 }
\ No newline at end of file
@@ -16,6 +16,7 @@
 package org.mybatis.dynamic.sql.delete;
 
 import org.mybatis.dynamic.sql.Condition;
+import org.mybatis.dynamic.sql.RenderingStrategy;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlCriterion;
 import org.mybatis.dynamic.sql.SqlTable;
@@ -44,6 +45,21 @@ public class DeleteSupportBuilder {
         return DeleteSupport.of(table);
     }
     
+    /**
+     * WARNING! Calling this method will result in an delete statement that deletes
+     * all rows in a table.
+     * 
+     * @param renderingStrategy how parameters are rendered - there are no parameters without a where clause
+     * @return
+     */
+    public DeleteSupport build(RenderingStrategy renderingStrategy) {
+        return build();
+    }
+    
+    public CompiledDelete compile() {
+        return CompiledDelete.of(build());
+    }
+    
     public static DeleteSupportBuilder of(SqlTable table) {
         return new DeleteSupportBuilder(table);
     }
@@ -55,8 +71,17 @@ public class DeleteSupportBuilder {
         }
         
         public DeleteSupport build() {
-            WhereSupport whereSupport = renderCriteriaIgnoringTableAlias();
-            return DeleteSupport.of(whereSupport.getWhereClause(), whereSupport.getParameters(), table);
+            return build(RenderingStrategy.NAMED);
+        }
+        
+        public DeleteSupport build(RenderingStrategy renderingStrategy) {
+            WhereSupport whereSupport = renderCriteriaIgnoringTableAlias(renderingStrategy);
+            return DeleteSupport.adopt(whereSupport.getWhereClause(), whereSupport.getParameters(),
+                    whereSupport.getBindings(), table);
+        }
+        
+        public CompiledDelete compile() {
+            return CompiledDelete.of(build());
         }
         
         @Override
@@ -0,0 +1,81 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+/**
+ * The column mappings shared by the insert builders.  Builders that support more kinds of
+ * mapping override {@link #map(SqlColumn)} to return a subclass of {@link InsertMappingFinisher}.
+ * 
+ * @param <B> the type of the builder
+ */
+public abstract class AbstractInsertMappingBuilder<B extends AbstractInsertMappingBuilder<B>> {
+
+    private List<InsertColumnMapping> columnMappings = new ArrayList<>();
+    private SqlTable table;
+
+    protected AbstractInsertMappingBuilder(SqlTable table) {
+        this.table = table;
+    }
+
+    public <F> InsertMappingFinisher<F> map(SqlColumn<F> column) {
+        return new InsertMappingFinisher<>(column);
+    }
+
+    protected B addMapping(InsertColumnMapping mapping) {
+        columnMappings.add(mapping);
+        return getThis();
+    }
+
+    protected List<InsertColumnMapping> columnMappings() {
+        return columnMappings;
+    }
+
+    protected SqlTable table() {
+        return table;
+    }
+
+    protected abstract B getThis();
+
+    public class InsertMappingFinisher<F> {
+        private SqlColumn<F> column;
+
+        public InsertMappingFinisher(SqlColumn<F> column) {
+            this.column = column;
+        }
+
+        protected SqlColumn<F> column() {
+            return column;
+        }
+
+        public B toProperty(String property) {
+            return addMapping(InsertColumnMapping.ofPropertyMap(column, property));
+        }
+
+        public B toNull() {
+            return addMapping(InsertColumnMapping.ofConstantMap(column, "null")); //$NON-NLS-1$
+        }
+
+        public B toConstant(String constant) {
+            return addMapping(InsertColumnMapping.ofConstantMap(column, constant));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.mybatis.dynamic.sql.AbstractSqlSupport;
+import org.mybatis.dynamic.sql.Binding;
+import org.mybatis.dynamic.sql.RenderingStrategy;
+
+/**
+ * An insert statement that is rendered once and executed for each record in a list - for example
+ * with a MyBatis session opened with <code>ExecutorType.BATCH</code>, with Spring's
+ * <code>batchUpdate</code>, or with a JDBC batch.
+ * 
+ * <p>The statement is rendered by an {@link InsertTemplate}, so it is the same statement an
+ * {@link InsertSupport} would render for a single record, and named placeholders for MyBatis refer to
+ * "record" (<code>#{record.firstName}</code>).  Use {@link #forRecord(Object)} to get the parameter for
+ * each record - it shares the rendered statement of the batch.  Spring placeholders are the property
+ * names (<code>:firstName</code>), so the records themselves can be the parameter sources.  With the
+ * positional strategy, the values of each record are read into the bindings of the insert returned by
+ * {@link #forRecord(Object)}.
+ * 
+ * <p>Records are executed in batches of at most {@link #getFlushSize()} records.
+ * 
+ * @param <T> the type of record
+ */
+public class InsertBatchSupport<T> extends AbstractSqlSupport {
+
+    private InsertTemplate<T> template;
+    private List<T> records;
+    private int flushSize;
+
+    private InsertBatchSupport(InsertTemplate<T> template, List<T> records, int flushSize) {
+        super(template.table());
+        this.template = template;
+        this.records = Collections.unmodifiableList(records);
+        this.flushSize = flushSize;
+    }
+
+    public String getColumnsPhrase() {
+        return template.getColumnsPhrase();
+    }
+
+    public String getValuesPhrase() {
+        return template.getValuesPhrase();
+    }
+
+    public List<T> getRecords() {
+        return records;
+    }
+
+    public int getFlushSize() {
+        return flushSize;
+    }
+
+    public RenderingStrategy getRenderingStrategy() {
+        return template.getRenderingStrategy();
+    }
+
+    /**
+     * Returns the records divided into batches of at most {@link #getFlushSize()} records.
+     * 
+     * @return the batches
+     */
+    public List<List<T>> getBatches() {
+        List<List<T>> batches = new ArrayList<>();
+        for (int start = 0; start < records.size(); start += flushSize) {
+            batches.add(records.subList(start, Math.min(start + flushSize, records.size())));
+        }
+        return batches;
+    }
+
+    public String getFullInsertStatement() {
+        return fullStatement();
+    }
+
+    /**
+     * Returns the parameter for one record of the batch.  The returned object has the same statement
+     * as this batch, so MyBatis will reuse one prepared statement for every record.
+     * 
+     * @param record the record
+     * @return an insert for the record
+     */
+    public InsertSupport<T> forRecord(T record) {
+        return template.forRecord(record);
+    }
+
+    /**
+     * Returns the values of one record for a statement rendered with the positional strategy, in the
+     * same order as the placeholders.
+     * 
+     * @param record the record
+     * @return the bindings for the record
+     */
+    public List<Binding> bindingsFor(T record) {
+        return template.bindingsFor(record);
+    }
+
+    @Override
+    protected String renderFullStatement() {
+        return template.getFullInsertStatement();
+    }
+
+    public static <T> InsertBatchSupport<T> of(InsertTemplate<T> template, List<T> records, int flushSize) {
+        return new InsertBatchSupport<>(template, records, flushSize);
+    }
+}
@@ -0,0 +1,81 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.List;
+
+import org.mybatis.dynamic.sql.RenderingStrategy;
+import org.mybatis.dynamic.sql.SqlTable;
+
+/**
+ * Builds an insert statement that is rendered once for a list of records.
+ * 
+ * @param <T> the type of record
+ */
+public class InsertBatchSupportBuilder<T> {
+
+    private List<T> records;
+
+    private InsertBatchSupportBuilder(List<T> records) {
+        this.records = records;
+    }
+
+    public InsertBatchSupportMappingBuilder into(SqlTable table) {
+        return new InsertBatchSupportMappingBuilder(table);
+    }
+
+    public static <T> InsertBatchSupportBuilder<T> of(List<T> records) {
+        return new InsertBatchSupportBuilder<>(records);
+    }
+
+    public class InsertBatchSupportMappingBuilder
+            extends AbstractInsertMappingBuilder<InsertBatchSupportMappingBuilder> {
+        private int flushSize = Integer.MAX_VALUE;
+
+        private InsertBatchSupportMappingBuilder(SqlTable table) {
+            super(table);
+        }
+
+        /**
+         * Limits the number of records sent to the database in one batch.  By default all records
+         * are sent in a single batch.
+         * 
+         * @param flushSize the maximum number of records in a batch
+         * @return this builder
+         */
+        public InsertBatchSupportMappingBuilder withFlushSize(int flushSize) {
+            if (flushSize < 1) {
+                throw new IllegalArgumentException("Flush size must be at least 1"); //$NON-NLS-1$
+            }
+            this.flushSize = flushSize;
+            return this;
+        }
+
+        public InsertBatchSupport<T> build() {
+            return build(RenderingStrategy.NAMED);
+        }
+
+        public InsertBatchSupport<T> build(RenderingStrategy renderingStrategy) {
+            return InsertBatchSupport.of(InsertTemplate.of(columnMappings(), renderingStrategy, table()), records,
+                    flushSize);
+        }
+
+        @Override
+        protected InsertBatchSupportMappingBuilder getThis() {
+            return this;
+        }
+    }
+}
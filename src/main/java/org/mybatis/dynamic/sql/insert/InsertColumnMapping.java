@@ -15,11 +15,26 @@
  */
 package org.mybatis.dynamic.sql.insert;
 
+import java.util.function.Function;
+
+import org.mybatis.dynamic.sql.Binding;
+import org.mybatis.dynamic.sql.RenderingStrategy;
 import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.util.BeanPropertyGetter;
+import org.mybatis.dynamic.sql.util.OrdinalParameterMap;
+import org.mybatis.dynamic.sql.util.RenderingContext;
 
 public class InsertColumnMapping {
+    private static final String RECORD_PREFIX = "record"; //$NON-NLS-1$
+    private static final String PARAMETERS_PREFIX = "parameters"; //$NON-NLS-1$
+
     private SqlColumn<?> column;
     private String valuePhrase;
+    private String property;
+    private boolean whenPresent;
+    private Function<Object, ?> getter;
+    private Object value;
+    private boolean valueRead;
     
     private InsertColumnMapping() {
         super();
@@ -33,6 +48,121 @@ public class InsertColumnMapping {
         return valuePhrase;
     }
     
+    /**
+     * Returns the value phrase for the rendering strategy of the context.  With positional
+     * rendering, the property value is read from the record and bound in the context.
+     * 
+     * @param context the context of the insert statement
+     * @param record the record being inserted
+     * @return the value phrase
+     */
+    public String valuePhrase(RenderingContext context, Object record) {
+        if (property == null || context.renderingStrategy() == RenderingStrategy.NAMED) {
+            return valuePhrase;
+        }
+        
+        return context.bindParameter(column, RECORD_PREFIX, property, propertyValue(record));
+    }
+    
+    public boolean isPropertyMap() {
+        return property != null;
+    }
+    
+    /**
+     * Returns true if the column is only inserted when the property value of the record is not null.
+     * 
+     * @return true for a "when present" mapping
+     */
+    public boolean isWhenPresent() {
+        return whenPresent;
+    }
+    
+    public boolean isPresent(Object record) {
+        return propertyValue(record) != null;
+    }
+    
+    /**
+     * Returns the property value of the record.  If the mapping was created with a value that was
+     * already read, that value is returned.  Otherwise the value is read with the getter function if
+     * there is one, so no reflection is needed, or else by name.
+     * 
+     * @param record the record
+     * @return the property value
+     */
+    public Object propertyValue(Object record) {
+        if (valueRead) {
+            return value;
+        }
+        return getter == null ? BeanPropertyGetter.instance().getPropertyValue(record, property)
+                : getter.apply(record);
+    }
+    
+    /**
+     * Returns the value phrase for an insert with materialized values.  The property value is read
+     * from the record and placed in the parameter map of the context under the next parameter key,
+     * so the placeholder refers to the map rather than to the record.
+     * 
+     * @param context the context of the insert statement
+     * @param record the record being inserted
+     * @return the value phrase
+     */
+    public String materializedValuePhrase(RenderingContext context, Object record) {
+        if (property == null) {
+            return valuePhrase;
+        }
+        
+        String mapKey = OrdinalParameterMap.parameterKey(context.nextSequence());
+        return context.bindParameter(column, PARAMETERS_PREFIX, mapKey, propertyValue(record));
+    }
+    
+    /**
+     * Returns the value phrase for a template with materialized values, where the value is
+     * placed in the parameter map under the key.
+     * 
+     * @param mapKey the parameter map key of the value
+     * @return the value phrase
+     */
+    public String materializedValuePhrase(String mapKey) {
+        return property == null ? valuePhrase : column.getFormattedJdbcPlaceholder(PARAMETERS_PREFIX, mapKey);
+    }
+    
+    /**
+     * Returns the value phrase for one record of a statement that holds several records.
+     * 
+     * @param context the context of the statement
+     * @param prefix the prefix that identifies the record in named placeholders, for example "records[2]"
+     * @param record the record
+     * @return the value phrase
+     */
+    public String valuePhrase(RenderingContext context, String prefix, Object record) {
+        if (property == null) {
+            return valuePhrase;
+        } else if (context.renderingStrategy() == RenderingStrategy.NAMED) {
+            return column.getFormattedRecordPlaceholder(prefix, property);
+        } else {
+            return context.bindParameter(column, prefix, property, propertyValue(record));
+        }
+    }
+    
+    /**
+     * Returns the value phrase for a statement that is rendered once and executed for many records.
+     * Property values are not read - with positional rendering they are bound separately for each
+     * record with {@link #binding(Object)}.
+     * 
+     * @param renderingStrategy the rendering strategy of the statement
+     * @return the value phrase
+     */
+    public String valuePhrase(RenderingStrategy renderingStrategy) {
+        if (property == null || renderingStrategy == RenderingStrategy.NAMED) {
+            return valuePhrase;
+        }
+        return RenderingContext.POSITIONAL_PLACEHOLDER;
+    }
+    
+    public Binding binding(Object record) {
+        return Binding.of(propertyValue(record), column.jdbcType());
+    }
+    
     public static InsertColumnMapping ofConstantMap(SqlColumn<?> column, String constant) {
         InsertColumnMapping mapping = new InsertColumnMapping();
         mapping.column = column;
@@ -43,7 +173,54 @@ public class InsertColumnMapping {
     public static InsertColumnMapping ofPropertyMap(SqlColumn<?> column, String property) {
         InsertColumnMapping mapping = new InsertColumnMapping();
         mapping.column = column;
-        mapping.valuePhrase = column.getFormattedJdbcPlaceholder("record", property); //$NON-NLS-1$
+        mapping.property = property;
+        mapping.valuePhrase = column.getFormattedJdbcPlaceholder(RECORD_PREFIX, property);
+        return mapping;
+    }
+    
+    /**
+     * Creates a property mapping that reads the property value with a getter function rather than
+     * by reflection.  The property name is still used for named placeholders.
+     * 
+     * @param column the column
+     * @param property the property name
+     * @param getter a function that returns the property value of a record
+     * @param <T> the type of record
+     * @return the mapping
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> InsertColumnMapping ofPropertyMap(SqlColumn<?> column, String property, Function<T, ?> getter) {
+        InsertColumnMapping mapping = ofPropertyMap(column, property);
+        mapping.getter = (Function<Object, ?>) getter;
+        return mapping;
+    }
+    
+    /**
+     * Creates a property mapping for a value that has already been read from the record - for
+     * example to decide whether a "when present" column is inserted - so it is not read again.
+     * 
+     * @param column the column
+     * @param property the property name
+     * @param value the property value
+     * @return the mapping
+     */
+    public static InsertColumnMapping ofPropertyValue(SqlColumn<?> column, String property, Object value) {
+        InsertColumnMapping mapping = ofPropertyMap(column, property);
+        mapping.value = value;
+        mapping.valueRead = true;
+        return mapping;
+    }
+    
+    public static InsertColumnMapping ofPropertyMapWhenPresent(SqlColumn<?> column, String property) {
+        InsertColumnMapping mapping = ofPropertyMap(column, property);
+        mapping.whenPresent = true;
+        return mapping;
+    }
+    
+    public static <T> InsertColumnMapping ofPropertyMapWhenPresent(SqlColumn<?> column, String property,
+            Function<T, ?> getter) {
+        InsertColumnMapping mapping = ofPropertyMap(column, property, getter);
+        mapping.whenPresent = true;
         return mapping;
     }
 }
\ No newline at end of file
@@ -16,11 +16,14 @@
 package org.mybatis.dynamic.sql.insert;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 
+import org.mybatis.dynamic.sql.RenderingStrategy;
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.util.RenderingContext;
 
 class InsertColumnMappingCollector<T> {
     
@@ -28,15 +31,39 @@ class InsertColumnMappingCollector<T> {
     private List<String> valuePhrases = new ArrayList<>();
     private T record;
     private SqlTable table;
+    private RenderingContext context;
+    private boolean materialized;
+    private RenderingStrategy renderingStrategy;
     
     public InsertColumnMappingCollector(T record, SqlTable table) {
+        this(record, table, RenderingStrategy.NAMED);
+    }
+    
+    public InsertColumnMappingCollector(T record, SqlTable table, RenderingStrategy renderingStrategy) {
+        this(record, table, renderingStrategy, false);
+    }
+    
+    public InsertColumnMappingCollector(T record, SqlTable table, RenderingStrategy renderingStrategy,
+            boolean materialized) {
         this.record = record;
         this.table = table;
+        this.materialized = materialized;
+        this.renderingStrategy = renderingStrategy;
+        // named inserts that are not materialized render fixed value phrases, and need no context
+        if (materialized || renderingStrategy == RenderingStrategy.POSITIONAL) {
+            context = RenderingContext.of(renderingStrategy, materialized ? new AtomicInteger(1) : null, 16);
+        }
     }
     
     public void add(InsertColumnMapping mapping) {
         columnNames.add(mapping.columnName());
-        valuePhrases.add(mapping.valuePhrase());
+        if (context == null) {
+            valuePhrases.add(mapping.valuePhrase());
+        } else if (materialized) {
+            valuePhrases.add(mapping.materializedValuePhrase(context, record));
+        } else {
+            valuePhrases.add(mapping.valuePhrase(context, record));
+        }
     }
     
     public InsertColumnMappingCollector<T> merge(InsertColumnMappingCollector<T> other) {
@@ -46,21 +73,34 @@ class InsertColumnMappingCollector<T> {
     }
 
     public String columnsPhrase() {
-        return columnNames.stream()
-                .collect(Collectors.joining(", ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$)
+        return InsertRenderer.columnNamesPhrase(columnNames.stream());
     }
 
     public String valuesPhrase() {
-        return valuePhrases.stream()
-                .collect(Collectors.joining(", ", "values (", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        return InsertRenderer.valuesPhrase(valuePhrases.stream());
     }
     
     public InsertSupport<T> toInsertSupport() {
-        return InsertSupport.of(columnsPhrase(), valuesPhrase(), record, table);
+        if (context == null) {
+            return InsertSupport.of(columnsPhrase(), valuesPhrase(), record, Collections.emptyList(),
+                    Collections.emptyMap(), renderingStrategy, table);
+        }
+        return InsertSupport.of(columnsPhrase(), valuesPhrase(), record, context.bindings(),
+                materialized ? context.parameters() : Collections.emptyMap(), renderingStrategy, table);
     }
     
     public static <T> Collector<InsertColumnMapping, InsertColumnMappingCollector<T>, InsertSupport<T>> toInsertSupport(T record, SqlTable table) {
-        return Collector.of(() -> new InsertColumnMappingCollector<>(record, table),
+        return toInsertSupport(record, table, RenderingStrategy.NAMED);
+    }
+    
+    public static <T> Collector<InsertColumnMapping, InsertColumnMappingCollector<T>, InsertSupport<T>> toInsertSupport(T record,
+            SqlTable table, RenderingStrategy renderingStrategy) {
+        return toInsertSupport(record, table, renderingStrategy, false);
+    }
+    
+    public static <T> Collector<InsertColumnMapping, InsertColumnMappingCollector<T>, InsertSupport<T>> toInsertSupport(T record,
+            SqlTable table, RenderingStrategy renderingStrategy, boolean materialized) {
+        return Collector.of(() -> new InsertColumnMappingCollector<>(record, table, renderingStrategy, materialized),
                 InsertColumnMappingCollector::add,
                 InsertColumnMappingCollector::merge,
                 InsertColumnMappingCollector::toInsertSupport);
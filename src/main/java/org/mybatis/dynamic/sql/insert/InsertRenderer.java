@@ -0,0 +1,57 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.mybatis.dynamic.sql.AbstractSqlSupport;
+
+/**
+ * Renders the phrases of an insert statement.  Every kind of insert - single record, multi-row,
+ * batch and template - renders its statement here, so they always agree.
+ */
+class InsertRenderer {
+
+    private InsertRenderer() {
+        super();
+    }
+
+    static String columnsPhrase(List<InsertColumnMapping> columnMappings) {
+        return columnNamesPhrase(columnMappings.stream().map(InsertColumnMapping::columnName));
+    }
+
+    static String columnNamesPhrase(Stream<String> columnNames) {
+        return columnNames.collect(Collectors.joining(", ", "(", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
+    static String valuesPhrase(Stream<String> valuePhrases) {
+        return valuePhrases.collect(Collectors.joining(", ", "values (", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
+    static String insertStatement(String tableName, String columnsPhrase, String valuesPhrase) {
+        StringBuilder buffer = new StringBuilder(14 + tableName.length() + columnsPhrase.length()
+                + valuesPhrase.length());
+        return buffer.append("insert into ") //$NON-NLS-1$
+                .append(tableName)
+                .append(AbstractSqlSupport.ONE_SPACE)
+                .append(columnsPhrase)
+                .append(AbstractSqlSupport.ONE_SPACE)
+                .append(valuesPhrase)
+                .toString();
+    }
+}
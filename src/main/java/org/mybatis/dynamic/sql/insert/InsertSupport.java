@@ -15,20 +15,32 @@
  */
 package org.mybatis.dynamic.sql.insert;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
 import org.mybatis.dynamic.sql.AbstractSqlSupport;
+import org.mybatis.dynamic.sql.Binding;
+import org.mybatis.dynamic.sql.RenderingStrategy;
 import org.mybatis.dynamic.sql.SqlTable;
 
 public class InsertSupport<T> extends AbstractSqlSupport {
     
-    private String columnsPhrase;
-    private String valuesPhrase;
-    private T record;
+    private final String columnsPhrase;
+    private final String valuesPhrase;
+    private final T record;
+    private final Map<String, Object> parameters;
+    private final RenderingStrategy renderingStrategy;
     
-    private InsertSupport(String columnsPhrase, String valuesPhrase, T record, SqlTable table) {
-        super(table);
+    private InsertSupport(String columnsPhrase, String valuesPhrase, T record, List<Binding> bindings,
+            Map<String, Object> parameters, RenderingStrategy renderingStrategy, SqlTable table,
+            String fullInsertStatement) {
+        super(table, Collections.unmodifiableList(bindings), fullInsertStatement);
         this.columnsPhrase = columnsPhrase;
         this.valuesPhrase = valuesPhrase;
         this.record = record;
+        this.parameters = parameters.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(parameters);
+        this.renderingStrategy = renderingStrategy;
     }
     
     public String getColumnsPhrase() {
@@ -43,16 +55,49 @@ public class InsertSupport<T> extends AbstractSqlSupport {
         return record;
     }
     
+    /**
+     * Returns the property values of an insert with materialized values, keyed by the names used
+     * in the placeholders - for example "p1".  For other inserts the map is empty, and the
+     * placeholders refer to the properties of the record instead.
+     * 
+     * @return the parameters
+     */
+    public Map<String, Object> getParameters() {
+        return parameters;
+    }
+    
+    public RenderingStrategy getRenderingStrategy() {
+        return renderingStrategy;
+    }
+    
     public String getFullInsertStatement() {
-        return "insert into " //$NON-NLS-1$
-                + tableName()
-                + ONE_SPACE
-                + getColumnsPhrase()
-                + ONE_SPACE
-                + getValuesPhrase();
+        return fullStatement();
+    }
+
+    @Override
+    protected String renderFullStatement() {
+        return InsertRenderer.insertStatement(tableName(), columnsPhrase, valuesPhrase);
     }
 
     public static <T> InsertSupport<T> of(String columnsPhrase, String valuesPhrase, T record, SqlTable table) {
-        return new InsertSupport<>(columnsPhrase, valuesPhrase, record, table);
+        return new InsertSupport<>(columnsPhrase, valuesPhrase, record, Collections.emptyList(),
+                Collections.emptyMap(), RenderingStrategy.NAMED, table, null);
+    }
+
+    public static <T> InsertSupport<T> of(String columnsPhrase, String valuesPhrase, T record, List<Binding> bindings,
+            Map<String, Object> parameters, RenderingStrategy renderingStrategy, SqlTable table) {
+        return new InsertSupport<>(columnsPhrase, valuesPhrase, record, bindings, parameters, renderingStrategy,
+                table, null);
+    }
+
+    /**
+     * Creates an insert for a record of a batch or template.  The statement is the already rendered
+     * statement of the batch or template, so it is not rendered again.
+     */
+    static <T> InsertSupport<T> of(String columnsPhrase, String valuesPhrase, T record, List<Binding> bindings,
+            Map<String, Object> parameters, RenderingStrategy renderingStrategy, SqlTable table,
+            String fullInsertStatement) {
+        return new InsertSupport<>(columnsPhrase, valuesPhrase, record, bindings, parameters, renderingStrategy,
+                table, fullInsertStatement);
     }
 }
@@ -15,9 +15,9 @@
  */
 package org.mybatis.dynamic.sql.insert;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.function.Function;
 
+import org.mybatis.dynamic.sql.RenderingStrategy;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.util.BeanPropertyGetter;
@@ -38,50 +38,72 @@ public class InsertSupportBuilder<T> {
         return new InsertSupportBuilder<>(record);
     }
     
-    public class InsertSupportMappingBuilder {
-        private List<InsertColumnMapping> columnMappings = new ArrayList<>();
-        private SqlTable table;
+    public class InsertSupportMappingBuilder extends AbstractInsertMappingBuilder<InsertSupportMappingBuilder> {
+        private boolean materialized;
 
         private InsertSupportMappingBuilder(SqlTable table) {
-            this.table = table;
+            super(table);
         }
         
+        @Override
         public <F> InsertSupportMappingBuilderFinisher<F> map(SqlColumn<F> column) {
             return new InsertSupportMappingBuilderFinisher<>(column);
         }
         
+        /**
+         * Reads the property values when the insert is built and places them in the parameter map
+         * of the insert - see {@link InsertSupport#getParameters()}.  Placeholders refer to the map,
+         * so frameworks do not read the values from the record again, and the insert can be
+         * executed with a plain map - for example Spring's <code>MapSqlParameterSource</code>.
+         * Each value is read once, even for "when present" mappings.
+         * 
+         * @return the builder
+         */
+        public InsertSupportMappingBuilder withMaterializedValues() {
+            materialized = true;
+            return this;
+        }
+        
         public InsertSupport<T> build() {
-            return columnMappings.stream()
-                    .collect(InsertColumnMappingCollector.toInsertSupport(record, table));
+            return build(RenderingStrategy.NAMED);
+        }
+        
+        public InsertSupport<T> build(RenderingStrategy renderingStrategy) {
+            return columnMappings().stream()
+                    .collect(InsertColumnMappingCollector.toInsertSupport(record, table(), renderingStrategy,
+                            materialized));
         }
         
-        public class InsertSupportMappingBuilderFinisher<F> {
-            private SqlColumn<F> column;
+        @Override
+        protected InsertSupportMappingBuilder getThis() {
+            return this;
+        }
+        
+        public class InsertSupportMappingBuilderFinisher<F> extends InsertMappingFinisher<F> {
             
             public InsertSupportMappingBuilderFinisher(SqlColumn<F> column) {
-                this.column = column;
-            }
-            
-            public InsertSupportMappingBuilder toProperty(String property) {
-                columnMappings.add(InsertColumnMapping.ofPropertyMap(column, property));
-                return InsertSupportMappingBuilder.this;
+                super(column);
             }
             
             public InsertSupportMappingBuilder toPropertyWhenPresent(String property) {
-                if (BeanPropertyGetter.instance().getPropertyValue(record, property) != null) {
-                    columnMappings.add(InsertColumnMapping.ofPropertyMap(column, property));
-                }
-                return InsertSupportMappingBuilder.this;
+                return toPropertyValue(property, BeanPropertyGetter.instance().getPropertyValue(record, property));
             }
             
-            public InsertSupportMappingBuilder toNull() {
-                columnMappings.add(InsertColumnMapping.ofConstantMap(column, "null")); //$NON-NLS-1$
-                return InsertSupportMappingBuilder.this;
+            /**
+             * Maps the column to the property when the property value is not null.  The value is read
+             * with the getter function, so no reflection is used - for example
+             * <code>toPropertyWhenPresent("firstName", Person::getFirstName)</code>.
+             * 
+             * @param property the property name, used for the placeholder
+             * @param getter a function that returns the property value
+             * @return the builder
+             */
+            public InsertSupportMappingBuilder toPropertyWhenPresent(String property, Function<T, ?> getter) {
+                return toPropertyValue(property, getter.apply(record));
             }
             
-            public InsertSupportMappingBuilder toConstant(String constant) {
-                columnMappings.add(InsertColumnMapping.ofConstantMap(column, constant));
-                return InsertSupportMappingBuilder.this;
+            private InsertSupportMappingBuilder toPropertyValue(String property, Object value) {
+                return value == null ? getThis() : addMapping(InsertColumnMapping.ofPropertyValue(column(), property, value));
             }
         }
     }
@@ -0,0 +1,256 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+import org.mybatis.dynamic.sql.Binding;
+import org.mybatis.dynamic.sql.RenderingStrategy;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.util.OrdinalParameterMap;
+
+/**
+ * An insert statement defined once and reused for any number of records.
+ * 
+ * <p>The columns phrase, values phrase, and full statement are rendered when the template is first
+ * used.  {@link #forRecord(Object)} only wraps a record in an {@link InsertSupport} that shares those
+ * strings.  With the positional strategy, the values of the record are also read into a list of
+ * bindings.
+ * 
+ * <p>If the template has "when present" mappings, the columns in the statement depend on which of
+ * those properties are null in the record.  The presence of each "when present" property is one bit
+ * of a mask, and the statement rendered for each mask is cached in the template - so a record is only
+ * rendered if no record with the same null properties has been seen before.  There are at most
+ * 2<sup>n</sup> masks for n "when present" mappings, but in practice only a few are seen.
+ * 
+ * <p>With materialized values, the values of a record are read once by {@link #forRecord(Object)}
+ * and placed in the parameter map of the insert - see {@link InsertSupport#getParameters()}.
+ * 
+ * <p>Templates are safe for use by multiple threads, and are meant to be held in a static field.
+ * 
+ * @param <T> the type of record
+ */
+public class InsertTemplate<T> {
+
+    private static final long ALL_PRESENT = -1L;
+
+    private List<InsertColumnMapping> columnMappings;
+    private List<InsertColumnMapping> whenPresentMappings;
+    private RenderingStrategy renderingStrategy;
+    private boolean materialized;
+    private SqlTable table;
+    private ConcurrentMap<Long, RenderedInsert> renderedInserts = new ConcurrentHashMap<>();
+
+    private InsertTemplate(List<InsertColumnMapping> columnMappings, RenderingStrategy renderingStrategy,
+            boolean materialized, SqlTable table) {
+        this.columnMappings = new ArrayList<>(columnMappings);
+        this.renderingStrategy = renderingStrategy;
+        this.materialized = materialized && renderingStrategy == RenderingStrategy.NAMED;
+        this.table = table;
+        whenPresentMappings = this.columnMappings.stream()
+                .filter(InsertColumnMapping::isWhenPresent)
+                .collect(Collectors.toList());
+        if (whenPresentMappings.size() > Long.SIZE) {
+            throw new IllegalArgumentException("An insert template supports at most " + Long.SIZE //$NON-NLS-1$
+                    + " \"when present\" mappings"); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Returns the columns phrase with every column of the template.
+     * 
+     * @return the columns phrase
+     */
+    public String getColumnsPhrase() {
+        return renderedInsert(ALL_PRESENT).columnsPhrase;
+    }
+
+    public String getValuesPhrase() {
+        return renderedInsert(ALL_PRESENT).valuesPhrase;
+    }
+
+    public String getFullInsertStatement() {
+        return renderedInsert(ALL_PRESENT).fullInsertStatement;
+    }
+
+    public RenderingStrategy getRenderingStrategy() {
+        return renderingStrategy;
+    }
+
+    SqlTable table() {
+        return table;
+    }
+
+    /**
+     * Returns the number of different statements rendered by this template.
+     * 
+     * @return the number of statements
+     */
+    public int renderedStatements() {
+        return renderedInserts.size();
+    }
+
+    public InsertSupport<T> forRecord(T record) {
+        if (materialized) {
+            return materializedForRecord(record);
+        }
+
+        RenderedInsert renderedInsert = renderedInsert(presenceMask(record));
+        return InsertSupport.of(renderedInsert.columnsPhrase, renderedInsert.valuesPhrase, record,
+                renderedInsert.bindings(record), Collections.emptyMap(), renderingStrategy, table,
+                renderedInsert.fullInsertStatement);
+    }
+
+    /**
+     * Reads every property value once, uses the values to find the presence mask, and then
+     * places the values of the rendered columns in the parameter map in placeholder order.
+     */
+    private InsertSupport<T> materializedForRecord(T record) {
+        Object[] values = new Object[columnMappings.size()];
+        long mask = whenPresentMappings.isEmpty() ? ALL_PRESENT : 0;
+        int bit = 0;
+        for (int i = 0; i < values.length; i++) {
+            InsertColumnMapping mapping = columnMappings.get(i);
+            if (mapping.isPropertyMap()) {
+                values[i] = mapping.propertyValue(record);
+            }
+            if (mapping.isWhenPresent()) {
+                if (values[i] != null) {
+                    mask |= 1L << bit;
+                }
+                bit++;
+            }
+        }
+
+        RenderedInsert renderedInsert = renderedInsert(mask);
+        Map<String, Object> parameters = new OrdinalParameterMap(renderedInsert.propertyMappings.size());
+        int sequence = 1;
+        for (int i = 0; i < values.length; i++) {
+            InsertColumnMapping mapping = columnMappings.get(i);
+            if (mapping.isPropertyMap() && (values[i] != null || !mapping.isWhenPresent())) {
+                parameters.put(OrdinalParameterMap.parameterKey(sequence++), values[i]);
+            }
+        }
+
+        return InsertSupport.of(renderedInsert.columnsPhrase, renderedInsert.valuesPhrase, record,
+                Collections.emptyList(), parameters, renderingStrategy, table, renderedInsert.fullInsertStatement);
+    }
+
+    /**
+     * Returns the values of a record for a statement rendered with the positional strategy, in the
+     * same order as the placeholders of the statement rendered for the record.
+     */
+    List<Binding> bindingsFor(T record) {
+        return renderedInsert(presenceMask(record)).bindings(record);
+    }
+
+    private long presenceMask(T record) {
+        if (whenPresentMappings.isEmpty()) {
+            return ALL_PRESENT;
+        }
+
+        long mask = 0;
+        for (int i = 0; i < whenPresentMappings.size(); i++) {
+            if (whenPresentMappings.get(i).isPresent(record)) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+
+    private RenderedInsert renderedInsert(long presenceMask) {
+        RenderedInsert renderedInsert = renderedInserts.get(presenceMask);
+        return renderedInsert == null ? renderedInserts.computeIfAbsent(presenceMask, this::render)
+                : renderedInsert;
+    }
+
+    private RenderedInsert render(long presenceMask) {
+        List<InsertColumnMapping> mappings = new ArrayList<>(columnMappings.size());
+        for (InsertColumnMapping mapping : columnMappings) {
+            int bit = whenPresentMappings.indexOf(mapping);
+            if (bit < 0 || (presenceMask & (1L << bit)) != 0) {
+                mappings.add(mapping);
+            }
+        }
+        return new RenderedInsert(mappings);
+    }
+
+    public static <T> InsertTemplate<T> of(List<InsertColumnMapping> columnMappings,
+            RenderingStrategy renderingStrategy, SqlTable table) {
+        return new InsertTemplate<>(columnMappings, renderingStrategy, false, table);
+    }
+
+    /**
+     * Creates a template.  Materialized values only apply to the named strategy - with the
+     * positional strategy values are always read into bindings.
+     * 
+     * @param columnMappings the column mappings
+     * @param renderingStrategy the rendering strategy
+     * @param materialized true if record values should be placed in the parameter map
+     * @param table the table
+     * @param <T> the type of record
+     * @return the template
+     */
+    public static <T> InsertTemplate<T> of(List<InsertColumnMapping> columnMappings,
+            RenderingStrategy renderingStrategy, boolean materialized, SqlTable table) {
+        return new InsertTemplate<>(columnMappings, renderingStrategy, materialized, table);
+    }
+
+    private class RenderedInsert {
+        private String columnsPhrase;
+        private String valuesPhrase;
+        private String fullInsertStatement;
+        private List<InsertColumnMapping> propertyMappings;
+
+        private RenderedInsert(List<InsertColumnMapping> mappings) {
+            columnsPhrase = InsertRenderer.columnsPhrase(mappings);
+            valuesPhrase = materialized ? materializedValuesPhrase(mappings)
+                    : InsertRenderer.valuesPhrase(mappings.stream().map(m -> m.valuePhrase(renderingStrategy)));
+            fullInsertStatement = InsertRenderer.insertStatement(table.name(), columnsPhrase, valuesPhrase);
+            propertyMappings = mappings.stream()
+                    .filter(InsertColumnMapping::isPropertyMap)
+                    .collect(Collectors.toList());
+        }
+
+        private String materializedValuesPhrase(List<InsertColumnMapping> mappings) {
+            List<String> valuePhrases = new ArrayList<>(mappings.size());
+            int sequence = 1;
+            for (InsertColumnMapping mapping : mappings) {
+                valuePhrases.add(mapping.materializedValuePhrase(
+                        mapping.isPropertyMap() ? OrdinalParameterMap.parameterKey(sequence++) : null));
+            }
+            return InsertRenderer.valuesPhrase(valuePhrases.stream());
+        }
+
+        private List<Binding> bindings(T record) {
+            if (renderingStrategy == RenderingStrategy.NAMED) {
+                return Collections.emptyList();
+            }
+
+            List<Binding> bindings = new ArrayList<>(propertyMappings.size());
+            for (InsertColumnMapping mapping : propertyMappings) {
+                bindings.add(mapping.binding(record));
+            }
+            return bindings;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.function.Function;
+
+import org.mybatis.dynamic.sql.RenderingStrategy;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+/**
+ * Builds an {@link InsertTemplate} for a type of record.
+ * 
+ * @param <T> the type of record
+ */
+public class InsertTemplateBuilder<T> {
+
+    private InsertTemplateBuilder() {
+        super();
+    }
+
+    public InsertTemplateMappingBuilder into(SqlTable table) {
+        return new InsertTemplateMappingBuilder(table);
+    }
+
+    public static <T> InsertTemplateBuilder<T> of(Class<T> recordType) {
+        return new InsertTemplateBuilder<>();
+    }
+
+    public class InsertTemplateMappingBuilder extends AbstractInsertMappingBuilder<InsertTemplateMappingBuilder> {
+        private boolean materialized;
+
+        private InsertTemplateMappingBuilder(SqlTable table) {
+            super(table);
+        }
+
+        @Override
+        public <F> InsertTemplateMappingBuilderFinisher<F> map(SqlColumn<F> column) {
+            return new InsertTemplateMappingBuilderFinisher<>(column);
+        }
+
+        /**
+         * Reads the property values of each record once, in {@link InsertTemplate#forRecord(Object)},
+         * and places them in the parameter map of the insert rather than rendering placeholders
+         * that refer to the record.
+         * 
+         * @return the builder
+         */
+        public InsertTemplateMappingBuilder withMaterializedValues() {
+            materialized = true;
+            return this;
+        }
+
+        public InsertTemplate<T> build() {
+            return build(RenderingStrategy.NAMED);
+        }
+
+        public InsertTemplate<T> build(RenderingStrategy renderingStrategy) {
+            return InsertTemplate.of(columnMappings(), renderingStrategy, materialized, table());
+        }
+
+        @Override
+        protected InsertTemplateMappingBuilder getThis() {
+            return this;
+        }
+
+        public class InsertTemplateMappingBuilderFinisher<F> extends InsertMappingFinisher<F> {
+
+            public InsertTemplateMappingBuilderFinisher(SqlColumn<F> column) {
+                super(column);
+            }
+
+            /**
+             * Maps the column to the property, but the column is only inserted when the property
+             * value of a record is not null.
+             * 
+             * @param property the property
+             * @return the builder
+             */
+            public InsertTemplateMappingBuilder toPropertyWhenPresent(String property) {
+                return addMapping(InsertColumnMapping.ofPropertyMapWhenPresent(column(), property));
+            }
+
+            /**
+             * Maps the column to the property when the property value of a record is not null.  The
+             * value is read with the getter function, so no reflection is used.
+             * 
+             * @param property the property name, used for the placeholder
+             * @param getter a function that returns the property value
+             * @return the builder
+             */
+            public InsertTemplateMappingBuilder toPropertyWhenPresent(String property, Function<T, ?> getter) {
+                return addMapping(InsertColumnMapping.ofPropertyMapWhenPresent(column(), property, getter));
+            }
+        }
+    }
+}
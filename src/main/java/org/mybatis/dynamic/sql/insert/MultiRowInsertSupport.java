@@ -0,0 +1,80 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.mybatis.dynamic.sql.AbstractSqlSupport;
+import org.mybatis.dynamic.sql.Binding;
+import org.mybatis.dynamic.sql.RenderingStrategy;
+import org.mybatis.dynamic.sql.SqlTable;
+
+/**
+ * An insert statement for several records: <code>insert into t (...) values (...), (...)</code>.
+ * 
+ * <p>Named placeholders refer to the records by index, for example <code>#{records[2].firstName}</code>
+ * for MyBatis or <code>:records[2].firstName</code> for Spring, so this object is the parameter of the
+ * statement.
+ * 
+ * @param <T> the type of record
+ */
+public class MultiRowInsertSupport<T> extends AbstractSqlSupport {
+    
+    private final String columnsPhrase;
+    private final String valuesPhrase;
+    private final List<T> records;
+    private final RenderingStrategy renderingStrategy;
+    
+    private MultiRowInsertSupport(String columnsPhrase, String valuesPhrase, List<T> records, List<Binding> bindings,
+            RenderingStrategy renderingStrategy, SqlTable table) {
+        super(table, Collections.unmodifiableList(bindings));
+        this.columnsPhrase = columnsPhrase;
+        this.valuesPhrase = valuesPhrase;
+        this.records = Collections.unmodifiableList(records);
+        this.renderingStrategy = renderingStrategy;
+    }
+    
+    public String getColumnsPhrase() {
+        return columnsPhrase;
+    }
+
+    public String getValuesPhrase() {
+        return valuesPhrase;
+    }
+
+    public List<T> getRecords() {
+        return records;
+    }
+    
+    public RenderingStrategy getRenderingStrategy() {
+        return renderingStrategy;
+    }
+    
+    public String getFullInsertStatement() {
+        return fullStatement();
+    }
+
+    @Override
+    protected String renderFullStatement() {
+        return InsertRenderer.insertStatement(tableName(), columnsPhrase, valuesPhrase);
+    }
+
+    public static <T> MultiRowInsertSupport<T> of(String columnsPhrase, String valuesPhrase, List<T> records,
+            List<Binding> bindings, RenderingStrategy renderingStrategy, SqlTable table) {
+        return new MultiRowInsertSupport<>(columnsPhrase, valuesPhrase, records, bindings, renderingStrategy, table);
+    }
+}
@@ -0,0 +1,132 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mybatis.dynamic.sql.RenderingStrategy;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.util.RenderingContext;
+
+/**
+ * Builds insert statements for a list of records.  If a maximum number of parameters is set, the
+ * records are split into as many statements as needed so that no statement has more parameters
+ * than the maximum.
+ * 
+ * @param <T> the type of record
+ */
+public class MultiRowInsertSupportBuilder<T> {
+
+    private static final String RECORDS_PREFIX = "records"; //$NON-NLS-1$
+
+    private List<T> records;
+    
+    private MultiRowInsertSupportBuilder(List<T> records) {
+        this.records = records;
+    }
+    
+    public MultiRowInsertSupportMappingBuilder into(SqlTable table) {
+        return new MultiRowInsertSupportMappingBuilder(table);
+    }
+    
+    public static <T> MultiRowInsertSupportBuilder<T> of(List<T> records) {
+        return new MultiRowInsertSupportBuilder<>(records);
+    }
+    
+    public class MultiRowInsertSupportMappingBuilder
+            extends AbstractInsertMappingBuilder<MultiRowInsertSupportMappingBuilder> {
+        private int maxParameters = Integer.MAX_VALUE;
+
+        private MultiRowInsertSupportMappingBuilder(SqlTable table) {
+            super(table);
+        }
+        
+        /**
+         * Limits the number of parameters in each statement - many drivers limit the number of
+         * parameters in a single statement.
+         * 
+         * @param maxParameters the maximum number of parameters in a statement
+         * @return this builder
+         * @throws IllegalArgumentException if the maximum is less than 1
+         */
+        public MultiRowInsertSupportMappingBuilder withMaxParameters(int maxParameters) {
+            if (maxParameters < 1) {
+                throw new IllegalArgumentException("Maximum parameters must be at least 1"); //$NON-NLS-1$
+            }
+            this.maxParameters = maxParameters;
+            return this;
+        }
+        
+        public List<MultiRowInsertSupport<T>> build() {
+            return build(RenderingStrategy.NAMED);
+        }
+        
+        public List<MultiRowInsertSupport<T>> build(RenderingStrategy renderingStrategy) {
+            int rowsPerStatement = rowsPerStatement();
+            String columnsPhrase = InsertRenderer.columnsPhrase(columnMappings());
+
+            List<MultiRowInsertSupport<T>> statements = new ArrayList<>();
+            for (int start = 0; start < records.size(); start += rowsPerStatement) {
+                List<T> statementRecords = records.subList(start, Math.min(start + rowsPerStatement, records.size()));
+                statements.add(build(renderingStrategy, columnsPhrase, statementRecords));
+            }
+            return statements;
+        }
+        
+        private int rowsPerStatement() {
+            long parametersPerRow = columnMappings().stream().filter(InsertColumnMapping::isPropertyMap).count();
+            if (parametersPerRow == 0) {
+                return Math.max(records.size(), 1);
+            }
+            if (parametersPerRow > maxParameters) {
+                throw new IllegalArgumentException("Each record has " + parametersPerRow //$NON-NLS-1$
+                        + " parameters, but statements are limited to " + maxParameters); //$NON-NLS-1$
+            }
+            return (int) (maxParameters / parametersPerRow);
+        }
+        
+        private MultiRowInsertSupport<T> build(RenderingStrategy renderingStrategy, String columnsPhrase,
+                List<T> statementRecords) {
+            List<InsertColumnMapping> columnMappings = columnMappings();
+            RenderingContext context = renderingStrategy == RenderingStrategy.POSITIONAL
+                    ? RenderingContext.of(renderingStrategy, null, statementRecords.size() * columnMappings.size())
+                    : RenderingContext.withoutParameters();
+            context.append("values "); //$NON-NLS-1$
+            for (int i = 0; i < statementRecords.size(); i++) {
+                if (i > 0) {
+                    context.append(", "); //$NON-NLS-1$
+                }
+                String prefix = RECORDS_PREFIX + "[" + i + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+                context.append('(');
+                for (int j = 0; j < columnMappings.size(); j++) {
+                    if (j > 0) {
+                        context.append(", "); //$NON-NLS-1$
+                    }
+                    context.append(columnMappings.get(j).valuePhrase(context, prefix, statementRecords.get(i)));
+                }
+                context.append(')');
+            }
+            return MultiRowInsertSupport.of(columnsPhrase, context.sql(), statementRecords, context.bindings(),
+                    renderingStrategy, table());
+        }
+        
+        @Override
+        protected MultiRowInsertSupportMappingBuilder getThis() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+/**
+ * Thrown when a statement cannot be executed.  The cause is the SQLException reported by the driver.
+ */
+public class JdbcException extends RuntimeException {
+
+    private static final long serialVersionUID = 4211633394212254406L;
+
+    public JdbcException(String message) {
+        super(message);
+    }
+
+    public JdbcException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,222 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.function.Function;
+
+import javax.sql.DataSource;
+
+import org.mybatis.dynamic.sql.Condition;
+import org.mybatis.dynamic.sql.RenderingStrategy;
+import org.mybatis.dynamic.sql.delete.DeleteSupport;
+import org.mybatis.dynamic.sql.insert.InsertBatchSupport;
+import org.mybatis.dynamic.sql.insert.InsertSupport;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertSupport;
+import org.mybatis.dynamic.sql.select.SelectSupport;
+import org.mybatis.dynamic.sql.update.UpdateSupport;
+
+/**
+ * Executes statements built with {@link RenderingStrategy#POSITIONAL} against a DataSource.
+ * 
+ * <p>The methods on this class each execute one statement in a {@link JdbcSession}.  When the statement
+ * has executed, the session is kept for the next call - up to a number of idle sessions - so the connection
+ * and its cached prepared statements are reused across calls.  A session is closed instead of kept if the
+ * statement fails.  Before a session is kept, a connection that is not in auto commit mode is rolled back,
+ * as it would be if it were closed - code that needs transactions should open its own session.
+ * 
+ * <p>Each idle session holds a connection open.  With a pooled DataSource, the pool must allow for
+ * the idle sessions as well as any sessions opened with {@link #openSession()}.  An executor with no idle
+ * sessions closes the connection after every call.  Closing the executor closes the idle sessions.
+ * 
+ * <p>This class is thread safe if the DataSource is thread safe.
+ */
+public class JdbcExecutor implements AutoCloseable {
+    public static final int DEFAULT_STATEMENT_CACHE_SIZE = 64;
+    public static final int DEFAULT_IDLE_SESSIONS = 4;
+
+    private final DataSource dataSource;
+    private final int statementCacheSize;
+    private final int idleSessionLimit;
+    private final BlockingDeque<JdbcSession> idleSessions;
+    private volatile boolean closed;
+
+    private JdbcExecutor(DataSource dataSource, int statementCacheSize, int idleSessionLimit) {
+        if (statementCacheSize < 1) {
+            throw new IllegalArgumentException("Statement cache size must be greater than zero"); //$NON-NLS-1$
+        }
+        if (idleSessionLimit < 0) {
+            throw new IllegalArgumentException("Idle sessions must not be negative"); //$NON-NLS-1$
+        }
+
+        this.dataSource = dataSource;
+        this.statementCacheSize = statementCacheSize;
+        this.idleSessionLimit = idleSessionLimit;
+        // the deque can't have a capacity of zero, sessions are never offered to it when none are kept
+        idleSessions = new LinkedBlockingDeque<>(Math.max(idleSessionLimit, 1));
+    }
+
+    /**
+     * Opens a new session.  The session is not one of the executor's idle sessions, and the caller
+     * must close it.
+     * 
+     * @return a session on a new connection
+     */
+    public JdbcSession openSession() {
+        try {
+            return JdbcSession.of(dataSource.getConnection(), statementCacheSize);
+        } catch (SQLException e) {
+            throw new JdbcException("Error opening connection", e); //$NON-NLS-1$
+        }
+    }
+
+    public void select(SelectSupport selectSupport, RowCallback rowCallback) {
+        inSession(session -> {
+            session.select(selectSupport, rowCallback);
+            return null;
+        });
+    }
+
+    public <T> List<T> selectList(SelectSupport selectSupport, RowMapper<T> rowMapper) {
+        return inSession(session -> session.selectList(selectSupport, rowMapper));
+    }
+
+    public <T> Optional<T> selectOne(SelectSupport selectSupport, RowMapper<T> rowMapper) {
+        return inSession(session -> session.selectOne(selectSupport, rowMapper));
+    }
+
+    public long count(SelectSupport selectSupport) {
+        return inSession(session -> session.count(selectSupport));
+    }
+
+    public <T, R> List<R> selectListWithKeys(TempTableStrategy tempTableStrategy, Collection<T> keys,
+            Function<Condition<T>, SelectSupport> statementBuilder, RowMapper<R> rowMapper) {
+        return inSession(session -> session.selectListWithKeys(tempTableStrategy, keys, statementBuilder, rowMapper));
+    }
+
+    public <T> int deleteWithKeys(TempTableStrategy tempTableStrategy, Collection<T> keys,
+            Function<Condition<T>, DeleteSupport> statementBuilder) {
+        return inSession(session -> session.deleteWithKeys(tempTableStrategy, keys, statementBuilder));
+    }
+
+    public int insert(InsertSupport<?> insertSupport) {
+        return inSession(session -> session.insert(insertSupport));
+    }
+
+    public int insert(MultiRowInsertSupport<?> insertSupport) {
+        return inSession(session -> session.insert(insertSupport));
+    }
+
+    public <T> List<int[]> insertBatch(InsertBatchSupport<T> insertBatchSupport) {
+        return inSession(session -> session.insertBatch(insertBatchSupport));
+    }
+
+    public int update(UpdateSupport updateSupport) {
+        return inSession(session -> session.update(updateSupport));
+    }
+
+    public int delete(DeleteSupport deleteSupport) {
+        return inSession(session -> session.delete(deleteSupport));
+    }
+
+    private <R> R inSession(Function<JdbcSession, R> function) {
+        JdbcSession session = idleSessions.pollFirst();
+        if (session == null) {
+            session = openSession();
+        }
+
+        R result;
+        try {
+            result = function.apply(session);
+        } catch (RuntimeException | Error e) {
+            try {
+                session.close();
+            } catch (RuntimeException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        release(session);
+        return result;
+    }
+
+    /**
+     * Keeps a session for the next call, or closes it if there are enough idle sessions.  The most
+     * recently used session is taken first, so the sessions that are kept have the warmest caches.
+     */
+    private void release(JdbcSession session) {
+        if (closed || idleSessionLimit == 0) {
+            session.close();
+            return;
+        }
+
+        try {
+            if (!session.connection().getAutoCommit()) {
+                session.connection().rollback();
+            }
+        } catch (SQLException e) {
+            session.close();
+            throw new JdbcException("Error ending transaction", e); //$NON-NLS-1$
+        }
+
+        if (!idleSessions.offerFirst(session)) {
+            session.close();
+        } else if (closed) {
+            closeIdleSessions();
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        closeIdleSessions();
+    }
+
+    private void closeIdleSessions() {
+        JdbcException failure = null;
+        for (JdbcSession session = idleSessions.pollFirst(); session != null; session = idleSessions.pollFirst()) {
+            try {
+                session.close();
+            } catch (JdbcException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    public static JdbcExecutor of(DataSource dataSource) {
+        return of(dataSource, DEFAULT_STATEMENT_CACHE_SIZE);
+    }
+
+    public static JdbcExecutor of(DataSource dataSource, int statementCacheSize) {
+        return of(dataSource, statementCacheSize, DEFAULT_IDLE_SESSIONS);
+    }
+
+    public static JdbcExecutor of(DataSource dataSource, int statementCacheSize, int idleSessions) {
+        return new JdbcExecutor(dataSource, statementCacheSize, idleSessions);
+    }
+}
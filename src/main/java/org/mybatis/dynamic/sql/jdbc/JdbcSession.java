@@ -0,0 +1,493 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+import org.mybatis.dynamic.sql.Binding;
+import org.mybatis.dynamic.sql.Condition;
+import org.mybatis.dynamic.sql.RenderingStrategy;
+import org.mybatis.dynamic.sql.delete.DeleteSupport;
+import org.mybatis.dynamic.sql.insert.InsertBatchSupport;
+import org.mybatis.dynamic.sql.insert.InsertSupport;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertSupport;
+import org.mybatis.dynamic.sql.select.SelectSupport;
+import org.mybatis.dynamic.sql.update.UpdateSupport;
+
+/**
+ * Executes statements on a single connection.
+ * 
+ * <p>Statements must be built with {@link RenderingStrategy#POSITIONAL}.  The SQL is prepared
+ * exactly as rendered, and the bindings are set on the statement by index - there is no parsing of the
+ * SQL and no lookup of parameters by name.  Prepared statements are kept in a {@link StatementCache}
+ * for the life of the session, so executing the same SQL again reuses the statement.  A {@link JdbcExecutor}
+ * keeps its sessions between calls, so the statements are reused across the executor's calls as well.  Array values -
+ * for example from an "in array" condition - are bound with {@link Connection#createArrayOf(String, Object[])}.
+ * 
+ * <p>The session does not change the auto commit setting of the connection.  Closing the session
+ * closes the cached statements and the connection.  A session is not thread safe.
+ */
+public class JdbcSession implements AutoCloseable {
+
+    /**
+     * The temporary tables created on each physical connection.  A pooled DataSource hands the same
+     * physical connection to many sessions, and a declared temporary table lasts as long as that
+     * connection - so the tables are not tracked by the session.  The keys are weak so that closed
+     * connections are not kept.
+     */
+    private static final Map<Connection, Set<String>> createdTables = new WeakHashMap<>();
+
+    private final Connection connection;
+    private final StatementCache statementCache;
+
+    private JdbcSession(Connection connection, int statementCacheSize) {
+        this.connection = connection;
+        statementCache = StatementCache.of(connection, statementCacheSize);
+    }
+
+    public void select(SelectSupport selectSupport, RowCallback rowCallback) {
+        checkPositional(selectSupport.getParameters());
+        String sql = selectSupport.getFullSelectStatement();
+        try {
+            PreparedStatement statement = statementCache.prepare(sql);
+            BoundArrays arrays = bind(statement, selectSupport.getBindings());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    rowCallback.processRow(resultSet);
+                }
+            } catch (SQLException | RuntimeException | Error e) {
+                arrays.freeAfter(e);
+                throw e;
+            }
+            arrays.free();
+        } catch (SQLException e) {
+            throw executionFailed(sql, e);
+        }
+    }
+
+    public <T> List<T> selectList(SelectSupport selectSupport, RowMapper<T> rowMapper) {
+        List<T> rows = new ArrayList<>();
+        select(selectSupport, resultSet -> rows.add(rowMapper.mapRow(resultSet)));
+        return rows;
+    }
+
+    public <T> Optional<T> selectOne(SelectSupport selectSupport, RowMapper<T> rowMapper) {
+        List<T> rows = selectList(selectSupport, rowMapper);
+        if (rows.size() > 1) {
+            throw new JdbcException("Expected one row, but found " + rows.size()); //$NON-NLS-1$
+        }
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * Executes a select statement that returns a single number - for example a statement built with
+     * <code>select().count()</code>.
+     * 
+     * @param selectSupport the select statement
+     * @return the value of the first column of the first row
+     */
+    public long count(SelectSupport selectSupport) {
+        return selectOne(selectSupport, resultSet -> resultSet.getLong(1)).orElse(0L);
+    }
+
+    public int insert(InsertSupport<?> insertSupport) {
+        checkPositional(insertSupport.getRenderingStrategy());
+        return executeUpdate(insertSupport.getFullInsertStatement(), insertSupport.getBindings());
+    }
+
+    public int insert(MultiRowInsertSupport<?> insertSupport) {
+        checkPositional(insertSupport.getRenderingStrategy());
+        return executeUpdate(insertSupport.getFullInsertStatement(), insertSupport.getBindings());
+    }
+
+    /**
+     * Executes an insert statement for every record of the batch, using one prepared statement.
+     * The statement must be built with {@link RenderingStrategy#POSITIONAL}.
+     * 
+     * @param insertBatchSupport the insert statement and records
+     * @param <T> the type of record
+     * @return the update counts of each batch sent to the database
+     */
+    public <T> List<int[]> insertBatch(InsertBatchSupport<T> insertBatchSupport) {
+        checkPositional(insertBatchSupport.getRenderingStrategy());
+        String sql = insertBatchSupport.getFullInsertStatement();
+        PreparedStatement statement;
+        try {
+            statement = statementCache.prepare(sql);
+        } catch (SQLException e) {
+            throw executionFailed(sql, e);
+        }
+
+        List<int[]> updateCounts = new ArrayList<>();
+        try {
+            for (List<T> batch : insertBatchSupport.getBatches()) {
+                BoundArrays arrays = new BoundArrays();
+                try {
+                    for (T record : batch) {
+                        bind(statement, insertBatchSupport.bindingsFor(record), arrays);
+                        statement.addBatch();
+                    }
+                    updateCounts.add(statement.executeBatch());
+                } catch (SQLException | RuntimeException e) {
+                    arrays.freeAfter(e);
+                    throw e;
+                }
+                arrays.free();
+            }
+        } catch (SQLException e) {
+            clearBatch(statement, e);
+            throw executionFailed(sql, e);
+        } catch (RuntimeException e) {
+            clearBatch(statement, e);
+            throw e;
+        }
+        return updateCounts;
+    }
+
+    public int update(UpdateSupport updateSupport) {
+        checkPositional(updateSupport.getParameters());
+        return executeUpdate(updateSupport.getFullUpdateStatement(), updateSupport.getBindings());
+    }
+
+    public int delete(DeleteSupport deleteSupport) {
+        checkPositional(deleteSupport.getParameters());
+        return executeUpdate(deleteSupport.getFullDeleteStatement(), deleteSupport.getBindings());
+    }
+
+    /**
+     * Executes a select statement filtered by a set of keys.  The statement is built by a function that
+     * receives the condition to use for the keys - either an "in" condition, or a condition that selects
+     * from a temporary table loaded with the keys.
+     * 
+     * @param tempTableStrategy the temporary table to use for large sets of keys
+     * @param keys the keys
+     * @param statementBuilder a function that builds the statement from the key condition
+     * @param rowCallback the callback for each row
+     * @param <T> the type of the keys
+     */
+    public <T> void selectWithKeys(TempTableStrategy tempTableStrategy, Collection<T> keys,
+            Function<Condition<T>, SelectSupport> statementBuilder, RowCallback rowCallback) {
+        withKeys(tempTableStrategy, keys, condition -> {
+            select(statementBuilder.apply(condition), rowCallback);
+            return null;
+        });
+    }
+
+    public <T, R> List<R> selectListWithKeys(TempTableStrategy tempTableStrategy, Collection<T> keys,
+            Function<Condition<T>, SelectSupport> statementBuilder, RowMapper<R> rowMapper) {
+        return withKeys(tempTableStrategy, keys,
+                condition -> selectList(statementBuilder.apply(condition), rowMapper));
+    }
+
+    public <T> int deleteWithKeys(TempTableStrategy tempTableStrategy, Collection<T> keys,
+            Function<Condition<T>, DeleteSupport> statementBuilder) {
+        return withKeys(tempTableStrategy, keys, condition -> delete(statementBuilder.apply(condition)));
+    }
+
+    private <T, R> R withKeys(TempTableStrategy tempTableStrategy, Collection<T> keys,
+            Function<Condition<T>, R> action) {
+        if (!tempTableStrategy.usesTable(keys)) {
+            return action.apply(tempTableStrategy.condition(keys));
+        }
+
+        createTable(tempTableStrategy);
+        R result;
+        try {
+            loadKeys(tempTableStrategy, keys);
+            result = action.apply(tempTableStrategy.condition(keys));
+        } catch (RuntimeException | Error e) {
+            // remove any keys that were loaded, without hiding the original failure
+            try {
+                deleteKeys(tempTableStrategy);
+            } catch (RuntimeException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        deleteKeys(tempTableStrategy);
+        return result;
+    }
+
+    private void createTable(TempTableStrategy tempTableStrategy) {
+        Optional<String> createStatement = tempTableStrategy.createStatement();
+        if (!createStatement.isPresent()) {
+            return;
+        }
+
+        Connection physicalConnection = physicalConnection();
+        synchronized (createdTables) {
+            Set<String> tables = createdTables.get(physicalConnection);
+            if (tables != null && tables.contains(tempTableStrategy.tableName())) {
+                return;
+            }
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(createStatement.get());
+        } catch (SQLException e) {
+            throw executionFailed(createStatement.get(), e);
+        }
+        // only remember the table once it exists, so a failed create is tried again
+        synchronized (createdTables) {
+            createdTables.computeIfAbsent(physicalConnection, c -> new HashSet<>()).add(tempTableStrategy.tableName());
+        }
+    }
+
+    /**
+     * Connection pools hand out wrappers around the physical connection, a new one each time the
+     * connection is borrowed.  Unwrapping finds the connection the temporary tables belong to.
+     */
+    private Connection physicalConnection() {
+        try {
+            return connection.unwrap(Connection.class);
+        } catch (SQLException e) {
+            return connection;
+        }
+    }
+
+    private void loadKeys(TempTableStrategy tempTableStrategy, Collection<?> keys) {
+        String sql = tempTableStrategy.insertStatement();
+        PreparedStatement statement;
+        try {
+            statement = statementCache.prepare(sql);
+        } catch (SQLException e) {
+            throw executionFailed(sql, e);
+        }
+
+        try {
+            int vendorType = tempTableStrategy.jdbcType().getVendorTypeNumber();
+            int batchCount = 0;
+            for (Object key : keys) {
+                statement.setObject(1, key, vendorType);
+                statement.addBatch();
+                if (++batchCount == tempTableStrategy.batchSize()) {
+                    statement.executeBatch();
+                    batchCount = 0;
+                }
+            }
+            if (batchCount > 0) {
+                statement.executeBatch();
+            }
+        } catch (SQLException e) {
+            clearBatch(statement, e);
+            throw executionFailed(sql, e);
+        } catch (RuntimeException e) {
+            clearBatch(statement, e);
+            throw e;
+        }
+    }
+
+    private void deleteKeys(TempTableStrategy tempTableStrategy) {
+        executeUpdate(tempTableStrategy.deleteStatement(), Collections.emptyList());
+    }
+
+    private int executeUpdate(String sql, List<Binding> bindings) {
+        try {
+            PreparedStatement statement = statementCache.prepare(sql);
+            BoundArrays arrays = bind(statement, bindings);
+            int rows;
+            try {
+                rows = statement.executeUpdate();
+            } catch (SQLException | RuntimeException e) {
+                arrays.freeAfter(e);
+                throw e;
+            }
+            arrays.free();
+            return rows;
+        } catch (SQLException e) {
+            throw executionFailed(sql, e);
+        }
+    }
+
+    private BoundArrays bind(PreparedStatement statement, List<Binding> bindings) throws SQLException {
+        BoundArrays arrays = new BoundArrays();
+        try {
+            bind(statement, bindings, arrays);
+        } catch (SQLException | RuntimeException e) {
+            arrays.freeAfter(e);
+            throw e;
+        }
+        return arrays;
+    }
+
+    private void bind(PreparedStatement statement, List<Binding> bindings, BoundArrays arrays) throws SQLException {
+        for (int i = 0; i < bindings.size(); i++) {
+            Binding binding = bindings.get(i);
+            if (binding.value() == null) {
+                statement.setNull(i + 1, binding.jdbcType() == null ? Types.NULL
+                        : binding.jdbcType().getVendorTypeNumber());
+            } else if (binding.value() instanceof Object[]) {
+                // the JDBC type of an array binding is the type of the elements
+                if (binding.jdbcType() == null) {
+                    throw new IllegalArgumentException("Array values can only be bound to columns" //$NON-NLS-1$
+                            + " with a JDBC type - the element type of the array is unknown"); //$NON-NLS-1$
+                }
+                statement.setArray(i + 1, arrays.add(connection.createArrayOf(binding.jdbcType().getName(),
+                        (Object[]) binding.value())));
+            } else {
+                statement.setObject(i + 1, binding.value());
+            }
+        }
+    }
+
+    /**
+     * Discards rows that were added to a cached statement's batch but not executed, so that
+     * they are not sent with the next use of the statement.
+     */
+    private static void clearBatch(PreparedStatement statement, Exception failure) {
+        try {
+            statement.clearBatch();
+        } catch (SQLException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Statements rendered with named placeholders have their values in the parameter map
+     * and can't be executed here.
+     */
+    private static void checkPositional(Map<String, Object> parameters) {
+        if (!parameters.isEmpty()) {
+            throw notPositional();
+        }
+    }
+
+    private static void checkPositional(RenderingStrategy renderingStrategy) {
+        if (renderingStrategy != RenderingStrategy.POSITIONAL) {
+            throw notPositional();
+        }
+    }
+
+    private static IllegalArgumentException notPositional() {
+        return new IllegalArgumentException(
+                "Statements must be built with RenderingStrategy.POSITIONAL"); //$NON-NLS-1$
+    }
+
+    private static JdbcException executionFailed(String sql, SQLException e) {
+        return new JdbcException("Error executing statement: " + sql, e); //$NON-NLS-1$
+    }
+
+    public Connection connection() {
+        return connection;
+    }
+
+    public StatementCache statementCache() {
+        return statementCache;
+    }
+
+    public void commit() {
+        try {
+            connection.commit();
+        } catch (SQLException e) {
+            throw new JdbcException("Error committing transaction", e); //$NON-NLS-1$
+        }
+    }
+
+    public void rollback() {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            throw new JdbcException("Error rolling back transaction", e); //$NON-NLS-1$
+        }
+    }
+
+    @Override
+    public void close() {
+        JdbcException failure = null;
+        try {
+            statementCache.close();
+        } catch (SQLException e) {
+            failure = new JdbcException("Error closing session", e); //$NON-NLS-1$
+        } finally {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                if (failure == null) {
+                    failure = new JdbcException("Error closing session", e); //$NON-NLS-1$
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    public static JdbcSession of(Connection connection, int statementCacheSize) {
+        return new JdbcSession(connection, statementCacheSize);
+    }
+
+    /**
+     * The arrays created for the bindings of a statement.  The driver may hold database resources
+     * for an array until it is freed, so the arrays are freed as soon as the statement has executed.
+     */
+    private static class BoundArrays {
+        private List<Array> arrays = Collections.emptyList();
+
+        private Array add(Array array) {
+            if (arrays.isEmpty()) {
+                arrays = new ArrayList<>();
+            }
+            arrays.add(array);
+            return array;
+        }
+
+        private void freeAfter(Throwable e) {
+            try {
+                free();
+            } catch (SQLException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+        }
+
+        private void free() throws SQLException {
+            List<Array> created = arrays;
+            arrays = Collections.emptyList();
+            SQLException failure = null;
+            for (Array array : created) {
+                try {
+                    array.free();
+                } catch (SQLException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A bounded cache of prepared statements for a single connection, keyed by SQL text.
+ * 
+ * <p>When the cache is full, the least recently used statement is evicted and closed.  The
+ * statements are closed when the cache is closed.  The cache belongs to one connection and
+ * is not thread safe.
+ */
+public class StatementCache implements AutoCloseable {
+
+    private final Connection connection;
+    private final Map<String, PreparedStatement> statements;
+    private final List<PreparedStatement> evicted = new ArrayList<>();
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    private StatementCache(Connection connection, int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be greater than zero"); //$NON-NLS-1$
+        }
+
+        this.connection = connection;
+        statements = new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+            private static final long serialVersionUID = -3412298366135296462L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                boolean evict = size() > maximumSize;
+                if (evict) {
+                    evicted.add(eldest.getValue());
+                    evictions++;
+                }
+                return evict;
+            }
+        };
+    }
+
+    /**
+     * Returns a prepared statement for the SQL, preparing it if it is not in the cache.  Statements
+     * returned from the cache have their parameters cleared.
+     * 
+     * @param sql the SQL text
+     * @return a prepared statement
+     * @throws SQLException if the statement cannot be prepared
+     */
+    public PreparedStatement prepare(String sql) throws SQLException {
+        PreparedStatement statement = statements.get(sql);
+        if (statement == null) {
+            misses++;
+            statement = connection.prepareStatement(sql);
+            statements.put(sql, statement);
+            closeEvicted();
+        } else {
+            hits++;
+            statement.clearParameters();
+        }
+        return statement;
+    }
+
+    private void closeEvicted() throws SQLException {
+        SQLException firstException = null;
+        for (PreparedStatement statement : evicted) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                if (firstException == null) {
+                    firstException = e;
+                }
+            }
+        }
+        evicted.clear();
+
+        if (firstException != null) {
+            throw firstException;
+        }
+    }
+
+    public long hits() {
+        return hits;
+    }
+
+    public long misses() {
+        return misses;
+    }
+
+    public long evictions() {
+        return evictions;
+    }
+
+    public int size() {
+        return statements.size();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        evicted.addAll(statements.values());
+        statements.clear();
+        closeEvicted();
+    }
+
+    public static StatementCache of(Connection connection, int maximumSize) {
+        return new StatementCache(connection, maximumSize);
+    }
+}
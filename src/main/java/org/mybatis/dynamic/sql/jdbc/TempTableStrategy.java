@@ -0,0 +1,124 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.jdbc;
+
+import java.sql.JDBCType;
+import java.util.Collection;
+import java.util.Optional;
+
+import org.mybatis.dynamic.sql.Condition;
+import org.mybatis.dynamic.sql.where.condition.IsIn;
+import org.mybatis.dynamic.sql.where.condition.IsInTable;
+
+/**
+ * Describes how a {@link JdbcSession} filters a statement by a very large set of keys.
+ * 
+ * <p>When there are more keys than the threshold, the keys are batch inserted into a temporary
+ * table, and the statement is rendered with <code>column in (select key from table)</code> instead of
+ * a placeholder for every key.  The rows are deleted from the temporary table after the statement
+ * is executed.  When there are no more keys than the threshold, an ordinary "in" condition is used.
+ * 
+ * <p>The temporary table must be private to the connection - for example a global temporary table
+ * with "on commit preserve rows", or a table declared with the create statement.  If a create
+ * statement is supplied, it is executed the first time the table is used on a physical connection - a
+ * session on a pooled connection that already has the table does not create it again.
+ */
+public class TempTableStrategy {
+    public static final int DEFAULT_THRESHOLD = 1000;
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private String tableName;
+    private String columnName;
+    private JDBCType jdbcType;
+    private int threshold = DEFAULT_THRESHOLD;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private String createStatement;
+
+    private TempTableStrategy(String tableName, String columnName, JDBCType jdbcType) {
+        this.tableName = tableName;
+        this.columnName = columnName;
+        this.jdbcType = jdbcType;
+    }
+
+    public TempTableStrategy withThreshold(int threshold) {
+        TempTableStrategy strategy = copy();
+        strategy.threshold = threshold;
+        return strategy;
+    }
+
+    public TempTableStrategy withBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be greater than zero"); //$NON-NLS-1$
+        }
+        TempTableStrategy strategy = copy();
+        strategy.batchSize = batchSize;
+        return strategy;
+    }
+
+    public TempTableStrategy withCreateStatement(String createStatement) {
+        TempTableStrategy strategy = copy();
+        strategy.createStatement = createStatement;
+        return strategy;
+    }
+
+    private TempTableStrategy copy() {
+        TempTableStrategy strategy = new TempTableStrategy(tableName, columnName, jdbcType);
+        strategy.threshold = threshold;
+        strategy.batchSize = batchSize;
+        strategy.createStatement = createStatement;
+        return strategy;
+    }
+
+    public String tableName() {
+        return tableName;
+    }
+
+    public JDBCType jdbcType() {
+        return jdbcType;
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
+
+    public Optional<String> createStatement() {
+        return Optional.ofNullable(createStatement);
+    }
+
+    public boolean usesTable(Collection<?> keys) {
+        return keys.size() > threshold;
+    }
+
+    public <T> Condition<T> condition(Collection<T> keys) {
+        if (usesTable(keys)) {
+            return IsInTable.of(tableName, columnName);
+        } else {
+            return IsIn.of(keys.stream());
+        }
+    }
+
+    String insertStatement() {
+        return "insert into " + tableName + " (" + columnName + ") values (?)"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
+    String deleteStatement() {
+        return "delete from " + tableName; //$NON-NLS-1$
+    }
+
+    public static TempTableStrategy of(String tableName, String columnName, JDBCType jdbcType) {
+        return new TempTableStrategy(tableName, columnName, jdbcType);
+    }
+}
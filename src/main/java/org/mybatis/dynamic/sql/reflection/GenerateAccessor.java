@@ -0,0 +1,38 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.reflection;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a record class for the {@link org.mybatis.dynamic.sql.reflection.processor.PropertyAccessorProcessor}.
+ * The processor generates a {@link PropertyAccessor} for the class, so property values are read
+ * without reflection.
+ * 
+ * <p>The processor only runs when a build asks for it.  Either add the jar with the "processor"
+ * classifier to the annotation processor path - for Maven, the <code>annotationProcessorPaths</code>
+ * of the compiler plugin - or name the processor with <code>-processor</code>.  The main jar does
+ * not register the processor, so compiles that only use this library do not run it.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateAccessor {
+}
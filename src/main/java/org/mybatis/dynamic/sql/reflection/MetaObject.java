@@ -15,12 +15,7 @@
  */
 package org.mybatis.dynamic.sql.reflection;
 
-import java.util.Map;
-
-import org.mybatis.dynamic.sql.reflection.property.PropertyTokenizer;
-import org.mybatis.dynamic.sql.reflection.wrapper.BeanWrapper;
-import org.mybatis.dynamic.sql.reflection.wrapper.MapWrapper;
-import org.mybatis.dynamic.sql.reflection.wrapper.ObjectWrapper;
+import org.mybatis.dynamic.sql.reflection.property.PropertyPath;
 
 /**
  * @author Clinton Begin (initial work)
@@ -28,48 +23,22 @@ import org.mybatis.dynamic.sql.reflection.wrapper.ObjectWrapper;
  */
 public class MetaObject {
 
-    private ObjectWrapper objectWrapper;
+    private Object object;
 
-    @SuppressWarnings("unchecked")
     private MetaObject(Object object) {
-        if (object instanceof Map) {
-            this.objectWrapper = new MapWrapper(this, (Map<String, Object>) object);
-        } else {
-            this.objectWrapper = new BeanWrapper(this, object);
-        }
+        this.object = object;
     }
 
     public static MetaObject forObject(Object object) {
-        if (object == null) {
-            return new NullMetaObject();
-        } else {
-            return new MetaObject(object);
-        }
+        return new MetaObject(object);
     }
 
     public Object getValue(String name) {
-        PropertyTokenizer prop = new PropertyTokenizer(name);
-        if (prop.hasNext()) {
-            MetaObject metaValue = metaObjectForProperty(prop.getIndexedName());
-            return metaValue.getValue(prop.getChildren());
-        } else {
-            return objectWrapper.get(prop);
-        }
+        return PropertyPath.of(name).getValue(object);
     }
 
     public MetaObject metaObjectForProperty(String name) {
         Object value = getValue(name);
         return MetaObject.forObject(value);
     }
-
-    private static class NullMetaObject extends MetaObject {
-        private NullMetaObject() {
-            super(NullMetaObject.class);
-        }
-        
-        @Override
-        public Object getValue(String name) {
-            return null;
-        }
-    }
 }
@@ -0,0 +1,45 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.reflection;
+
+/**
+ * Reads the properties of a record without reflection.  Implementations are generated by the
+ * {@link org.mybatis.dynamic.sql.reflection.processor.PropertyAccessorProcessor} for classes
+ * annotated with {@link GenerateAccessor}.  Besides the methods of this interface, a generated
+ * accessor has a typed method for each property - for example <code>getFirstName(record)</code>.
+ * 
+ * @param <T> the type of record
+ */
+public interface PropertyAccessor<T> {
+
+    /**
+     * Returns true if the accessor can read the property.  Only public getter methods are
+     * generated, so other properties - for example fields - must still be read by reflection.
+     * 
+     * @param property the property name
+     * @return true if the property can be read with {@link #get(Object, String)}
+     */
+    boolean hasProperty(String property);
+
+    /**
+     * Returns the value of a property.
+     * 
+     * @param record the record
+     * @param property the property name
+     * @return the value of the property, or null if the accessor does not have the property
+     */
+    Object get(T record, String property);
+}
@@ -0,0 +1,85 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.reflection;
+
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Finds the generated {@link PropertyAccessor} for a class, if there is one.  The accessor for
+ * <code>com.foo.Person</code> is <code>com.foo.PersonPropertyAccessor</code>, and the accessor for
+ * the nested class <code>com.foo.Outer.Person</code> is <code>com.foo.Outer_PersonPropertyAccessor</code>.
+ * Like the {@link ReflectorFactory}, results are stored with a {@link ClassValue} so they do not keep
+ * the class alive.
+ */
+public class PropertyAccessorFactory {
+    public static final String ACCESSOR_SUFFIX = "PropertyAccessor"; //$NON-NLS-1$
+
+    private static final Logger log = Logger.getLogger(PropertyAccessorFactory.class.getName());
+    private static PropertyAccessorFactory instance = new PropertyAccessorFactory();
+    private final ClassValue<Optional<PropertyAccessor<Object>>> accessors = new ClassValue<Optional<PropertyAccessor<Object>>>() {
+        @Override
+        protected Optional<PropertyAccessor<Object>> computeValue(Class<?> type) {
+            return loadAccessor(type);
+        }
+    };
+
+    private PropertyAccessorFactory() {
+        super();
+    }
+
+    public static PropertyAccessorFactory instance() {
+        return instance;
+    }
+
+    public Optional<PropertyAccessor<Object>> findForClass(Class<?> type) {
+        return accessors.get(type);
+    }
+
+    /**
+     * Returns the name of the generated accessor for a class.
+     * 
+     * @param binaryName the binary name of the record class - for example "com.foo.Outer$Person"
+     * @return the name of the accessor class
+     */
+    public static String accessorClassName(String binaryName) {
+        int lastDot = binaryName.lastIndexOf('.');
+        return binaryName.substring(0, lastDot + 1)
+                + binaryName.substring(lastDot + 1).replace('$', '_')
+                + ACCESSOR_SUFFIX;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Optional<PropertyAccessor<Object>> loadAccessor(Class<?> type) {
+        if (type.getClassLoader() == null) {
+            // JDK classes are never annotated
+            return Optional.empty();
+        }
+
+        try {
+            Class<?> accessorClass = Class.forName(accessorClassName(type.getName()), true, type.getClassLoader());
+            if (PropertyAccessor.class.isAssignableFrom(accessorClass)) {
+                return Optional.of((PropertyAccessor<Object>) accessorClass.getConstructor().newInstance());
+            }
+        } catch (ClassNotFoundException e) {
+            // the usual case - no accessor was generated
+        } catch (ReflectiveOperationException e) {
+            log.log(Level.WARNING, "Unable to create the property accessor for " + type.getName(), e); //$NON-NLS-1$
+        }
+        return Optional.empty();
+    }
+}
@@ -23,20 +23,27 @@ import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
-import org.mybatis.dynamic.sql.reflection.invoker.GetFieldInvoker;
 import org.mybatis.dynamic.sql.reflection.invoker.Invoker;
-import org.mybatis.dynamic.sql.reflection.invoker.MethodInvoker;
+import org.mybatis.dynamic.sql.reflection.invoker.Invokers;
 import org.mybatis.dynamic.sql.util.CustomCollectors;
 
 /**
  * This class represents a cached set of class definition information that
  * allows for easy mapping between property names and getter/setter methods.
  *
+ * <p>A Reflector created with the constructor scans the whole class hierarchy up front.  A lazy
+ * Reflector - the kind returned by the {@link ReflectorFactory} - looks up only the properties that
+ * are asked for, and only makes the matching method or field accessible.  {@link #resolveAll()}
+ * switches a lazy Reflector to the full scan.
+ *
  * @author Clinton Begin (initial work)
  * @author Jeff Butler (derivation)
  */
@@ -46,23 +53,112 @@ public class Reflector {
     private static final String IS = "is"; //$NON-NLS-1$
     private static final String GET = "get"; //$NON-NLS-1$
     
-    private Map<String, Invoker> getMethods = new HashMap<>();
+    private Class<?> type;
+    private Map<String, Invoker> getMethods;
+    private ConcurrentMap<String, Optional<Invoker>> invokers = new ConcurrentHashMap<>();
+    private volatile boolean complete;
 
     public Reflector(Class<?> clazz) {
-        addGetMethods(clazz);
-        addFields(clazz);
+        this(clazz, true);
     }
-    
+
+    private Reflector(Class<?> clazz, boolean scan) {
+        type = clazz;
+        if (scan) {
+            resolveAll();
+        }
+    }
+
+    public static Reflector lazy(Class<?> clazz) {
+        return new Reflector(clazz, false);
+    }
+
+    /**
+     * Scans the whole class hierarchy, so that later lookups never touch the class again.
+     * Properties that were already looked up keep the invoker they were resolved with.
+     */
+    public synchronized void resolveAll() {
+        if (complete) {
+            return;
+        }
+
+        getMethods = new HashMap<>();
+        addGetMethods(type);
+        addFields(type);
+        getMethods.forEach((name, invoker) -> invokers.putIfAbsent(name, Optional.of(invoker)));
+        getMethods = null;
+        complete = true;
+    }
+
+    private Optional<Invoker> resolve(String propertyName) {
+        Optional<Invoker> invoker = findGetter(type, propertyName, Reflector::isAnIsGetter, IS);
+        if (!invoker.isPresent()) {
+            invoker = findGetter(type, propertyName, Reflector::isAGetter, GET);
+        }
+        if (!invoker.isPresent() && isValidPropertyName(propertyName)) {
+            invoker = findField(type, propertyName);
+        }
+        return invoker;
+    }
+
+    /**
+     * Finds a getter the same way {@link #getClassMethods(Class)} does - subclasses first, and
+     * the interfaces of each class before its superclass.
+     */
+    private static Optional<Invoker> findGetter(Class<?> clazz, String propertyName, Predicate<Method> isGetter,
+            String prefix) {
+        Optional<Method> method = Arrays.stream(clazz.getDeclaredMethods())
+                .filter(m -> !m.isBridge())
+                .filter(isGetter)
+                .filter(m -> propertyName.equals(fixPropertyCase(m.getName().substring(prefix.length()))))
+                .map(Reflector::setAccessible)
+                .filter(Reflector::isAccessible)
+                .findFirst();
+
+        if (!method.isPresent()) {
+            method = Arrays.stream(clazz.getInterfaces())
+                    .map(Class::getMethods)
+                    .flatMap(Arrays::stream)
+                    .filter(isGetter)
+                    .filter(m -> propertyName.equals(fixPropertyCase(m.getName().substring(prefix.length()))))
+                    .findFirst();
+        }
+
+        if (method.isPresent()) {
+            return method.map(Invokers::forGetter);
+        } else if (clazz.getSuperclass() != null) {
+            return findGetter(clazz.getSuperclass(), propertyName, isGetter, prefix);
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Invoker> findField(Class<?> clazz, String propertyName) {
+        Optional<Field> field = Arrays.stream(clazz.getDeclaredFields())
+                .filter(f -> f.getName().equals(propertyName))
+                .map(Reflector::setAccessible)
+                .filter(Reflector::isAccessible)
+                .findFirst();
+
+        if (field.isPresent()) {
+            return field.map(Invokers::forField);
+        } else if (clazz.getSuperclass() != null) {
+            return findField(clazz.getSuperclass(), propertyName);
+        } else {
+            return Optional.empty();
+        }
+    }
+
     private void addGetMethods(Class<?> cls) {
         Map<String, Method> uniqueMethods = getClassMethods(cls);
 
         uniqueMethods.values().stream()
                 .filter(Reflector::isAnIsGetter)
-                .collect(Collectors.toMap(Reflector::extractIsPropertyName, MethodInvoker::new, (m1, m2) -> m1, () -> getMethods));
+                .collect(Collectors.toMap(Reflector::extractIsPropertyName, Invokers::forGetter, (m1, m2) -> m1, () -> getMethods));
         
         uniqueMethods.values().stream()
                 .filter(Reflector::isAGetter)
-                .collect(Collectors.toMap(Reflector::extractGetPropertyName, MethodInvoker::new, (m1, m2) -> m1, () -> getMethods));
+                .collect(Collectors.toMap(Reflector::extractGetPropertyName, Invokers::forGetter, (m1, m2) -> m1, () -> getMethods));
     }
 
     private static boolean isAnIsGetter(Method method) {
@@ -91,7 +187,7 @@ public class Reflector {
         return fixPropertyCase(propertyName);
     }
     
-    static String fixPropertyCase(String propertyName) {
+    public static String fixPropertyCase(String propertyName) {
         String fixedPropertyName = propertyName;
         if (propertyName.length() == 1 || (propertyName.length() > 1 && !Character.isUpperCase(propertyName.charAt(1)))) {
             fixedPropertyName = propertyName.substring(0, 1).toLowerCase(Locale.ENGLISH) + propertyName.substring(1);
@@ -106,7 +202,7 @@ public class Reflector {
         .filter(Reflector::isValidPropertyName)
         .map(Reflector::setAccessible)
         .filter(Reflector::isAccessible)
-        .collect(Collectors.toMap(Field::getName, GetFieldInvoker::new,  (f1, f2) -> f1, () -> getMethods));
+        .collect(Collectors.toMap(Field::getName, Invokers::forField,  (f1, f2) -> f1, () -> getMethods));
         
         if (clazz.getSuperclass() != null) {
             addFields(clazz.getSuperclass());
@@ -198,6 +294,13 @@ public class Reflector {
     }
     
     public Optional<Invoker> getGetInvoker(String propertyName) {
-        return Optional.ofNullable(getMethods.get(propertyName));
+        Optional<Invoker> invoker = invokers.get(propertyName);
+        if (invoker != null) {
+            return invoker;
+        } else if (complete) {
+            return Optional.empty();
+        } else {
+            return invokers.computeIfAbsent(propertyName, this::resolve);
+        }
     }
 }
@@ -15,12 +15,27 @@
  */
 package org.mybatis.dynamic.sql.reflection;
 
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+/**
+ * Finds the Reflector for a class.  Reflectors are stored with a {@link ClassValue}, so a cached
+ * Reflector does not keep its class - or the class loader of a redeployed application - alive.
+ * The Reflectors are lazy, so only the properties that are read are looked up - except for
+ * classes passed to {@link #prewarm(Collection)}, which are scanned completely.  Creating a lazy
+ * Reflector does not touch the class, so when threads race on the same class the Reflectors that
+ * ClassValue discards have cost nothing.
+ */
 public class ReflectorFactory {
     private static ReflectorFactory instance = new ReflectorFactory();
-    private final ConcurrentMap<Class<?>, Reflector> reflectorMap = new ConcurrentHashMap<>();
+    private final ClassValue<Reflector> reflectors = new ClassValue<Reflector>() {
+        @Override
+        protected Reflector computeValue(Class<?> type) {
+            return Reflector.lazy(type);
+        }
+    };
 
     private ReflectorFactory() {
         super();
@@ -31,11 +46,21 @@ public class ReflectorFactory {
     }
     
     public Reflector findForClass(Class<?> type) {
-        Reflector cached = reflectorMap.get(type);
-        if (cached == null) {
-            cached = new Reflector(type);
-            reflectorMap.put(type, cached);
-        }
-        return cached;
+        return reflectors.get(type);
+    }
+
+    /**
+     * Builds the Reflectors for record classes in the background, so the first statements that
+     * read the records do not pay for scanning the classes.  Classes are scanned in parallel in
+     * the common fork join pool, and all of their properties are resolved.
+     * 
+     * @param types the classes to scan
+     * @return a future that completes when all the classes have been scanned
+     */
+    public CompletableFuture<Void> prewarm(Collection<Class<?>> types) {
+        List<Class<?>> copy = new ArrayList<>(types);
+        return CompletableFuture.runAsync(() -> copy.parallelStream()
+                .map(this::findForClass)
+                .forEach(Reflector::resolveAll));
     }
 }
@@ -0,0 +1,132 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.reflection.invoker;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Creates the fastest invoker available for a getter method or a field.
+ * 
+ * <p>For a getter method, a {@link LambdaInvoker} is generated with {@link LambdaMetafactory} if the
+ * generated class will be able to call the method - the method and its class must be public, and the
+ * class must be visible to the class loader of this library.  Otherwise a {@link MethodHandleInvoker}
+ * is used.  Fields are always read with a {@link MethodHandleInvoker}, because the metafactory only
+ * supports methods.  If a handle can't be created, the reflective invokers are used as before.
+ */
+public class Invokers {
+
+    private static final Logger log = Logger.getLogger(Invokers.class.getName());
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType FUNCTION_FACTORY_TYPE = MethodType.methodType(Function.class);
+    private static final MethodType APPLY_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private Invokers() {
+        super();
+    }
+
+    public static Invoker forGetter(Method method) {
+        if (Modifier.isStatic(method.getModifiers())) {
+            // static members ignore the target, which only reflection allows
+            return new MethodInvoker(method);
+        }
+
+        try {
+            MethodHandle handle = LOOKUP.unreflect(method);
+            if (canGenerateLambda(method)) {
+                Optional<Function<Object, Object>> function = generateFunction(handle);
+                if (function.isPresent()) {
+                    return new LambdaInvoker(function.get(), method.getDeclaringClass());
+                }
+            }
+            return new MethodHandleInvoker(handle, method.getDeclaringClass());
+        } catch (ReflectiveOperationException e) {
+            log.log(Level.FINEST, "Unable to create a method handle for " + method + ", using reflection", e); //$NON-NLS-1$ //$NON-NLS-2$
+            return new MethodInvoker(method);
+        }
+    }
+
+    public static Invoker forField(Field field) {
+        if (Modifier.isStatic(field.getModifiers())) {
+            return new GetFieldInvoker(field);
+        }
+
+        try {
+            return new MethodHandleInvoker(LOOKUP.unreflectGetter(field), field.getDeclaringClass());
+        } catch (IllegalAccessException e) {
+            log.log(Level.FINEST, "Unable to create a method handle for " + field + ", using reflection", e); //$NON-NLS-1$ //$NON-NLS-2$
+            return new GetFieldInvoker(field);
+        }
+    }
+
+    /**
+     * The generated class is defined in this library, and calls the method directly - so the method
+     * must be accessible from here and not only through the handle.
+     */
+    private static boolean canGenerateLambda(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        return Modifier.isPublic(method.getModifiers())
+                && Modifier.isPublic(declaringClass.getModifiers())
+                && isVisible(declaringClass);
+    }
+
+    /**
+     * Generated getters cast the target to the declaring class, so a target of the wrong type fails
+     * with a ClassCastException.  {@link Method#invoke(Object, Object...)} reports that with an
+     * IllegalArgumentException rather than as an exception thrown by the getter.
+     */
+    static void checkTarget(Throwable failure, Object target, Class<?> declaringClass) {
+        if (failure instanceof ClassCastException && !declaringClass.isInstance(target)) {
+            throw new IllegalArgumentException("Object is not an instance of " //$NON-NLS-1$
+                    + declaringClass.getName(), failure);
+        }
+    }
+
+    private static boolean isVisible(Class<?> type) {
+        try {
+            return Class.forName(type.getName(), false, Invokers.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Generating the class needs permissions that a security manager may deny, so any failure
+     * means the method handle is used instead.
+     */
+    @SuppressWarnings("unchecked")
+    @InvokesMethodHandle
+    private static Optional<Function<Object, Object>> generateFunction(MethodHandle handle) {
+        try {
+            CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "apply", FUNCTION_FACTORY_TYPE, //$NON-NLS-1$
+                    APPLY_TYPE, handle, handle.type().wrap());
+            return Optional.of((Function<Object, Object>) callSite.getTarget().invokeExact());
+        } catch (Throwable t) {
+            log.log(Level.FINEST, "Unable to generate a getter function for " + handle, t); //$NON-NLS-1$
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.reflection.invoker;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.function.Function;
+
+/**
+ * Invokes a getter through a {@link Function} generated with {@link java.lang.invoke.LambdaMetafactory}.
+ * Once compiled by the JIT, this is as fast as calling the getter directly.
+ * 
+ * <p>Exceptions thrown by the getter are wrapped in an {@link InvocationTargetException}, as they
+ * would be by {@link java.lang.reflect.Method#invoke(Object, Object...)}.  A target that is not an
+ * instance of the declaring class fails with an {@link IllegalArgumentException}, as it does there.
+ */
+public class LambdaInvoker implements Invoker {
+
+    private Function<Object, Object> getter;
+    private Class<?> declaringClass;
+
+    public LambdaInvoker(Function<Object, Object> getter, Class<?> declaringClass) {
+        this.getter = getter;
+        this.declaringClass = declaringClass;
+    }
+
+    @Override
+    public Object invoke(Object target, Object[] args) throws ReflectiveOperationException {
+        try {
+            return getter.apply(target);
+        } catch (Throwable t) {
+            Invokers.checkTarget(t, target, declaringClass);
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    @Override
+    public Class<?> getDeclaringClass() {
+        return declaringClass;
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.reflection.invoker;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Invokes a getter method, or reads a field, through a {@link MethodHandle}.  Access is checked
+ * once when the handle is created rather than on every call.
+ * 
+ * <p>Exceptions thrown by the getter are wrapped in an {@link InvocationTargetException}, as they
+ * would be by {@link java.lang.reflect.Method#invoke(Object, Object...)}.  A target that is not an
+ * instance of the declaring class fails with an {@link IllegalArgumentException}, as it does there.
+ */
+public class MethodHandleInvoker implements Invoker {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private MethodHandle getter;
+    private Class<?> declaringClass;
+
+    public MethodHandleInvoker(MethodHandle getter, Class<?> declaringClass) {
+        this.getter = getter.asType(GETTER_TYPE);
+        this.declaringClass = declaringClass;
+    }
+
+    @Override
+    @InvokesMethodHandle
+    public Object invoke(Object target, Object[] args) throws ReflectiveOperationException {
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (Throwable t) {
+            Invokers.checkTarget(t, target, declaringClass);
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    @Override
+    public Class<?> getDeclaringClass() {
+        return declaringClass;
+    }
+}
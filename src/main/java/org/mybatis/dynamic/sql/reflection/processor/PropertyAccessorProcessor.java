@@ -0,0 +1,210 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.reflection.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+
+import org.mybatis.dynamic.sql.reflection.PropertyAccessorFactory;
+import org.mybatis.dynamic.sql.reflection.Reflector;
+
+/**
+ * Generates a {@link org.mybatis.dynamic.sql.reflection.PropertyAccessor} for every class annotated
+ * with {@link org.mybatis.dynamic.sql.reflection.GenerateAccessor}.  The accessor calls the public
+ * getter methods of the class directly, so no reflection is needed to read the properties.
+ * Getters are found the same way the {@link Reflector} finds them - public, non static methods with
+ * no parameters named "getXxx", or "isXxx" if the method returns a boolean.
+ */
+@SupportedAnnotationTypes("org.mybatis.dynamic.sql.reflection.GenerateAccessor") //$NON-NLS-1$
+public class PropertyAccessorProcessor extends AbstractProcessor {
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (isAccessible(element)) {
+                    generateAccessor((TypeElement) element);
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean isAccessible(Element element) {
+        if (element.getKind() != ElementKind.CLASS) {
+            error(element, "@GenerateAccessor can only be used on classes"); //$NON-NLS-1$
+            return false;
+        }
+
+        for (Element e = element; e.getKind() != ElementKind.PACKAGE; e = e.getEnclosingElement()) {
+            if (e.getModifiers().contains(Modifier.PRIVATE)) {
+                error(element, "@GenerateAccessor cannot be used on a private class"); //$NON-NLS-1$
+                return false;
+            }
+            if (((TypeElement) e).getNestingKind() == NestingKind.MEMBER && !e.getModifiers().contains(Modifier.STATIC)
+                    && e != element) {
+                error(element, "@GenerateAccessor cannot be used on a class nested in an inner class"); //$NON-NLS-1$
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void generateAccessor(TypeElement type) {
+        String packageName = packageOf(type).getQualifiedName().toString();
+        String accessorName = PropertyAccessorFactory.accessorClassName(
+                processingEnv.getElementUtils().getBinaryName(type).toString());
+        String simpleName = accessorName.substring(accessorName.lastIndexOf('.') + 1);
+        String recordType = processingEnv.getTypeUtils().erasure(type.asType()).toString();
+        Map<String, Getter> getters = findGetters(type);
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(accessorName, type).openWriter();
+                PrintWriter out = new PrintWriter(writer)) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";"); //$NON-NLS-1$ //$NON-NLS-2$
+                out.println();
+            }
+            out.println("public final class " + simpleName //$NON-NLS-1$
+                    + " implements org.mybatis.dynamic.sql.reflection.PropertyAccessor<" + recordType + "> {"); //$NON-NLS-1$ //$NON-NLS-2$
+
+            for (Getter getter : getters.values()) {
+                out.println();
+                out.println("    public static " + getter.returnType + " " + getter.methodName //$NON-NLS-1$ //$NON-NLS-2$
+                        + "(" + recordType + " record) {"); //$NON-NLS-1$ //$NON-NLS-2$
+                out.println("        return record." + getter.methodName + "();"); //$NON-NLS-1$ //$NON-NLS-2$
+                out.println("    }"); //$NON-NLS-1$
+            }
+
+            out.println();
+            out.println("    @Override"); //$NON-NLS-1$
+            out.println("    public boolean hasProperty(String property) {"); //$NON-NLS-1$
+            out.println("        switch (property) {"); //$NON-NLS-1$
+            for (String property : getters.keySet()) {
+                out.println("        case \"" + property + "\":"); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+            if (!getters.isEmpty()) {
+                out.println("            return true;"); //$NON-NLS-1$
+            }
+            out.println("        default:"); //$NON-NLS-1$
+            out.println("            return false;"); //$NON-NLS-1$
+            out.println("        }"); //$NON-NLS-1$
+            out.println("    }"); //$NON-NLS-1$
+
+            out.println();
+            out.println("    @Override"); //$NON-NLS-1$
+            out.println("    public Object get(" + recordType + " record, String property) {"); //$NON-NLS-1$ //$NON-NLS-2$
+            out.println("        switch (property) {"); //$NON-NLS-1$
+            for (Map.Entry<String, Getter> entry : getters.entrySet()) {
+                out.println("        case \"" + entry.getKey() + "\":"); //$NON-NLS-1$ //$NON-NLS-2$
+                out.println("            return record." + entry.getValue().methodName + "();"); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+            out.println("        default:"); //$NON-NLS-1$
+            out.println("            return null;"); //$NON-NLS-1$
+            out.println("        }"); //$NON-NLS-1$
+            out.println("    }"); //$NON-NLS-1$
+            out.println("}"); //$NON-NLS-1$
+        } catch (IOException e) {
+            error(type, "Unable to write " + accessorName + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+    }
+
+    private Map<String, Getter> findGetters(TypeElement type) {
+        Map<String, Getter> getters = new LinkedHashMap<>();
+        DeclaredType declaredType = (DeclaredType) type.asType();
+        boolean generic = !type.getTypeParameters().isEmpty();
+
+        for (Element member : processingEnv.getElementUtils().getAllMembers(type)) {
+            if (member.getKind() != ElementKind.METHOD) {
+                continue;
+            }
+
+            ExecutableElement method = (ExecutableElement) member;
+            if (!method.getModifiers().contains(Modifier.PUBLIC) || method.getModifiers().contains(Modifier.STATIC)
+                    || !method.getParameters().isEmpty()) {
+                continue;
+            }
+
+            TypeMirror returnType = ((ExecutableType) processingEnv.getTypeUtils()
+                    .asMemberOf(declaredType, method)).getReturnType();
+            if (generic || returnType.getKind() == TypeKind.TYPEVAR) {
+                returnType = processingEnv.getTypeUtils().erasure(returnType);
+            }
+
+            String methodName = method.getSimpleName().toString();
+            String property;
+            if (methodName.startsWith("is") && methodName.length() > 2 //$NON-NLS-1$
+                    && returnType.getKind() == TypeKind.BOOLEAN) {
+                property = Reflector.fixPropertyCase(methodName.substring(2));
+                getters.put(property, new Getter(methodName, returnType.toString()));
+            } else if (methodName.startsWith("get") && methodName.length() > 3 //$NON-NLS-1$
+                    && returnType.getKind() != TypeKind.VOID) {
+                property = Reflector.fixPropertyCase(methodName.substring(3));
+                if (!"class".equals(property)) { //$NON-NLS-1$
+                    getters.putIfAbsent(property, new Getter(methodName, returnType.toString()));
+                }
+            }
+        }
+        return getters;
+    }
+
+    private PackageElement packageOf(Element element) {
+        Element e = element;
+        while (e.getKind() != ElementKind.PACKAGE) {
+            e = e.getEnclosingElement();
+        }
+        return (PackageElement) e;
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private static class Getter {
+        private String methodName;
+        private String returnType;
+
+        private Getter(String methodName, String returnType) {
+            this.methodName = methodName;
+            this.returnType = returnType;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.reflection.property;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.mybatis.dynamic.sql.reflection.PropertyAccessor;
+import org.mybatis.dynamic.sql.reflection.PropertyAccessorFactory;
+import org.mybatis.dynamic.sql.reflection.ReflectionException;
+import org.mybatis.dynamic.sql.reflection.ReflectorFactory;
+import org.mybatis.dynamic.sql.reflection.invoker.Invoker;
+
+/**
+ * A property path like "address.lines[0]" that is parsed once and then used to read values
+ * from any number of objects.
+ * 
+ * <p>Each step of the path remembers how it reads the property from each class it sees - through
+ * a generated {@link PropertyAccessor}, or through an invoker from the Reflector - so reading the same
+ * path from objects of the same classes does not allocate.  The readers are held in a {@link ClassValue},
+ * so a cached path does not keep the classes it has read from, or their class loaders, from being unloaded.
+ * Index steps parse a numeric index once.  Paths are cached by {@link #of(String)}, property names in an
+ * application are a small fixed set so the cache is not bounded.
+ */
+public class PropertyPath {
+
+    private static final Logger log = Logger.getLogger(PropertyPath.class.getName());
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+    private static final ConcurrentMap<String, PropertyPath> paths = new ConcurrentHashMap<>();
+
+    private Step[] steps;
+
+    private PropertyPath(String path) {
+        List<Step> stepList = new ArrayList<>();
+        for (String segment : path.split("\\.", -1)) { //$NON-NLS-1$
+            stepList.add(Step.of(segment));
+        }
+        steps = stepList.toArray(new Step[stepList.size()]);
+    }
+
+    public static PropertyPath of(String path) {
+        PropertyPath propertyPath = paths.get(path);
+        if (propertyPath == null) {
+            propertyPath = paths.computeIfAbsent(path, PropertyPath::new);
+        }
+        return propertyPath;
+    }
+
+    /**
+     * Reads the value at the end of the path.
+     * 
+     * @param object the object to start from
+     * @return the value, or null if the object or any value along the path is null
+     */
+    public Object getValue(Object object) {
+        Object value = object;
+        for (int i = 0; i < steps.length && value != null; i++) {
+            value = steps[i].getValue(value);
+        }
+        return value;
+    }
+
+    private static class Step {
+        private String name;
+        private String index;
+        private int position;
+        private ClassValue<PropertyReader> readers = new ClassValue<PropertyReader>() {
+            @Override
+            protected PropertyReader computeValue(Class<?> type) {
+                return PropertyReader.resolve(type, name);
+            }
+        };
+
+        private Step(String name, String index, int position) {
+            this.name = name;
+            this.index = index;
+            this.position = position;
+        }
+
+        private static Step of(String segment) {
+            int delim = segment.indexOf('[');
+            if (delim < 0) {
+                return new Step(segment, null, -1);
+            }
+
+            String index = segment.substring(delim + 1, segment.length() - 1);
+            return new Step(segment.substring(0, delim), index, parsePosition(index));
+        }
+
+        private static int parsePosition(String index) {
+            try {
+                return Integer.parseInt(index);
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+
+        private Object getValue(Object object) {
+            Object value = readProperty(object);
+            if (index == null || value == null) {
+                return value;
+            }
+            return readIndex(value);
+        }
+
+        private Object readProperty(Object object) {
+            if (object instanceof Map) {
+                return ((Map<?, ?>) object).get(name);
+            }
+
+            return readers.get(object.getClass()).read(object, name);
+        }
+
+        private Object readIndex(Object collection) {
+            if (collection instanceof Map) {
+                return ((Map<?, ?>) collection).get(index);
+            } else if (position < 0) {
+                throw new ReflectionException(
+                        "The index '" + index + "' of the '" + name + "' property is not a number."); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            } else if (collection instanceof List) {
+                return ((List<?>) collection).get(position);
+            } else if (collection.getClass().isArray()) {
+                return Array.get(collection, position);
+            } else {
+                throw new ReflectionException(
+                        "The '" + name + "' property of " + collection + " is not a List or Array."); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            }
+        }
+    }
+
+    /**
+     * Reads one property from objects of one class.
+     */
+    private static class PropertyReader {
+        private PropertyAccessor<Object> accessor;
+        private Invoker invoker;
+
+        private PropertyReader(PropertyAccessor<Object> accessor, Invoker invoker) {
+            this.accessor = accessor;
+            this.invoker = invoker;
+        }
+
+        private static PropertyReader resolve(Class<?> type, String name) {
+            Optional<PropertyAccessor<Object>> accessor = PropertyAccessorFactory.instance().findForClass(type);
+            if (accessor.isPresent() && accessor.get().hasProperty(name)) {
+                return new PropertyReader(accessor.get(), null);
+            }
+
+            // the class is only scanned for properties the generated accessor cannot read
+            Invoker invoker = ReflectorFactory.instance().findForClass(type).getGetInvoker(name).orElse(null);
+            return new PropertyReader(null, invoker);
+        }
+
+        private Object read(Object object, String name) {
+            if (accessor != null) {
+                return readWithAccessor(object, name);
+            } else if (invoker == null) {
+                return null;
+            }
+
+            try {
+                return invoker.invoke(object, NO_ARGUMENTS);
+            } catch (ReflectiveOperationException e) {
+                log.log(Level.WARNING, "Invoker exception while retrieving property value, returning null", e); //$NON-NLS-1$
+                return null;
+            }
+        }
+
+        // generated accessors call the getter directly, so a failing getter is handled as it is for an invoker
+        private Object readWithAccessor(Object object, String name) {
+            try {
+                return accessor.get(object, name);
+            } catch (RuntimeException e) {
+                log.log(Level.WARNING, "Accessor exception while retrieving property value, returning null", e); //$NON-NLS-1$
+                return null;
+            }
+        }
+    }
+}
@@ -16,9 +16,13 @@
 package org.mybatis.dynamic.sql.reflection.property;
 
 /**
+ * @deprecated property paths are read with {@link org.mybatis.dynamic.sql.reflection.property.PropertyPath},
+ *     this class is no longer used and will be removed.
+ * 
  * @author Clinton Begin (initial work)
  * @author Jeff Butler (derivation)
  */
+@Deprecated
 public class PropertyTokenizer {
     private String name;
     private String indexedName;
@@ -25,9 +25,13 @@ import org.mybatis.dynamic.sql.reflection.invoker.Invoker;
 import org.mybatis.dynamic.sql.reflection.property.PropertyTokenizer;
 
 /**
+ * @deprecated property paths are read with {@link org.mybatis.dynamic.sql.reflection.property.PropertyPath},
+ *     this class is no longer used and will be removed.
+ * 
  * @author Clinton Begin (original work)
  * @author Jeff Butler (derivation)
  */
+@Deprecated
 public class BeanWrapper extends ObjectWrapper {
     
     private static final Logger log = Logger.getLogger(BeanWrapper.class.getName());
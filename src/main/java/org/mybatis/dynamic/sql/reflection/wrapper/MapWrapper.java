@@ -21,9 +21,13 @@ import org.mybatis.dynamic.sql.reflection.MetaObject;
 import org.mybatis.dynamic.sql.reflection.property.PropertyTokenizer;
 
 /**
+ * @deprecated property paths are read with {@link org.mybatis.dynamic.sql.reflection.property.PropertyPath},
+ *     this class is no longer used and will be removed.
+ * 
  * @author Clinton Begin (initial work)
  * @author Jeff Butler (derivation)
  */
+@Deprecated
 public class MapWrapper extends ObjectWrapper {
 
     private Map<String, Object> map;
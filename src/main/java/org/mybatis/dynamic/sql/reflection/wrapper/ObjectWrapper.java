@@ -24,9 +24,13 @@ import org.mybatis.dynamic.sql.reflection.ReflectionException;
 import org.mybatis.dynamic.sql.reflection.property.PropertyTokenizer;
 
 /**
+ * @deprecated property paths are read with {@link org.mybatis.dynamic.sql.reflection.property.PropertyPath},
+ *     this class is no longer used and will be removed.
+ * 
  * @author Clinton Begin (initial work)
  * @author Jeff Butler (derivation)
  */
+@Deprecated
 public abstract class ObjectWrapper {
 
     protected static final Object[] NO_ARGUMENTS = new Object[0];
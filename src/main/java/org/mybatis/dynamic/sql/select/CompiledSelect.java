@@ -0,0 +1,57 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import java.util.Map;
+
+import org.mybatis.dynamic.sql.util.ParameterBinder;
+
+/**
+ * A select statement that has been rendered once, and can be bound to new parameter values
+ * many times.  Binding does not create criteria or conditions, and does not render any SQL - it only
+ * creates a new parameter map.
+ * 
+ * <p>This class is immutable and may be shared between threads.
+ */
+public class CompiledSelect {
+
+    private SelectSupport selectSupport;
+    private ParameterBinder parameterBinder;
+
+    private CompiledSelect(SelectSupport selectSupport) {
+        this.selectSupport = selectSupport;
+        parameterBinder = ParameterBinder.of(selectSupport.getParameters());
+    }
+
+    public SelectSupport bind(Map<String, ?> bindValues) {
+        return selectSupport.withParameters(parameterBinder.bind(bindValues));
+    }
+
+    /**
+     * Binds values by position.  Values are matched to bind parameters in the order that the
+     * bind parameters first appear in the statement.
+     * 
+     * @param bindValues the values to bind
+     * @return a new SelectSupport with the bound values
+     */
+    public SelectSupport bind(Object...bindValues) {
+        return selectSupport.withParameters(parameterBinder.bind(bindValues));
+    }
+
+    public static CompiledSelect of(SelectSupport selectSupport) {
+        return new CompiledSelect(selectSupport);
+    }
+}
@@ -15,25 +15,42 @@
  */
 package org.mybatis.dynamic.sql.select;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import org.mybatis.dynamic.sql.AbstractSqlSupport;
+import org.mybatis.dynamic.sql.Binding;
 import org.mybatis.dynamic.sql.SqlTable;
 
 public class SelectSupport extends AbstractSqlSupport {
     
     private static final String DISTINCT_STRING = "distinct"; //$NON-NLS-1$
 
-    private String columnList;
-    private String whereClause;
-    private Map<String, Object> parameters = new HashMap<>();
-    private String distinct;
-    private String orderByClause;
+    private final String columnList;
+    private final String whereClause;
+    private final Map<String, Object> parameters;
+    private final String distinct;
+    private final String orderByClause;
     
-    private SelectSupport(SqlTable table) {
-        super(table);
+    private SelectSupport(Builder builder) {
+        super(builder.table, builder.bindings);
+        columnList = builder.columnList;
+        whereClause = builder.whereClause;
+        parameters = builder.parameters;
+        distinct = builder.distinct;
+        orderByClause = builder.orderByClause;
+    }
+
+    private SelectSupport(SelectSupport source, Map<String, Object> parameters) {
+        super(source);
+        columnList = source.columnList;
+        whereClause = source.whereClause;
+        this.parameters = parameters;
+        distinct = source.distinct;
+        orderByClause = source.orderByClause;
     }
     
     public String getDistinct() {
@@ -69,20 +86,38 @@ public class SelectSupport extends AbstractSqlSupport {
     }
     
     public String getFullSelectStatement() {
-        return "select " //$NON-NLS-1$
-                + distinct().map(d -> d + ONE_SPACE).orElse(EMPTY_STRING)
-                + getColumnList()
-                + " from " //$NON-NLS-1$
-                + tableNameIncludingAlias()
-                + whereClause().map(w -> ONE_SPACE + w).orElse(EMPTY_STRING)
-                + orderByClause().map(o -> ONE_SPACE + o).orElse(EMPTY_STRING);
+        return fullStatement();
+    }
+    
+    @Override
+    protected String renderFullStatement() {
+        String tableName = tableNameIncludingAlias();
+        StringBuilder buffer = new StringBuilder(16 + length(distinct) + columnList.length() + tableName.length()
+                + length(whereClause) + length(orderByClause));
+        buffer.append("select "); //$NON-NLS-1$
+        if (distinct != null) {
+            buffer.append(distinct).append(ONE_SPACE);
+        }
+        buffer.append(columnList).append(" from ").append(tableName); //$NON-NLS-1$
+        if (whereClause != null) {
+            buffer.append(ONE_SPACE).append(whereClause);
+        }
+        if (orderByClause != null) {
+            buffer.append(ONE_SPACE).append(orderByClause);
+        }
+        return buffer.toString();
+    }
+    
+    SelectSupport withParameters(Map<String, Object> parameters) {
+        return new SelectSupport(this, parameters);
     }
     
     public static class Builder {
         private String distinct;
         private String orderByClause;
         private String whereClause;
-        private Map<String, Object> parameters = new HashMap<>();
+        private Map<String, Object> parameters = Collections.emptyMap();
+        private List<Binding> bindings = Collections.emptyList();
         private String columnList;
         private SqlTable table;
         
@@ -102,7 +137,27 @@ public class SelectSupport extends AbstractSqlSupport {
         }
         
         public Builder withParameters(Map<String, Object> parameters) {
-            this.parameters.putAll(parameters);
+            Map<String, Object> copy = new HashMap<>(this.parameters);
+            copy.putAll(parameters);
+            this.parameters = copy;
+            return this;
+        }
+        
+        /**
+         * Uses the map as the statement parameters without copying it. The where clause
+         * renders its parameters into a map that belongs to the statement, so the copy
+         * made by {@link #withParameters(Map)} is not needed on that path.
+         * 
+         * @param parameters the statement parameters
+         * @return this builder
+         */
+        Builder adoptParameters(Map<String, Object> parameters) {
+            this.parameters = parameters;
+            return this;
+        }
+        
+        public Builder withBindings(List<Binding> bindings) {
+            this.bindings = bindings;
             return this;
         }
         
@@ -116,13 +171,7 @@ public class SelectSupport extends AbstractSqlSupport {
             return this;
         }
         public SelectSupport build() {
-            SelectSupport selectSupport = new SelectSupport(table);
-            selectSupport.distinct = distinct;
-            selectSupport.orderByClause = orderByClause;
-            selectSupport.whereClause = whereClause;
-            selectSupport.parameters = parameters;
-            selectSupport.columnList = columnList;
-            return selectSupport;
+            return new SelectSupport(this);
         }
     }
 }
@@ -19,6 +19,7 @@ import java.util.Arrays;
 import java.util.stream.Collectors;
 
 import org.mybatis.dynamic.sql.Condition;
+import org.mybatis.dynamic.sql.RenderingStrategy;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlCriterion;
 import org.mybatis.dynamic.sql.SqlTable;
@@ -28,6 +29,7 @@ import org.mybatis.dynamic.sql.where.WhereSupport;
 public class SelectSupportBuilder {
 
     private SelectSupport.Builder builder = new SelectSupport.Builder();
+    private SelectSupportWhereBuilder whereBuilder;
 
     private SelectSupportBuilder() {
         super();
@@ -54,6 +56,16 @@ public class SelectSupportBuilder {
                 .collect(Collectors.joining(", ", "order by ", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
     }
 
+    private SelectSupport build(RenderingStrategy renderingStrategy) {
+        if (whereBuilder != null) {
+            WhereSupport whereSupport = whereBuilder.renderCriteriaIncludingTableAlias(renderingStrategy);
+            builder.adoptParameters(whereSupport.getParameters())
+                .withBindings(whereSupport.getBindings())
+                .withWhereClause(whereSupport.getWhereClause());
+        }
+        return builder.build();
+    }
+    
     public static SelectSupportBuilder of(SqlColumn<?>...columns) {
         return new SelectSupportBuilder(columns);
     }
@@ -76,7 +88,8 @@ public class SelectSupportBuilder {
         }
         
         public <T> SelectSupportWhereBuilder where(SqlColumn<T> column, Condition<T> condition, SqlCriterion<?>...subCriteria) {
-            return new SelectSupportWhereBuilder(column, condition, subCriteria);
+            whereBuilder = new SelectSupportWhereBuilder(column, condition, subCriteria);
+            return whereBuilder;
         }
 
         public SelectSupportAfterOrderByBuilder orderBy(SqlColumn<?>...columns) {
@@ -85,7 +98,15 @@ public class SelectSupportBuilder {
         }
         
         public SelectSupport build() {
-            return builder.build();
+            return build(RenderingStrategy.NAMED);
+        }
+        
+        public SelectSupport build(RenderingStrategy renderingStrategy) {
+            return SelectSupportBuilder.this.build(renderingStrategy);
+        }
+        
+        public CompiledSelect compile() {
+            return CompiledSelect.of(build());
         }
     }
     
@@ -95,22 +116,22 @@ public class SelectSupportBuilder {
         }
         
         public SelectSupportAfterOrderByBuilder orderBy(SqlColumn<?>...columns) {
-            buildWhereSupport();
             builder.withOrderByClause(calculateOrderByPhrase(columns));
             return new SelectSupportAfterOrderByBuilder();
         }
         
         public SelectSupport build() {
-            buildWhereSupport();
-            return builder.build();
+            return build(RenderingStrategy.NAMED);
         }
         
-        private void buildWhereSupport() {
-            WhereSupport whereSupport = renderCriteriaIncludingTableAlias();
-            builder.withParameters(whereSupport.getParameters())
-                .withWhereClause(whereSupport.getWhereClause());
+        public SelectSupport build(RenderingStrategy renderingStrategy) {
+            return SelectSupportBuilder.this.build(renderingStrategy);
         }
-
+        
+        public CompiledSelect compile() {
+            return CompiledSelect.of(build());
+        }
+        
         @Override
         protected SelectSupportWhereBuilder getThis() {
             return this;
@@ -123,7 +144,15 @@ public class SelectSupportBuilder {
         }
         
         public SelectSupport build() {
-            return builder.build();
+            return build(RenderingStrategy.NAMED);
+        }
+        
+        public SelectSupport build(RenderingStrategy renderingStrategy) {
+            return SelectSupportBuilder.this.build(renderingStrategy);
+        }
+        
+        public CompiledSelect compile() {
+            return CompiledSelect.of(build());
         }
     }
 }
@@ -15,40 +15,104 @@
  */
 package org.mybatis.dynamic.sql.update;
 
+import java.util.List;
+import java.util.Map;
+
+import org.mybatis.dynamic.sql.BindParameter;
+import org.mybatis.dynamic.sql.RenderingStrategy;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+import org.mybatis.dynamic.sql.util.OrdinalParameterMap;
+import org.mybatis.dynamic.sql.util.RenderingContext;
 
 public class SetColumnAndValue<T> {
-    private FragmentAndParameters fragmentAndParameters;
+    private static final String PARAMETERS_PREFIX = "parameters"; //$NON-NLS-1$
+    private static final String NULL = "null"; //$NON-NLS-1$
+
+    private SqlColumn<T> column;
+    private String constant;
+    private String mapKey;
+    private Object value;
     
-    private SetColumnAndValue(SqlColumn<T> column, T value, int uniqueId) {
-        String mapKey = "up" + uniqueId; //$NON-NLS-1$
-        String jdbcPlaceholder = column.getFormattedJdbcPlaceholder("parameters", mapKey); //$NON-NLS-1$
-        String setPhrase = column.name() + " = " + jdbcPlaceholder; //$NON-NLS-1$
-        
-        fragmentAndParameters = new FragmentAndParameters.Builder(setPhrase) //$NON-NLS-1$)
-                .withParameter(mapKey, value)
-                .build();
+    private SetColumnAndValue(SqlColumn<T> column, Object value, int uniqueId) {
+        this.column = column;
+        mapKey = OrdinalParameterMap.updateParameterKey(uniqueId);
+        this.value = value;
     }
     
     private SetColumnAndValue(SqlColumn<T> column) {
-        fragmentAndParameters = new FragmentAndParameters.Builder(column.name() + " = null") //$NON-NLS-1$)
-                .build();
+        this(column, NULL);
     }
     
     private SetColumnAndValue(SqlColumn<T> column, String constant) {
-        fragmentAndParameters = new FragmentAndParameters.Builder(column.name() + " = " + constant) //$NON-NLS-1$)
-                .build();
+        this.column = column;
+        this.constant = constant;
+    }
+    
+    /**
+     * The set phrase is only built when it is rendered, so nothing is concatenated when
+     * the set clause is found in a shape cache.
+     */
+    private String setPhrase() {
+        if (mapKey == null) {
+            return column.name() + " = " + constant; //$NON-NLS-1$
+        }
+        return column.name() + " = " + column.getFormattedJdbcPlaceholder(PARAMETERS_PREFIX, mapKey); //$NON-NLS-1$
     }
     
     public FragmentAndParameters fragmentAndParameters() {
-        return fragmentAndParameters;
+        FragmentAndParameters.Builder builder = new FragmentAndParameters.Builder(setPhrase());
+        if (mapKey != null) {
+            builder.withParameter(mapKey, value);
+        }
+        return builder.build();
+    }
+    
+    public void render(RenderingContext context) {
+        if (mapKey == null) {
+            context.append(setPhrase());
+        } else if (context.renderingStrategy() == RenderingStrategy.POSITIONAL) {
+            context.append(column.name())
+                .append(" = ") //$NON-NLS-1$
+                .append(context.bindParameter(column, PARAMETERS_PREFIX, mapKey, value));
+        } else {
+            context.append(setPhrase());
+            context.parameters().put(mapKey, value);
+        }
+    }
+    
+    /**
+     * Places the parameter of this set phrase, if there is one, in the parameter map without
+     * rendering anything.  This is used when the set clause is found in a shape cache.
+     * 
+     * @param parameters the parameter map
+     */
+    public void renderParameter(Map<String, Object> parameters) {
+        if (mapKey != null) {
+            parameters.put(mapKey, value);
+        }
+    }
+    
+    /**
+     * Adds the shape of this set phrase to a shape cache key.  Columns do not override equals,
+     * so they are compared by identity.  Parameter keys are numbered in the order that values
+     * are set, so the same columns in the same order always render the same keys.
+     * 
+     * @param shape the shape of the set clause
+     */
+    public void addShape(List<Object> shape) {
+        shape.add(column);
+        shape.add(constant);
     }
     
     public static <T> SetColumnAndValue<T> of(SqlColumn<T> column, T value, int uniqueId) {
         return new SetColumnAndValue<>(column, value, uniqueId);
     }
 
+    public static <T> SetColumnAndValue<T> of(SqlColumn<T> column, BindParameter<T> bindParameter, int uniqueId) {
+        return new SetColumnAndValue<>(column, bindParameter, uniqueId);
+    }
+
     public static <T> SetColumnAndValue<T> of(SqlColumn<T> column, String constant) {
         return new SetColumnAndValue<>(column, constant);
     }
@@ -56,4 +120,4 @@ public class SetColumnAndValue<T> {
     public static <T> SetColumnAndValue<T> of(SqlColumn<T> column) {
         return new SetColumnAndValue<>(column);
     }
-}
\ No newline at end of file
+}
@@ -17,29 +17,42 @@ package org.mybatis.dynamic.sql.update;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import org.mybatis.dynamic.sql.AbstractSqlSupport;
+import org.mybatis.dynamic.sql.Binding;
 import org.mybatis.dynamic.sql.SqlTable;
 
 /**
  * This class combines a "set" clause and a "where" clause into one parameter object
  * that can be sent to a MyBatis3 mapper method.
  * 
+ * <p>The set clause and the where clause render their parameters into one map,
+ * which the update support built by {@link UpdateSupportBuilder} uses directly rather than copying.
+ * 
  * @author Jeff Butler
  *
  */
 public class UpdateSupport extends AbstractSqlSupport {
-    private String setClause;
-    private String whereClause;
-    private Map<String, Object> parameters;
+    private final String setClause;
+    private final String whereClause;
+    private final Map<String, Object> parameters;
 
-    private UpdateSupport (String setClause, String whereClause, Map<String, Object> parameters, SqlTable table) {
-        super(table);
+    private UpdateSupport (String setClause, String whereClause, Map<String, Object> parameters,
+            List<Binding> bindings, SqlTable table) {
+        super(table, Collections.unmodifiableList(bindings));
         this.setClause = setClause;
         this.whereClause = whereClause;
-        this.parameters = Collections.unmodifiableMap(new HashMap<>(parameters));
+        this.parameters = Collections.unmodifiableMap(parameters);
+    }
+
+    private UpdateSupport(UpdateSupport source, Map<String, Object> parameters) {
+        super(source);
+        setClause = source.setClause;
+        whereClause = source.whereClause;
+        this.parameters = Collections.unmodifiableMap(parameters);
     }
 
     public String getSetClause() {
@@ -59,14 +72,40 @@ public class UpdateSupport extends AbstractSqlSupport {
     }
 
     public String getFullUpdateStatement() {
-        return "update " //$NON-NLS-1$
-                + tableName()
-                + ONE_SPACE
-                + getSetClause()
-                + whereClause().map(w -> ONE_SPACE + w).orElse(EMPTY_STRING);
+        return fullStatement();
+    }
+    
+    @Override
+    protected String renderFullStatement() {
+        String tableName = tableName();
+        StringBuilder buffer = new StringBuilder(8 + tableName.length() + setClause.length() + length(whereClause));
+        buffer.append("update ").append(tableName).append(ONE_SPACE).append(setClause); //$NON-NLS-1$
+        if (whereClause != null) {
+            buffer.append(ONE_SPACE).append(whereClause);
+        }
+        return buffer.toString();
+    }
+    
+    UpdateSupport withParameters(Map<String, Object> parameters) {
+        return new UpdateSupport(this, parameters);
     }
     
     public static UpdateSupport of(String setClause, String whereClause, Map<String, Object> parameters, SqlTable table) {
-        return new UpdateSupport(setClause, whereClause, parameters, table);
+        return of(setClause, whereClause, parameters, Collections.emptyList(), table);
+    }
+    
+    public static UpdateSupport of(String setClause, String whereClause, Map<String, Object> parameters,
+            List<Binding> bindings, SqlTable table) {
+        return new UpdateSupport(setClause, whereClause, new HashMap<>(parameters), bindings, table);
+    }
+
+    /**
+     * Uses the map as the statement parameters without copying it. The builder renders the
+     * parameters into a map that belongs to the statement, so the copy made by
+     * {@link #of(String, String, Map, List, SqlTable)} is not needed on that path.
+     */
+    static UpdateSupport adopt(String setClause, String whereClause, Map<String, Object> parameters,
+            List<Binding> bindings, SqlTable table) {
+        return new UpdateSupport(setClause, whereClause, parameters, bindings, table);
     }
 }
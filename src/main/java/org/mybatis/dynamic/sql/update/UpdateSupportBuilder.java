@@ -16,17 +16,18 @@
 package org.mybatis.dynamic.sql.update;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
+import org.mybatis.dynamic.sql.BindParameter;
 import org.mybatis.dynamic.sql.Condition;
+import org.mybatis.dynamic.sql.RenderingStrategy;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlCriterion;
 import org.mybatis.dynamic.sql.SqlTable;
-import org.mybatis.dynamic.sql.util.FragmentCollector;
+import org.mybatis.dynamic.sql.util.RenderingContext;
 import org.mybatis.dynamic.sql.where.AbstractWhereBuilder;
+import org.mybatis.dynamic.sql.where.ShapeCache;
 import org.mybatis.dynamic.sql.where.WhereSupport;
 
 public class UpdateSupportBuilder {
@@ -34,6 +35,7 @@ public class UpdateSupportBuilder {
     private int id = 1;
     private List<SetColumnAndValue<?>> columnsAndValues = new ArrayList<>();
     private SqlTable table;
+    private ShapeCache shapeCache;
     
     private UpdateSupportBuilder(SqlTable table) {
         this.table = table;
@@ -47,6 +49,19 @@ public class UpdateSupportBuilder {
         return new UpdateSupportWhereBuilder(column, condition, subCriteria);
     }
     
+    /**
+     * Use the shape cache to look up the rendered set clause.  If the same columns have been set
+     * in the same way before - including the same "when present" values being present - the cached
+     * set clause is reused and only the parameters are collected.
+     * 
+     * @param shapeCache the cache to use
+     * @return this builder
+     */
+    public UpdateSupportBuilder withShapeCache(ShapeCache shapeCache) {
+        this.shapeCache = shapeCache;
+        return this;
+    }
+    
     /**
      * WARNING! Calling this method will result in an update statement that updates
      * all rows in a table.
@@ -54,15 +69,55 @@ public class UpdateSupportBuilder {
      * @return
      */
     public UpdateSupport build() {
-        FragmentCollector setValuesCollector = renderSetValues();
-        return UpdateSupport.of(setValuesCollector.fragments().collect(Collectors.joining(", ", "set ", "")), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-                null, setValuesCollector.parameters(), table);
+        return build(RenderingStrategy.NAMED);
+    }
+    
+    /**
+     * WARNING! Calling this method will result in an update statement that updates
+     * all rows in a table.
+     * 
+     * @param renderingStrategy how parameters are rendered
+     * @return
+     */
+    public UpdateSupport build(RenderingStrategy renderingStrategy) {
+        // set values are numbered as they are added, so no sequence is needed
+        RenderingContext context = RenderingContext.of(renderingStrategy, null, id - 1);
+        String setClause = renderSetValues(context, Optional.ofNullable(shapeCache));
+        return UpdateSupport.adopt(setClause, null, context.parameters(), context.bindings(), table);
+    }
+    
+    public CompiledUpdate compile() {
+        return CompiledUpdate.of(build());
     }
     
-    private FragmentCollector renderSetValues() {
-        return columnsAndValues.stream()
-                .map(SetColumnAndValue::fragmentAndParameters)
-                .collect(FragmentCollector.fragmentAndParameterCollector());
+    private String renderSetValues(RenderingContext context, Optional<ShapeCache> cache) {
+        // positional bindings are not collected on a cache hit, so the cache is only used for named parameters
+        if (!cache.isPresent() || context.renderingStrategy() != RenderingStrategy.NAMED) {
+            return renderSetValues(context);
+        }
+        
+        List<Object> shape = new ArrayList<>(columnsAndValues.size() * 2);
+        columnsAndValues.forEach(c -> c.addShape(shape));
+        Optional<String> setClause = cache.get().getSetClause(shape);
+        if (setClause.isPresent()) {
+            columnsAndValues.forEach(c -> c.renderParameter(context.parameters()));
+            return setClause.get();
+        }
+        
+        String renderedSetClause = renderSetValues(context);
+        cache.get().putSetClause(shape, renderedSetClause);
+        return renderedSetClause;
+    }
+    
+    private String renderSetValues(RenderingContext context) {
+        context.append("set "); //$NON-NLS-1$
+        for (int i = 0; i < columnsAndValues.size(); i++) {
+            if (i > 0) {
+                context.append(", "); //$NON-NLS-1$
+            }
+            columnsAndValues.get(i).render(context);
+        }
+        return context.sql();
     }
     
     public static UpdateSupportBuilder of(SqlTable table) {
@@ -92,6 +147,11 @@ public class UpdateSupportBuilder {
             return UpdateSupportBuilder.this;
         }
 
+        public UpdateSupportBuilder equalTo(BindParameter<T> bindParameter) {
+            columnsAndValues.add(SetColumnAndValue.of(column, bindParameter, id++));
+            return UpdateSupportBuilder.this;
+        }
+
         public UpdateSupportBuilder equalToWhenPresent(T value) {
             if (value != null) {
                 columnsAndValues.add(SetColumnAndValue.of(column, value, id++));
@@ -107,13 +167,21 @@ public class UpdateSupportBuilder {
         }
         
         public UpdateSupport build() {
-            Map<String, Object> parameters = new HashMap<>();
-            FragmentCollector setValuesCollector = renderSetValues();
-            WhereSupport whereSupport = renderCriteriaIgnoringTableAlias();
-            parameters.putAll(setValuesCollector.parameters());
-            parameters.putAll(whereSupport.getParameters());
-            return UpdateSupport.of(setValuesCollector.fragments().collect(Collectors.joining(", ", "set ", "")), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-                    whereSupport.getWhereClause(), parameters, table);
+            return build(RenderingStrategy.NAMED);
+        }
+        
+        public UpdateSupport build(RenderingStrategy renderingStrategy) {
+            RenderingContext context = RenderingContext.of(renderingStrategy, null, id - 1 + parameterCount());
+            // a shape cache may be set on either builder
+            Optional<ShapeCache> cache = shapeCache();
+            String setClause = renderSetValues(context, cache.isPresent() ? cache : Optional.ofNullable(shapeCache));
+            WhereSupport whereSupport = renderCriteriaIgnoringTableAlias(context);
+            return UpdateSupport.adopt(setClause, whereSupport.getWhereClause(), context.parameters(),
+                    context.bindings(), table);
+        }
+        
+        public CompiledUpdate compile() {
+            return CompiledUpdate.of(build());
         }
         
         @Override
@@ -15,7 +15,7 @@
  */
 package org.mybatis.dynamic.sql.util;
 
-import org.mybatis.dynamic.sql.reflection.MetaObject;
+import org.mybatis.dynamic.sql.reflection.property.PropertyPath;
 
 public class BeanPropertyGetter {
 
@@ -30,7 +30,6 @@ public class BeanPropertyGetter {
     }
     
     public Object getPropertyValue(Object bean, String property) {
-        MetaObject metaObject = MetaObject.forObject(bean);
-        return metaObject.getValue(property);
+        return PropertyPath.of(property).getValue(bean);
     }
 }
@@ -0,0 +1,389 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A parameter map specialized for the keys generated by the library.
+ *
+ * <p>Condition parameters are always named "p" followed by a sequence number, and update
+ * parameters "up" followed by a sequence number.  This map stores the values for those keys
+ * in arrays indexed by the sequence number, so no hashing or entry objects are required.
+ * Any other key is stored in an ordinary hash map.  The map supports the full {@link Map}
+ * contract, including null values, so it can be used anywhere a HashMap was used before -
+ * for example by MyBatis OGNL expressions or Spring's NamedParameterJdbcTemplate.
+ *
+ * <p>Key strings for the first few hundred parameters are created once and shared. Use
+ * {@link #parameterKey(int)} and {@link #updateParameterKey(int)} to create keys.
+ *
+ * <p>Iteration order is the "up" keys in sequence order, then the "p" keys in sequence order,
+ * then any other keys in no particular order.
+ *
+ * <p>This class is not thread safe.
+ */
+public class OrdinalParameterMap extends AbstractMap<String, Object> {
+
+    private static final String PARAMETER_PREFIX = "p"; //$NON-NLS-1$
+    private static final String UPDATE_PARAMETER_PREFIX = "up"; //$NON-NLS-1$
+    private static final int SHARED_KEYS = 512;
+    private static final int MINIMUM_GROWTH_LIMIT = 1024;
+    private static final String[] PARAMETER_KEYS = createKeys(PARAMETER_PREFIX);
+    private static final String[] UPDATE_PARAMETER_KEYS = createKeys(UPDATE_PARAMETER_PREFIX);
+
+    /** Marks a null value, so that a null array slot can mean "no mapping". */
+    private static final Object NULL_VALUE = new Object();
+
+    private static final int UPDATE = 0;
+    private static final int PARAMETER = 1;
+
+    private Object[][] values = new Object[2][];
+    private Map<String, Object> otherValues;
+    private int size;
+    private int modCount;
+
+    public OrdinalParameterMap() {
+        this(16);
+    }
+
+    public OrdinalParameterMap(int expectedSize) {
+        values[UPDATE] = new Object[0];
+        values[PARAMETER] = new Object[expectedSize + 1];
+    }
+
+    public static String parameterKey(int number) {
+        return number >= 0 && number < SHARED_KEYS ? PARAMETER_KEYS[number] : PARAMETER_PREFIX + number;
+    }
+
+    public static String updateParameterKey(int number) {
+        return number >= 0 && number < SHARED_KEYS ? UPDATE_PARAMETER_KEYS[number] : UPDATE_PARAMETER_PREFIX + number;
+    }
+
+    private static String[] createKeys(String prefix) {
+        String[] keys = new String[SHARED_KEYS];
+        for (int i = 0; i < SHARED_KEYS; i++) {
+            keys[i] = prefix + i;
+        }
+        return keys;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return inArray(key) || (otherValues != null && otherValues.containsKey(key));
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = keyNumber(key);
+        if (index >= 0) {
+            Object[] typeValues = values[keyType(key)];
+            if (index < typeValues.length && typeValues[index] != null) {
+                return unmask(typeValues[index]);
+            }
+        }
+        return otherValues == null ? null : otherValues.get(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        int type = keyType(key);
+        int index = keyNumber(key);
+        if (index < 0 || (otherValues != null && otherValues.containsKey(key))) {
+            return putOtherValue(key, value);
+        }
+
+        if (index >= values[type].length) {
+            if (index >= Math.max(values[type].length * 2, MINIMUM_GROWTH_LIMIT)) {
+                // a sparse key far beyond the others is not worth a huge array
+                return putOtherValue(key, value);
+            }
+            values[type] = Arrays.copyOf(values[type], Math.max(index + 1, values[type].length * 2));
+        }
+
+        Object previous = values[type][index];
+        values[type][index] = value == null ? NULL_VALUE : value;
+        if (previous == null) {
+            size++;
+            modCount++;
+        }
+        return unmask(previous);
+    }
+
+    private Object putOtherValue(String key, Object value) {
+        if (otherValues == null) {
+            otherValues = new HashMap<>();
+        }
+
+        boolean existing = otherValues.containsKey(key);
+        Object previous = otherValues.put(key, value);
+        if (!existing) {
+            size++;
+            modCount++;
+        }
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (inArray(key)) {
+            int type = keyType(key);
+            int index = keyNumber(key);
+            Object previous = values[type][index];
+            values[type][index] = null;
+            size--;
+            modCount++;
+            return unmask(previous);
+        }
+
+        if (otherValues == null || !otherValues.containsKey(key)) {
+            return null;
+        }
+        size--;
+        modCount++;
+        return otherValues.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values[UPDATE], null);
+        Arrays.fill(values[PARAMETER], null);
+        otherValues = null;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        return new EntrySet();
+    }
+
+    private static Object unmask(Object value) {
+        return value == NULL_VALUE ? null : value;
+    }
+
+    private boolean inArray(Object key) {
+        int index = keyNumber(key);
+        if (index < 0) {
+            return false;
+        }
+        Object[] typeValues = values[keyType(key)];
+        return index < typeValues.length && typeValues[index] != null;
+    }
+
+    /**
+     * Returns UPDATE or PARAMETER if the key could be one of the ordinal keys, otherwise -1.
+     */
+    private static int keyType(Object key) {
+        if (!(key instanceof String)) {
+            return -1;
+        }
+
+        String s = (String) key;
+        if (s.startsWith(UPDATE_PARAMETER_PREFIX)) {
+            return UPDATE;
+        } else if (s.startsWith(PARAMETER_PREFIX)) {
+            return PARAMETER;
+        } else {
+            return -1;
+        }
+    }
+
+    /**
+     * Returns the sequence number of an ordinal key, or -1 if the key is not exactly the form
+     * generated by {@link #parameterKey(int)} or {@link #updateParameterKey(int)} - for example "p01"
+     * or "pX" are not ordinal keys and are stored like any other key.
+     */
+    private static int keyNumber(Object key) {
+        int type = keyType(key);
+        return type < 0 ? -1 : keyNumber((String) key, type);
+    }
+
+    private static int keyNumber(String key, int type) {
+        int start = type == UPDATE ? UPDATE_PARAMETER_PREFIX.length() : PARAMETER_PREFIX.length();
+        int length = key.length();
+        if (length == start || length - start > 9 || (key.charAt(start) == '0' && length - start > 1)) {
+            return -1;
+        }
+
+        int number = 0;
+        for (int i = start; i < length; i++) {
+            char c = key.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number;
+    }
+
+    private class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            OrdinalParameterMap.this.clear();
+        }
+    }
+
+    private class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+        private int type = UPDATE;
+        private int index = -1;
+        private Iterator<Map.Entry<String, Object>> otherIterator;
+        private int expectedModCount = modCount;
+        private Entry current;
+        private boolean nextFound;
+        private boolean lastReturned;
+
+        @Override
+        public boolean hasNext() {
+            if (!nextFound) {
+                nextFound = advance();
+            }
+            return nextFound;
+        }
+
+        private boolean advance() {
+            while (type <= PARAMETER) {
+                index++;
+                if (index >= values[type].length) {
+                    type++;
+                    index = -1;
+                } else if (values[type][index] != null) {
+                    return true;
+                }
+            }
+
+            if (otherIterator == null) {
+                otherIterator = otherValues == null ? null : otherValues.entrySet().iterator();
+            }
+            return otherIterator != null && otherIterator.hasNext();
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            nextFound = false;
+            lastReturned = true;
+
+            if (type <= PARAMETER) {
+                current = new Entry(type, index);
+                return current;
+            } else {
+                current = null;
+                return otherIterator.next();
+            }
+        }
+
+        @Override
+        public void remove() {
+            if (!lastReturned) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            if (current != null) {
+                OrdinalParameterMap.this.remove(current.getKey());
+                current = null;
+            } else {
+                otherIterator.remove();
+                size--;
+                modCount++;
+            }
+            lastReturned = false;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private class Entry implements Map.Entry<String, Object> {
+        private int type;
+        private int index;
+
+        private Entry(int type, int index) {
+            this.type = type;
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return type == UPDATE ? updateParameterKey(index) : parameterKey(index);
+        }
+
+        @Override
+        public Object getValue() {
+            return unmask(values[type][index]);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            if (values[type][index] == null) {
+                throw new IllegalStateException();
+            }
+            Object previous = getValue();
+            values[type][index] = value == null ? NULL_VALUE : value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            return getKey().equals(e.getKey())
+                    && (getValue() == null ? e.getValue() == null : getValue().equals(e.getValue()));
+        }
+
+        @Override
+        public int hashCode() {
+            Object value = getValue();
+            return getKey().hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue(); //$NON-NLS-1$
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.mybatis.dynamic.sql.BindParameter;
+
+/**
+ * Replaces the bind parameters in the parameter map of a compiled statement with real values.
+ *
+ * <p>The binder is created once from the parameter map of a compiled statement.  Parameters
+ * that are literal values are copied into every bound map unchanged.  Bind parameters are
+ * replaced by the values supplied, either by name or by position.  Positions are determined
+ * by the order that the bind parameters first appear in the statement.
+ */
+public class ParameterBinder {
+
+    private String[] keys;
+    private Object[] values;
+    private List<String> bindParameterNames = new ArrayList<>();
+
+    private ParameterBinder(Map<String, Object> parameters) {
+        List<String> sortedKeys = new ArrayList<>(parameters.keySet());
+        sortedKeys.sort(Comparator.comparing(ParameterBinder::keyPrefixOrder)
+                .thenComparing(ParameterBinder::keyNumber));
+
+        keys = sortedKeys.toArray(new String[sortedKeys.size()]);
+        values = new Object[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            values[i] = parameters.get(keys[i]);
+            if (values[i] instanceof BindParameter) {
+                String name = ((BindParameter<?>) values[i]).name();
+                if (!bindParameterNames.contains(name)) {
+                    bindParameterNames.add(name);
+                }
+            }
+        }
+    }
+
+    /**
+     * Update statement parameters ("up" keys) appear in the set clause before
+     * any where clause parameters ("p" keys).
+     */
+    private static int keyPrefixOrder(String key) {
+        return key.startsWith("up") ? 0 : 1; //$NON-NLS-1$
+    }
+
+    private static int keyNumber(String key) {
+        int i = key.length();
+        while (i > 0 && Character.isDigit(key.charAt(i - 1))) {
+            i--;
+        }
+        return i == key.length() ? 0 : Integer.parseInt(key.substring(i));
+    }
+
+    public List<String> bindParameterNames() {
+        return Collections.unmodifiableList(bindParameterNames);
+    }
+
+    public Map<String, Object> bind(Map<String, ?> bindValues) {
+        Map<String, Object> parameters = new OrdinalParameterMap(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] instanceof BindParameter) {
+                BindParameter<?> bindParameter = (BindParameter<?>) values[i];
+                if (!bindValues.containsKey(bindParameter.name())) {
+                    throw new IllegalArgumentException("No value supplied for bind parameter \"" //$NON-NLS-1$
+                            + bindParameter.name() + "\""); //$NON-NLS-1$
+                }
+                parameters.put(keys[i], bindParameter.bind(bindValues.get(bindParameter.name())));
+            } else {
+                parameters.put(keys[i], values[i]);
+            }
+        }
+        return parameters;
+    }
+
+    public Map<String, Object> bind(Object...bindValues) {
+        if (bindValues.length != bindParameterNames.size()) {
+            throw new IllegalArgumentException("Expected " + bindParameterNames.size() //$NON-NLS-1$
+                    + " bind values, but received " + bindValues.length); //$NON-NLS-1$
+        }
+
+        Map<String, Object> namedValues = new HashMap<>();
+        for (int i = 0; i < bindValues.length; i++) {
+            namedValues.put(bindParameterNames.get(i), bindValues[i]);
+        }
+        return bind(namedValues);
+    }
+
+    public static ParameterBinder of(Map<String, Object> parameters) {
+        return new ParameterBinder(parameters);
+    }
+}
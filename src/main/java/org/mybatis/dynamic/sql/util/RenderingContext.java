@@ -0,0 +1,170 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.mybatis.dynamic.sql.Binding;
+import org.mybatis.dynamic.sql.RenderingStrategy;
+import org.mybatis.dynamic.sql.SqlColumn;
+
+/**
+ * A single buffer and parameter sink that an entire clause is rendered into.
+ *
+ * <p>Renderers and conditions append SQL text directly to the buffer and place parameters
+ * directly into the sink, so no intermediate fragments or parameter maps are created while
+ * walking the criteria.  With the {@link RenderingStrategy#NAMED} strategy the sink is a parameter
+ * map, with the {@link RenderingStrategy#POSITIONAL} strategy it is an ordered list of bindings.
+ */
+public class RenderingContext {
+    public static final String POSITIONAL_PLACEHOLDER = "?"; //$NON-NLS-1$
+
+    private StringBuilder buffer = new StringBuilder();
+    private RenderingStrategy renderingStrategy;
+    private Map<String, Object> parameters;
+    private List<Binding> bindings;
+    private AtomicInteger sequence;
+
+    private RenderingContext(RenderingStrategy renderingStrategy, AtomicInteger sequence,
+            Map<String, Object> parameters, List<Binding> bindings) {
+        this.renderingStrategy = renderingStrategy;
+        this.sequence = sequence;
+        this.parameters = parameters;
+        this.bindings = bindings;
+    }
+
+    public RenderingContext append(String fragment) {
+        buffer.append(fragment);
+        return this;
+    }
+
+    public RenderingContext append(char c) {
+        buffer.append(c);
+        return this;
+    }
+
+    public int nextSequence() {
+        return sequence.getAndIncrement();
+    }
+
+    /**
+     * Records a parameter value and returns the placeholder that should be rendered for it.
+     * With the positional strategy, values are recorded in the order this method is called - so
+     * placeholders must appear in the SQL in the same order they are requested.
+     * 
+     * @param column the column the value is bound to
+     * @param prefix the prefix for named placeholders, for example "parameters"
+     * @param mapKey the parameter map key for named placeholders
+     * @param value the value
+     * @return the placeholder
+     */
+    public String bindParameter(SqlColumn<?> column, String prefix, String mapKey, Object value) {
+        if (renderingStrategy == RenderingStrategy.POSITIONAL) {
+            bindings.add(Binding.of(value, column.jdbcType()));
+            return POSITIONAL_PLACEHOLDER;
+        } else {
+            parameters.put(mapKey, value);
+            return column.getFormattedJdbcPlaceholder(prefix, mapKey);
+        }
+    }
+
+    /**
+     * Records a parameter that holds an array of values, and returns the placeholder that should be
+     * rendered for it.  With the positional strategy the binding holds the array and the JDBC type
+     * of the column - the type of the array elements.
+     * 
+     * @param column the column the values are compared to
+     * @param prefix the prefix for named placeholders, for example "parameters"
+     * @param mapKey the parameter map key for named placeholders
+     * @param values the values
+     * @return the placeholder
+     */
+    public String bindArrayParameter(SqlColumn<?> column, String prefix, String mapKey, Object[] values) {
+        if (renderingStrategy == RenderingStrategy.POSITIONAL) {
+            bindings.add(Binding.of(values, column.jdbcType()));
+            return POSITIONAL_PLACEHOLDER;
+        } else {
+            parameters.put(mapKey, values);
+            return column.getFormattedJdbcArrayPlaceholder(prefix, mapKey);
+        }
+    }
+
+    public RenderingStrategy renderingStrategy() {
+        return renderingStrategy;
+    }
+
+    public String sql() {
+        return buffer.toString();
+    }
+
+    public Map<String, Object> parameters() {
+        return parameters;
+    }
+
+    public List<Binding> bindings() {
+        return bindings;
+    }
+
+    /**
+     * Creates a context for another clause of the same statement.  The new context has its own
+     * buffer, but shares the parameter sink of this context.
+     * 
+     * @param sequence the parameter sequence for the new clause
+     * @return the new context
+     */
+    public RenderingContext newClause(AtomicInteger sequence) {
+        return new RenderingContext(renderingStrategy, sequence, parameters, bindings);
+    }
+
+    public static RenderingContext of(AtomicInteger sequence) {
+        return of(RenderingStrategy.NAMED, sequence, 16);
+    }
+
+    /**
+     * Creates a context that renders SQL text only.  Use it when the statement renders named
+     * placeholders that refer to properties of the parameter object - so no parameter values are
+     * recorded and no parameter sink is needed.
+     * 
+     * @return the new context
+     */
+    public static RenderingContext withoutParameters() {
+        return new RenderingContext(RenderingStrategy.NAMED, null, Collections.emptyMap(),
+                Collections.emptyList());
+    }
+
+    /**
+     * Creates a context with a parameter sink large enough to hold the expected number of
+     * parameters without resizing.
+     * 
+     * @param renderingStrategy the rendering strategy
+     * @param sequence the parameter sequence
+     * @param expectedSize the number of parameters that will be rendered
+     * @return the new context
+     */
+    public static RenderingContext of(RenderingStrategy renderingStrategy, AtomicInteger sequence, int expectedSize) {
+        if (renderingStrategy == RenderingStrategy.POSITIONAL) {
+            return new RenderingContext(renderingStrategy, sequence, Collections.emptyMap(),
+                    new ArrayList<>(expectedSize));
+        } else {
+            return new RenderingContext(renderingStrategy, sequence, new OrdinalParameterMap(expectedSize),
+                    Collections.emptyList());
+        }
+    }
+}
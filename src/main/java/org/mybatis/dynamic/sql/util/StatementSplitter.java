@@ -0,0 +1,120 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+import org.mybatis.dynamic.sql.delete.DeleteSupport;
+import org.mybatis.dynamic.sql.select.SelectSupport;
+
+/**
+ * Splits a statement with a very large list of values into several statements, each with no more
+ * than a given number of parameters.
+ *
+ * <p>Many drivers limit the number of parameters in a single statement - for example 2100 for SQL Server.
+ * The statement is described by a function that builds it from a stream of values, typically
+ * an "in" condition:
+ *
+ * <pre>
+ * List&lt;SelectSupport&gt; statements = StatementSplitter.splitSelect(ids, 2000,
+ *         chunk -&gt; select(id, name).from(person).where(id, isIn(chunk)).build());
+ * </pre>
+ *
+ * <p>The function is called once with a single value to find out how many other parameters the
+ * statement has, then once for each chunk.  If the list is padded, the first chunk can render more
+ * placeholders than it has values - the function is then called with shorter chunks to find the largest
+ * chunk whose padded statement fits the limit.  The results of the statements must be combined by the caller.
+ * Splitting is only correct for conditions where a row can match any one chunk - "in" conditions, but
+ * not "not in" conditions.
+ */
+public class StatementSplitter {
+
+    private StatementSplitter() {
+        super();
+    }
+
+    public static <T> List<SelectSupport> splitSelect(List<T> values, int parameterLimit,
+            Function<Stream<T>, SelectSupport> statementBuilder) {
+        return split(values, parameterLimit, statementBuilder,
+                s -> Math.max(s.getParameters().size(), s.getBindings().size()));
+    }
+
+    public static <T> List<DeleteSupport> splitDelete(List<T> values, int parameterLimit,
+            Function<Stream<T>, DeleteSupport> statementBuilder) {
+        return split(values, parameterLimit, statementBuilder,
+                s -> Math.max(s.getParameters().size(), s.getBindings().size()));
+    }
+
+    private static <T, S> List<S> split(List<T> values, int parameterLimit, Function<Stream<T>, S> statementBuilder,
+            ToIntFunction<S> parameterCounter) {
+        if (values.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        int otherParameters = parameterCounter.applyAsInt(statementBuilder.apply(Stream.of(values.get(0)))) - 1;
+        int chunkSize = parameterLimit - otherParameters;
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The statement has " + otherParameters //$NON-NLS-1$
+                    + " other parameters, so it cannot be split into statements with at most " //$NON-NLS-1$
+                    + parameterLimit + " parameters"); //$NON-NLS-1$
+        }
+
+        chunkSize = Math.min(chunkSize, values.size());
+        S first = statementBuilder.apply(values.subList(0, chunkSize).stream());
+        int parameterCount = parameterCounter.applyAsInt(first);
+        if (parameterCount > parameterLimit) {
+            // the list is padded - find the largest chunk that still fits the limit
+            int low = 1;
+            int high = chunkSize - 1;
+            first = null;
+            while (low <= high) {
+                int size = (low + high) >>> 1;
+                S candidate = statementBuilder.apply(values.subList(0, size).stream());
+                if (parameterCounter.applyAsInt(candidate) <= parameterLimit) {
+                    first = candidate;
+                    chunkSize = size;
+                    low = size + 1;
+                } else {
+                    high = size - 1;
+                }
+            }
+            if (first == null) {
+                throw new IllegalArgumentException("A statement built from one value has more than " //$NON-NLS-1$
+                        + parameterLimit + " parameters"); //$NON-NLS-1$
+            }
+        }
+
+        List<S> statements = new ArrayList<>((values.size() + chunkSize - 1) / chunkSize);
+        statements.add(first);
+        for (int start = chunkSize; start < values.size(); start += chunkSize) {
+            List<T> chunk = values.subList(start, Math.min(start + chunkSize, values.size()));
+            S statement = statementBuilder.apply(chunk.stream());
+            parameterCount = parameterCounter.applyAsInt(statement);
+            if (parameterCount > parameterLimit) {
+                // a padding policy that pads a shorter list to more placeholders
+                throw new IllegalArgumentException("A statement built from " + chunk.size() //$NON-NLS-1$
+                        + " values has " + parameterCount + " parameters"); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+            statements.add(statement);
+        }
+        return statements;
+    }
+}
@@ -17,19 +17,19 @@ package org.mybatis.dynamic.sql.where;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.mybatis.dynamic.sql.Condition;
+import org.mybatis.dynamic.sql.RenderingStrategy;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlCriterion;
-import org.mybatis.dynamic.sql.util.FragmentAndParameters;
-import org.mybatis.dynamic.sql.util.FragmentCollector;
+import org.mybatis.dynamic.sql.util.RenderingContext;
 
 public abstract class AbstractWhereBuilder<T extends AbstractWhereBuilder<T>> {
     private List<SqlCriterion<?>> criteria = new ArrayList<>();
-    private AtomicInteger sequence = new AtomicInteger(1);
+    private ShapeCache shapeCache;
     
     protected <S> AbstractWhereBuilder(SqlColumn<S> column, Condition<S> condition, SqlCriterion<?>...subCriteria) {
         SqlCriterion<S> criterion = SqlCriterion.of(column, condition, subCriteria);
@@ -48,31 +48,125 @@ public abstract class AbstractWhereBuilder<T extends AbstractWhereBuilder<T>> {
         return getThis();
     }
     
+    /**
+     * Use the shape cache to look up the rendered where clause.  If criteria with the same shape
+     * have been rendered before, the cached where clause is reused and only the parameters
+     * are collected.
+     * 
+     * @param shapeCache the cache to use
+     * @return this builder
+     */
+    public T withShapeCache(ShapeCache shapeCache) {
+        this.shapeCache = shapeCache;
+        return getThis();
+    }
+    
+    protected Optional<ShapeCache> shapeCache() {
+        return Optional.ofNullable(shapeCache);
+    }
+    
     private <S> void addCriterion(SqlCriterion<S> criterion) {
         criteria.add(criterion);
     }
     
     protected WhereSupport renderCriteriaIncludingTableAlias() {
-        return renderCriteria(criteria.stream().map(this::renderCriterionIncludingTableAlias));
+        return renderCriteriaIncludingTableAlias(RenderingStrategy.NAMED);
     }
     
     protected WhereSupport renderCriteriaIgnoringTableAlias() {
-        return renderCriteria(criteria.stream().map(this::renderCriterionIgnoringTableAlias));
+        return renderCriteriaIgnoringTableAlias(RenderingStrategy.NAMED);
     }
     
-    private WhereSupport renderCriteria(Stream<FragmentAndParameters> stream) {
-        FragmentCollector fc = stream.collect(FragmentCollector.fragmentAndParameterCollector());
-
-        return WhereSupport.of(fc.fragments().collect(Collectors.joining(" ", "where ", "")), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-                fc.parameters());
+    public WhereSupport renderCriteriaIncludingTableAlias(RenderingStrategy renderingStrategy) {
+        return renderCriteriaIncludingTableAlias(RenderingContext.of(renderingStrategy, null, parameterCount()));
+    }
+    
+    protected WhereSupport renderCriteriaIgnoringTableAlias(RenderingStrategy renderingStrategy) {
+        return renderCriteriaIgnoringTableAlias(RenderingContext.of(renderingStrategy, null, parameterCount()));
+    }
+    
+    /**
+     * Renders the where clause as another clause of a statement that is already being rendered.
+     * The where clause uses the rendering strategy of the statement, and places its parameters
+     * in the statement's parameter sink.
+     * 
+     * @param statementContext the context of the statement
+     * @return the where support - it shares the parameter sink of the statement
+     */
+    protected WhereSupport renderCriteriaIncludingTableAlias(RenderingContext statementContext) {
+        return renderCriteria(true, statementContext);
+    }
+    
+    protected WhereSupport renderCriteriaIgnoringTableAlias(RenderingContext statementContext) {
+        return renderCriteria(false, statementContext);
+    }
+    
+    /**
+     * Returns the total number of parameters that will be rendered by all the criteria.
+     * This is used to size the parameter sink before rendering.
+     * 
+     * @return the number of parameters
+     */
+    protected int parameterCount() {
+        int count = 0;
+        for (SqlCriterion<?> criterion : criteria) {
+            count += parameterCount(criterion);
+        }
+        return count;
+    }
+    
+    private int parameterCount(SqlCriterion<?> criterion) {
+        return criterion.condition().parameterCount()
+                + criterion.subCriteria().mapToInt(this::parameterCount).sum();
+    }
+    
+    private WhereSupport renderCriteria(boolean includeTableAlias, RenderingContext statementContext) {
+        // every rendering starts a new sequence, so building the same statement twice gives the same result
+        AtomicInteger sequence = new AtomicInteger(1);
+        RenderingContext context = statementContext.newClause(sequence);
+        CriterionRenderer renderer = includeTableAlias ? CriterionRenderer.newRendererIncludingTableAlias(sequence)
+                : CriterionRenderer.newRendererIgnoringTableAlias(sequence);
+        
+        // positional bindings are not collected on a cache hit, so the cache is only used for named parameters
+        if (shapeCache == null || context.renderingStrategy() != RenderingStrategy.NAMED) {
+            return renderCriteria(renderer, context);
+        }
+        
+        List<Object> shape = ShapeCache.shapeOf(criteria, includeTableAlias);
+        Optional<String> whereClause = shapeCache.get(shape);
+        if (whereClause.isPresent()) {
+            criteria.forEach(c -> renderParameters(c, sequence, context.parameters()));
+            return WhereSupport.of(whereClause.get(), context.parameters());
+        }
+        
+        WhereSupport whereSupport = renderCriteria(renderer, context);
+        shapeCache.put(shape, whereSupport.getWhereClause());
+        return whereSupport;
     }
     
-    private FragmentAndParameters renderCriterionIncludingTableAlias(SqlCriterion<?> criterion) {
-        return CriterionRenderer.newRendererIncludingTableAlias(sequence).render(criterion);
+    private void renderParameters(SqlCriterion<?> criterion, AtomicInteger sequence, Map<String, Object> parameters) {
+        criterion.condition().renderParameters(sequence, parameters);
+        criterion.subCriteria().forEach(c -> renderParameters(c, sequence, parameters));
     }
     
-    private FragmentAndParameters renderCriterionIgnoringTableAlias(SqlCriterion<?> criterion) {
-        return CriterionRenderer.newRendererIgnoringTableAlias(sequence).render(criterion);
+    /**
+     * Renders every criterion into the one buffer and parameter sink of the context.  What still
+     * allocates, per criterion: the column name with its table alias, the placeholder string of each
+     * parameter, and the fragment string returned by the condition's <code>renderCondition</code> method.
+     * That method is the extension point for condition subclasses, so its String result is kept.
+     * Per where clause: the context, its buffer as it grows, the parameter sink, and the final where
+     * clause string.
+     */
+    private WhereSupport renderCriteria(CriterionRenderer renderer, RenderingContext context) {
+        context.append("where "); //$NON-NLS-1$
+        for (int i = 0; i < criteria.size(); i++) {
+            if (i > 0) {
+                context.append(' ');
+            }
+            renderer.render(criteria.get(i), context);
+        }
+        
+        return WhereSupport.of(context.sql(), context.parameters(), context.bindings());
     }
     
     protected abstract T getThis();
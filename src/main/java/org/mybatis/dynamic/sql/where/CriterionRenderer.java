@@ -16,85 +16,60 @@
 package org.mybatis.dynamic.sql.where;
 
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 
 import org.mybatis.dynamic.sql.SqlCriterion;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
-import org.mybatis.dynamic.sql.util.FragmentCollector;
+import org.mybatis.dynamic.sql.util.RenderingContext;
 
 public abstract class CriterionRenderer {
+    private AtomicInteger sequence;
     
-    private CriterionRenderer() {
-        super();
+    private CriterionRenderer(AtomicInteger sequence) {
+        this.sequence = sequence;
     }
     
     public <T> FragmentAndParameters render(SqlCriterion<T> criterion) {
-        FragmentAndParameters renderedCondition = renderCondition(criterion);
-        if (criterion.hasSubCriteria()) {
-            return renderWithSubCriteria(criterion, renderedCondition);
-        } else {
-            return renderWithoutSubCriteria(criterion, renderedCondition);
-        }
-    }
-    
-    private <T> FragmentAndParameters renderWithSubCriteria(SqlCriterion<T> criterion, FragmentAndParameters renderedCondition) {
-        FragmentCollector renderedSubCriteria = criterion.subCriteria()
-                .map(this::renderSubCriterion)
-                .collect(FragmentCollector.fragmentAndParameterCollector());
-
-        String fragment = renderConnector(criterion)
-                + "("  //$NON-NLS-1$
-                + renderedCondition.fragment()
-                + " " //$NON-NLS-1$
-                + renderedSubCriteria.fragments().collect(Collectors.joining(" ")) //$NON-NLS-1$
-                + ")"; //$NON-NLS-1$
-        
-        return new FragmentAndParameters.Builder(fragment)
-                .withParameters(renderedCondition.parameters())
-                .withParameters(renderedSubCriteria.parameters())
-                .build();
-    }
-    
-    private <T> FragmentAndParameters renderWithoutSubCriteria(SqlCriterion<T> criterion, FragmentAndParameters renderedCondition) {
-        String fragment = renderConnector(criterion)
-                + renderedCondition.fragment();
-        
-        return new FragmentAndParameters.Builder(fragment)
-                .withParameters(renderedCondition.parameters())
+        RenderingContext context = RenderingContext.of(sequence);
+        render(criterion, context);
+        return new FragmentAndParameters.Builder(context.sql())
+                .withParameters(context.parameters())
                 .build();
     }
     
-    private String renderConnector(SqlCriterion<?> criterion) {
-        return criterion.connector().map(c -> c + " ").orElse(""); //$NON-NLS-1$ //$NON-NLS-2$
+    /**
+     * Renders the criterion, and any sub criteria, directly into the context in a single pass.
+     * 
+     * @param criterion the criterion to render
+     * @param context the context shared by the entire where clause
+     */
+    public <T> void render(SqlCriterion<T> criterion, RenderingContext context) {
+        criterion.connector().ifPresent(c -> context.append(c).append(' '));
+        if (criterion.hasSubCriteria()) {
+            context.append('(');
+            renderCondition(criterion, context);
+            criterion.subCriteria().forEach(c -> render(c, context.append(' ')));
+            context.append(')');
+        } else {
+            renderCondition(criterion, context);
+        }
     }
     
-    protected abstract <T> FragmentAndParameters renderCondition(SqlCriterion<T> criterion);
-    protected abstract  <T> FragmentAndParameters renderSubCriterion(SqlCriterion<T> subCriterion);
+    protected abstract <T> void renderCondition(SqlCriterion<T> criterion, RenderingContext context);
     
     public static CriterionRenderer newRendererIgnoringTableAlias(AtomicInteger sequence) {
-        return new CriterionRenderer() {
+        return new CriterionRenderer(sequence) {
             @Override
-            protected <T> FragmentAndParameters renderCondition(SqlCriterion<T> criterion) {
-                return criterion.condition().renderIgnoringTableAlias(sequence, criterion.column());
-            }
-            
-            @Override
-            protected <T> FragmentAndParameters renderSubCriterion(SqlCriterion<T> subCriterion) {
-                return CriterionRenderer.newRendererIgnoringTableAlias(sequence).render(subCriterion);
+            protected <T> void renderCondition(SqlCriterion<T> criterion, RenderingContext context) {
+                criterion.condition().renderIgnoringTableAlias(context, criterion.column());
             }
         };
     }
 
     public static CriterionRenderer newRendererIncludingTableAlias(AtomicInteger sequence) {
-        return new CriterionRenderer() {
-            @Override
-            protected <T> FragmentAndParameters renderCondition(SqlCriterion<T> criterion) {
-                return criterion.condition().renderIncludingTableAlias(sequence, criterion.column());
-            }
-            
+        return new CriterionRenderer(sequence) {
             @Override
-            protected <T> FragmentAndParameters renderSubCriterion(SqlCriterion<T> subCriterion) {
-                return CriterionRenderer.newRendererIncludingTableAlias(sequence).render(subCriterion);
+            protected <T> void renderCondition(SqlCriterion<T> criterion, RenderingContext context) {
+                criterion.condition().renderIncludingTableAlias(context, criterion.column());
             }
         };
     }
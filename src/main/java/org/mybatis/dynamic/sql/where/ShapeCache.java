@@ -0,0 +1,171 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.mybatis.dynamic.sql.SqlCriterion;
+
+/**
+ * A bounded cache of rendered where clauses keyed by the structure of the criteria
+ * that produced them.  Update statements also use the cache for set clauses - the shape of
+ * a set clause is the list of columns that are set and how, so it records which
+ * "when present" values were present.
+ *
+ * <p>Two sets of criteria have the same shape when they have the same connectors, the same
+ * column instances (and therefore the same tables, aliases and placeholder formats),
+ * the same condition classes with the same number of parameters and shape details, the same nesting
+ * of sub-criteria, and are rendered in the same mode (including or ignoring table aliases).
+ * Criteria with the same shape always render the same SQL, so on a cache hit only
+ * the parameter values need to be collected.
+ *
+ * <p>The cache is safe for use by multiple threads, and lookups do not lock.  When the cache is
+ * full, the least recently used entry is evicted.  Eviction scans the cache, and while several
+ * threads add entries at the same time it is approximate - the cache may briefly hold more entries
+ * than its maximum size, or evict an entry that was used a moment before.
+ */
+public class ShapeCache {
+
+    private static final String SET_CLAUSE = "set"; //$NON-NLS-1$
+
+    private final ConcurrentMap<List<Object>, Entry> whereClauses = new ConcurrentHashMap<>();
+    private final int maximumSize;
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private ShapeCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be greater than zero"); //$NON-NLS-1$
+        }
+
+        this.maximumSize = maximumSize;
+    }
+
+    Optional<String> get(List<Object> shape) {
+        Entry entry = whereClauses.get(shape);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+
+        hits.incrementAndGet();
+        entry.lastUsed = clock.incrementAndGet();
+        return Optional.of(entry.clause);
+    }
+
+    void put(List<Object> shape, String whereClause) {
+        whereClauses.put(shape, new Entry(whereClause, clock.incrementAndGet()));
+        while (whereClauses.size() > maximumSize) {
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        Map.Entry<List<Object>, Entry> eldest = null;
+        for (Map.Entry<List<Object>, Entry> candidate : whereClauses.entrySet()) {
+            if (eldest == null || candidate.getValue().lastUsed < eldest.getValue().lastUsed) {
+                eldest = candidate;
+            }
+        }
+
+        // another thread may have evicted or replaced the entry since the scan
+        if (eldest != null && whereClauses.remove(eldest.getKey(), eldest.getValue())) {
+            evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the set clause rendered for an update with the same shape of set columns.
+     * 
+     * @param setShape the columns that are set and how they are set
+     * @return the set clause, if one has been cached
+     */
+    public Optional<String> getSetClause(List<Object> setShape) {
+        return get(setClauseKey(setShape));
+    }
+
+    public void putSetClause(List<Object> setShape, String setClause) {
+        put(setClauseKey(setShape), setClause);
+    }
+
+    /**
+     * Set clauses share the cache with where clauses, so their keys are marked to keep the two apart.
+     */
+    private static List<Object> setClauseKey(List<Object> setShape) {
+        return Arrays.asList(SET_CLAUSE, setShape);
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    public long evictions() {
+        return evictions.get();
+    }
+
+    public int size() {
+        return whereClauses.size();
+    }
+
+    public void clear() {
+        whereClauses.clear();
+    }
+
+    static List<Object> shapeOf(List<SqlCriterion<?>> criteria, boolean includeTableAlias) {
+        List<Object> shape = new ArrayList<>();
+        shape.add(includeTableAlias);
+        criteria.forEach(c -> addShape(shape, c));
+        return shape;
+    }
+
+    private static void addShape(List<Object> shape, SqlCriterion<?> criterion) {
+        // columns do not override equals, so they are compared by identity
+        shape.add(criterion.connector().orElse(null));
+        shape.add(criterion.column());
+        shape.add(criterion.condition().getClass());
+        shape.add(criterion.condition().parameterCount());
+        shape.add(criterion.condition().shapeDetails());
+        shape.add(criterion.subCriteria().count());
+        criterion.subCriteria().forEach(c -> addShape(shape, c));
+    }
+
+    public static ShapeCache of(int maximumSize) {
+        return new ShapeCache(maximumSize);
+    }
+
+    private static class Entry {
+        private final String clause;
+        private volatile long lastUsed;
+
+        private Entry(String clause, long lastUsed) {
+            this.clause = clause;
+            this.lastUsed = lastUsed;
+        }
+    }
+}
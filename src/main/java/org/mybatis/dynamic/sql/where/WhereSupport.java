@@ -16,20 +16,31 @@
 package org.mybatis.dynamic.sql.where;
 
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import org.mybatis.dynamic.sql.Binding;
+
 public class WhereSupport {
     private String whereClause;
-    private Map<String, Object> parameters = new HashMap<>();
+    private Map<String, Object> parameters;
+    private List<Binding> bindings;
 
-    private WhereSupport(String whereClause, Map<String, Object> parameters) {
+    /**
+     * The where support takes ownership of the parameter map and bindings - they are not copied.
+     */
+    private WhereSupport(String whereClause, Map<String, Object> parameters, List<Binding> bindings) {
         this.whereClause = whereClause;
-        this.parameters.putAll(parameters);
+        this.parameters = Collections.unmodifiableMap(parameters);
+        this.bindings = Collections.unmodifiableList(bindings);
+    }
+    
+    public List<Binding> getBindings() {
+        return bindings;
     }
     
     public Map<String, Object> getParameters() {
-        return Collections.unmodifiableMap(parameters);
+        return parameters;
     }
     
     public String getWhereClause() {
@@ -37,6 +48,10 @@ public class WhereSupport {
     }
     
     public static WhereSupport of(String whereClause, Map<String, Object> parameters) {
-        return new WhereSupport(whereClause, parameters);
+        return new WhereSupport(whereClause, parameters, Collections.emptyList());
+    }
+    
+    public static WhereSupport of(String whereClause, Map<String, Object> parameters, List<Binding> bindings) {
+        return new WhereSupport(whereClause, parameters, bindings);
     }
 }
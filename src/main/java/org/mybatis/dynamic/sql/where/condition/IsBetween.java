@@ -16,12 +16,17 @@
 package org.mybatis.dynamic.sql.where.condition;
 
 import org.mybatis.dynamic.sql.AbstractTwoValueCondition;
+import org.mybatis.dynamic.sql.BindParameter;
 
 public class IsBetween<T> extends AbstractTwoValueCondition<T> {
 
     protected IsBetween(T value1, T value2) {
         super(value1, value2);
     }
+
+    protected IsBetween(BindParameter<T> bindParameter1, BindParameter<T> bindParameter2) {
+        super(bindParameter1, bindParameter2);
+    }
     
     @Override
     protected String renderCondition(String columnName, String placeholder1, String placeholder2) {
@@ -39,8 +44,29 @@ public class IsBetween<T> extends AbstractTwoValueCondition<T> {
             return new IsBetween<>(value1, value2);
         }
     }
+
+    /**
+     * The type of the condition is taken from the second bind parameter so that it can be inferred
+     * from the column when the builder is used inline.
+     */
+    public static class BindParameterBuilder {
+        private BindParameter<?> bindParameter1;
+        
+        private BindParameterBuilder(BindParameter<?> bindParameter1) {
+            this.bindParameter1 = bindParameter1;
+        }
+        
+        @SuppressWarnings("unchecked")
+        public <T> IsBetween<T> and(BindParameter<T> bindParameter2) {
+            return new IsBetween<>((BindParameter<T>) bindParameter1, bindParameter2);
+        }
+    }
     
     public static <T> Builder<T> isBetween(T value) {
         return new Builder<>(value);
     }
+
+    public static BindParameterBuilder isBetween(BindParameter<?> bindParameter) {
+        return new BindParameterBuilder(bindParameter);
+    }
 }
@@ -16,12 +16,17 @@
 package org.mybatis.dynamic.sql.where.condition;
 
 import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
+import org.mybatis.dynamic.sql.BindParameter;
 
 public class IsGreaterThan<T> extends AbstractSingleValueCondition<T> {
 
     protected IsGreaterThan(T value) {
         super(value);
     }
+
+    protected IsGreaterThan(BindParameter<T> bindParameter) {
+        super(bindParameter);
+    }
     
     @Override
     protected String renderCondition(String columnName, String placeholder) {
@@ -31,4 +36,8 @@ public class IsGreaterThan<T> extends AbstractSingleValueCondition<T> {
     public static <T> IsGreaterThan<T> of(T value) {
         return new IsGreaterThan<>(value);
     }
+
+    public static <T> IsGreaterThan<T> of(BindParameter<T> bindParameter) {
+        return new IsGreaterThan<>(bindParameter);
+    }
 }
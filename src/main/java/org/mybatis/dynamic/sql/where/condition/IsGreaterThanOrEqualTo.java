@@ -16,12 +16,17 @@
 package org.mybatis.dynamic.sql.where.condition;
 
 import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
+import org.mybatis.dynamic.sql.BindParameter;
 
 public class IsGreaterThanOrEqualTo<T> extends AbstractSingleValueCondition<T> {
 
     protected IsGreaterThanOrEqualTo(T value) {
         super(value);
     }
+
+    protected IsGreaterThanOrEqualTo(BindParameter<T> bindParameter) {
+        super(bindParameter);
+    }
     
     @Override
     protected String renderCondition(String columnName, String placeholder) {
@@ -31,4 +36,8 @@ public class IsGreaterThanOrEqualTo<T> extends AbstractSingleValueCondition<T> {
     public static <T> IsGreaterThanOrEqualTo<T> of(T value) {
         return new IsGreaterThanOrEqualTo<>(value);
     }
+
+    public static <T> IsGreaterThanOrEqualTo<T> of(BindParameter<T> bindParameter) {
+        return new IsGreaterThanOrEqualTo<>(bindParameter);
+    }
 }
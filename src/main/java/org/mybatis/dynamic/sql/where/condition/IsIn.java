@@ -19,12 +19,21 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.mybatis.dynamic.sql.AbstractListValueCondition;
+import org.mybatis.dynamic.sql.PaddingPolicy;
 
 public class IsIn<T> extends AbstractListValueCondition<T> {
 
     protected IsIn(Stream<T> values) {
         super(values);
     }
+
+    private IsIn(IsIn<T> source, PaddingPolicy paddingPolicy) {
+        super(source, paddingPolicy);
+    }
+
+    private IsIn(IsIn<T> source, int chunkSize) {
+        super(source, chunkSize);
+    }
     
     @Override
     protected String renderCondition(String columnName, Stream<String> placeholders) {
@@ -32,6 +41,14 @@ public class IsIn<T> extends AbstractListValueCondition<T> {
                 placeholders.collect(Collectors.joining(",", "in (", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
     }
 
+    public IsIn<T> withPadding(PaddingPolicy paddingPolicy) {
+        return new IsIn<>(this, paddingPolicy);
+    }
+
+    public IsIn<T> withChunkSize(int chunkSize) {
+        return new IsIn<>(this, chunkSize);
+    }
+
     public static <T> IsIn<T> of(Stream<T> values) {
         return new IsIn<>(values);
     }
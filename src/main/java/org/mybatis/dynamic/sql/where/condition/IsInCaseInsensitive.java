@@ -19,12 +19,21 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.mybatis.dynamic.sql.AbstractListValueCondition;
+import org.mybatis.dynamic.sql.PaddingPolicy;
 
 public class IsInCaseInsensitive extends AbstractListValueCondition<String> {
 
     protected IsInCaseInsensitive(Stream<String> values) {
         super(values);
     }
+
+    private IsInCaseInsensitive(IsInCaseInsensitive source, PaddingPolicy paddingPolicy) {
+        super(source, paddingPolicy);
+    }
+
+    private IsInCaseInsensitive(IsInCaseInsensitive source, int chunkSize) {
+        super(source, chunkSize);
+    }
     
     @Override
     protected String renderCondition(String columnName, Stream<String> placeholders) {
@@ -37,6 +46,14 @@ public class IsInCaseInsensitive extends AbstractListValueCondition<String> {
         return value.toUpperCase();
     }
     
+    public IsInCaseInsensitive withPadding(PaddingPolicy paddingPolicy) {
+        return new IsInCaseInsensitive(this, paddingPolicy);
+    }
+
+    public IsInCaseInsensitive withChunkSize(int chunkSize) {
+        return new IsInCaseInsensitive(this, chunkSize);
+    }
+
     public static IsInCaseInsensitive of(Stream<String> values) {
         return new IsInCaseInsensitive(values);
     }
@@ -0,0 +1,46 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.condition;
+
+import org.mybatis.dynamic.sql.AbstractNoValueCondition;
+
+/**
+ * A condition that compares a column to the values in a column of another table, for example a
+ * temporary table that has been loaded with keys.
+ * 
+ * @param <T> the Java type of the column
+ */
+public class IsInTable<T> extends AbstractNoValueCondition<T> {
+    private String subselect;
+
+    protected IsInTable(String tableName, String columnName) {
+        subselect = "in (select " + columnName + " from " + tableName + ")"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
+    @Override
+    protected String renderCondition(String columnName) {
+        return columnName + " " + subselect; //$NON-NLS-1$
+    }
+
+    @Override
+    public Object shapeDetails() {
+        return subselect;
+    }
+
+    public static <T> IsInTable<T> of(String tableName, String columnName) {
+        return new IsInTable<>(tableName, columnName);
+    }
+}
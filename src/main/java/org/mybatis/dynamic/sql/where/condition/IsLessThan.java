@@ -16,12 +16,17 @@
 package org.mybatis.dynamic.sql.where.condition;
 
 import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
+import org.mybatis.dynamic.sql.BindParameter;
 
 public class IsLessThan<T> extends AbstractSingleValueCondition<T> {
 
     protected IsLessThan(T value) {
         super(value);
     }
+
+    protected IsLessThan(BindParameter<T> bindParameter) {
+        super(bindParameter);
+    }
     
     @Override
     protected String renderCondition(String columnName, String placeholder) {
@@ -31,4 +36,8 @@ public class IsLessThan<T> extends AbstractSingleValueCondition<T> {
     public static <T> IsLessThan<T> of(T value) {
         return new IsLessThan<>(value);
     }
+
+    public static <T> IsLessThan<T> of(BindParameter<T> bindParameter) {
+        return new IsLessThan<>(bindParameter);
+    }
 }
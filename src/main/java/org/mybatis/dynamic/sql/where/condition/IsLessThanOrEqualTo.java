@@ -16,12 +16,17 @@
 package org.mybatis.dynamic.sql.where.condition;
 
 import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
+import org.mybatis.dynamic.sql.BindParameter;
 
 public class IsLessThanOrEqualTo<T> extends AbstractSingleValueCondition<T> {
 
     protected IsLessThanOrEqualTo(T value) {
         super(value);
     }
+
+    protected IsLessThanOrEqualTo(BindParameter<T> bindParameter) {
+        super(bindParameter);
+    }
     
     @Override
     protected String renderCondition(String columnName, String placeholder) {
@@ -31,4 +36,8 @@ public class IsLessThanOrEqualTo<T> extends AbstractSingleValueCondition<T> {
     public static <T> IsLessThanOrEqualTo<T> of(T value) {
         return new IsLessThanOrEqualTo<>(value);
     }
+
+    public static <T> IsLessThanOrEqualTo<T> of(BindParameter<T> bindParameter) {
+        return new IsLessThanOrEqualTo<>(bindParameter);
+    }
 }
@@ -16,6 +16,7 @@
 package org.mybatis.dynamic.sql.where.condition;
 
 import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
+import org.mybatis.dynamic.sql.BindParameter;
 
 public class IsLike extends AbstractSingleValueCondition<String> {
 
@@ -23,6 +24,10 @@ public class IsLike extends AbstractSingleValueCondition<String> {
         super(value);
     }
 
+    protected IsLike(BindParameter<String> bindParameter) {
+        super(bindParameter);
+    }
+
     @Override
     protected String renderCondition(String columnName, String placeholder) {
         return columnName + " like " + placeholder; //$NON-NLS-1$
@@ -31,4 +36,8 @@ public class IsLike extends AbstractSingleValueCondition<String> {
     public static IsLike of(String value) {
         return new IsLike(value);
     }
+
+    public static IsLike of(BindParameter<String> bindParameter) {
+        return new IsLike(bindParameter);
+    }
 }
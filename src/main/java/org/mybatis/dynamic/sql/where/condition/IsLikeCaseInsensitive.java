@@ -16,11 +16,16 @@
 package org.mybatis.dynamic.sql.where.condition;
 
 import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
+import org.mybatis.dynamic.sql.BindParameter;
 
 public class IsLikeCaseInsensitive extends AbstractSingleValueCondition<String> {
     protected IsLikeCaseInsensitive(String value) {
         super(value);
     }
+
+    protected IsLikeCaseInsensitive(BindParameter<String> bindParameter) {
+        super(bindParameter);
+    }
     
     @Override
     protected String renderCondition(String columnName, String placeholder) {
@@ -28,11 +33,15 @@ public class IsLikeCaseInsensitive extends AbstractSingleValueCondition<String>
     }
 
     @Override
-    protected String value() {
-        return super.value().toUpperCase();
+    protected String transformValue(String value) {
+        return value.toUpperCase();
     }
 
     public static IsLikeCaseInsensitive of(String value) {
         return new IsLikeCaseInsensitive(value);
     }
+
+    public static IsLikeCaseInsensitive of(BindParameter<String> bindParameter) {
+        return new IsLikeCaseInsensitive(bindParameter);
+    }
 }
\ No newline at end of file
@@ -16,12 +16,17 @@
 package org.mybatis.dynamic.sql.where.condition;
 
 import org.mybatis.dynamic.sql.AbstractTwoValueCondition;
+import org.mybatis.dynamic.sql.BindParameter;
 
 public class IsNotBetween<T> extends AbstractTwoValueCondition<T> {
 
     protected IsNotBetween(T value1, T value2) {
         super(value1, value2);
     }
+
+    protected IsNotBetween(BindParameter<T> bindParameter1, BindParameter<T> bindParameter2) {
+        super(bindParameter1, bindParameter2);
+    }
     
     @Override
     protected String renderCondition(String columnName, String placeholder1, String placeholder2) {
@@ -39,8 +44,29 @@ public class IsNotBetween<T> extends AbstractTwoValueCondition<T> {
             return new IsNotBetween<>(value1, value2);
         }
     }
+
+    /**
+     * The type of the condition is taken from the second bind parameter so that it can be inferred
+     * from the column when the builder is used inline.
+     */
+    public static class BindParameterBuilder {
+        private BindParameter<?> bindParameter1;
+        
+        private BindParameterBuilder(BindParameter<?> bindParameter1) {
+            this.bindParameter1 = bindParameter1;
+        }
+        
+        @SuppressWarnings("unchecked")
+        public <T> IsNotBetween<T> and(BindParameter<T> bindParameter2) {
+            return new IsNotBetween<>((BindParameter<T>) bindParameter1, bindParameter2);
+        }
+    }
     
     public static <T> Builder<T> isNotBetween(T value) {
         return new Builder<>(value);
     }
+
+    public static BindParameterBuilder isNotBetween(BindParameter<?> bindParameter) {
+        return new BindParameterBuilder(bindParameter);
+    }
 }
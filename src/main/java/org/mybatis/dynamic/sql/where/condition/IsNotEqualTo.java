@@ -16,6 +16,7 @@
 package org.mybatis.dynamic.sql.where.condition;
 
 import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
+import org.mybatis.dynamic.sql.BindParameter;
 
 public class IsNotEqualTo<T> extends AbstractSingleValueCondition<T> {
 
@@ -23,6 +24,10 @@ public class IsNotEqualTo<T> extends AbstractSingleValueCondition<T> {
         super(value);
     }
 
+    protected IsNotEqualTo(BindParameter<T> bindParameter) {
+        super(bindParameter);
+    }
+
     @Override
     protected String renderCondition(String columnName, String placeholder) {
         return columnName + " <> " + placeholder; //$NON-NLS-1$
@@ -31,4 +36,8 @@ public class IsNotEqualTo<T> extends AbstractSingleValueCondition<T> {
     public static <T> IsNotEqualTo<T> of(T value) {
         return new IsNotEqualTo<>(value);
     }
+
+    public static <T> IsNotEqualTo<T> of(BindParameter<T> bindParameter) {
+        return new IsNotEqualTo<>(bindParameter);
+    }
 }
@@ -19,6 +19,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.mybatis.dynamic.sql.AbstractListValueCondition;
+import org.mybatis.dynamic.sql.PaddingPolicy;
 
 public class IsNotIn<T> extends AbstractListValueCondition<T> {
 
@@ -26,12 +27,33 @@ public class IsNotIn<T> extends AbstractListValueCondition<T> {
         super(values);
     }
 
+    private IsNotIn(IsNotIn<T> source, PaddingPolicy paddingPolicy) {
+        super(source, paddingPolicy);
+    }
+
+    private IsNotIn(IsNotIn<T> source, int chunkSize) {
+        super(source, chunkSize);
+    }
+
     @Override
     protected String renderCondition(String columnName, Stream<String> placeholders) {
         return columnName + " " + //$NON-NLS-1$
                 placeholders.collect(Collectors.joining(",", "not in (", ")")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
     }
 
+    @Override
+    protected String chunkConnector() {
+        return " and "; //$NON-NLS-1$
+    }
+
+    public IsNotIn<T> withPadding(PaddingPolicy paddingPolicy) {
+        return new IsNotIn<>(this, paddingPolicy);
+    }
+
+    public IsNotIn<T> withChunkSize(int chunkSize) {
+        return new IsNotIn<>(this, chunkSize);
+    }
+
     public static <T> IsNotIn<T> of(Stream<T> values) {
         return new IsNotIn<>(values);
     }
@@ -0,0 +1,45 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where.condition;
+
+import java.util.Collection;
+
+import org.mybatis.dynamic.sql.AbstractArrayValueCondition;
+import org.mybatis.dynamic.sql.ArrayDialect;
+
+public class IsNotInArray<T> extends AbstractArrayValueCondition<T> {
+
+    protected IsNotInArray(Collection<T> values) {
+        super(values);
+    }
+
+    private IsNotInArray(IsNotInArray<T> source, ArrayDialect arrayDialect) {
+        super(source, arrayDialect);
+    }
+
+    @Override
+    protected String renderCondition(String columnName, String placeholder) {
+        return arrayDialect().renderNotIn(columnName, placeholder);
+    }
+
+    public IsNotInArray<T> withDialect(ArrayDialect arrayDialect) {
+        return new IsNotInArray<>(this, arrayDialect);
+    }
+
+    public static <T> IsNotInArray<T> of(Collection<T> values) {
+        return new IsNotInArray<>(values);
+    }
+}
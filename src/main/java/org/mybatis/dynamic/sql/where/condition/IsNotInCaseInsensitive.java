@@ -19,12 +19,21 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.mybatis.dynamic.sql.AbstractListValueCondition;
+import org.mybatis.dynamic.sql.PaddingPolicy;
 
 public class IsNotInCaseInsensitive extends AbstractListValueCondition<String> {
 
     protected IsNotInCaseInsensitive(Stream<String> values) {
         super(values);
     }
+
+    private IsNotInCaseInsensitive(IsNotInCaseInsensitive source, PaddingPolicy paddingPolicy) {
+        super(source, paddingPolicy);
+    }
+
+    private IsNotInCaseInsensitive(IsNotInCaseInsensitive source, int chunkSize) {
+        super(source, chunkSize);
+    }
     
     @Override
     protected String renderCondition(String columnName, Stream<String> placeholders) {
@@ -37,6 +46,19 @@ public class IsNotInCaseInsensitive extends AbstractListValueCondition<String> {
         return value.toUpperCase();
     }
     
+    @Override
+    protected String chunkConnector() {
+        return " and "; //$NON-NLS-1$
+    }
+
+    public IsNotInCaseInsensitive withPadding(PaddingPolicy paddingPolicy) {
+        return new IsNotInCaseInsensitive(this, paddingPolicy);
+    }
+
+    public IsNotInCaseInsensitive withChunkSize(int chunkSize) {
+        return new IsNotInCaseInsensitive(this, chunkSize);
+    }
+
     public static IsNotInCaseInsensitive of(Stream<String> values) {
         return new IsNotInCaseInsensitive(values);
     }
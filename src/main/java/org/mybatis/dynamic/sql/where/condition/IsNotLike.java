@@ -16,6 +16,7 @@
 package org.mybatis.dynamic.sql.where.condition;
 
 import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
+import org.mybatis.dynamic.sql.BindParameter;
 
 public class IsNotLike extends AbstractSingleValueCondition<String> {
 
@@ -23,6 +24,10 @@ public class IsNotLike extends AbstractSingleValueCondition<String> {
         super(value);
     }
 
+    protected IsNotLike(BindParameter<String> bindParameter) {
+        super(bindParameter);
+    }
+
     @Override
     protected String renderCondition(String columnName, String placeholder) {
         return columnName + " not like " + placeholder; //$NON-NLS-1$
@@ -31,4 +36,8 @@ public class IsNotLike extends AbstractSingleValueCondition<String> {
     public static IsNotLike of(String value) {
         return new IsNotLike(value);
     }
+
+    public static IsNotLike of(BindParameter<String> bindParameter) {
+        return new IsNotLike(bindParameter);
+    }
 }
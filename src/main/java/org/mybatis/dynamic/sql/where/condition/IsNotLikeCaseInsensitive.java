@@ -16,11 +16,16 @@
 package org.mybatis.dynamic.sql.where.condition;
 
 import org.mybatis.dynamic.sql.AbstractSingleValueCondition;
+import org.mybatis.dynamic.sql.BindParameter;
 
 public class IsNotLikeCaseInsensitive extends AbstractSingleValueCondition<String> {
     protected IsNotLikeCaseInsensitive(String value) {
         super(value);
     }
+
+    protected IsNotLikeCaseInsensitive(BindParameter<String> bindParameter) {
+        super(bindParameter);
+    }
     
     @Override
     protected String renderCondition(String columnName, String placeholder) {
@@ -28,11 +33,15 @@ public class IsNotLikeCaseInsensitive extends AbstractSingleValueCondition<Strin
     }
     
     @Override
-    protected String value() {
-        return super.value().toUpperCase();
+    protected String transformValue(String value) {
+        return value.toUpperCase();
     }
 
     public static IsNotLikeCaseInsensitive of(String value) {
         return new IsNotLikeCaseInsensitive(value);
     }
+
+    public static IsNotLikeCaseInsensitive of(BindParameter<String> bindParameter) {
+        return new IsNotLikeCaseInsensitive(bindParameter);
+    }
 }
\ No newline at end of file
@@ -15,6 +15,9 @@
  */
 package examples.animal.data;
 
+import org.mybatis.dynamic.sql.reflection.GenerateAccessor;
+
+@GenerateAccessor
 public class AnimalData {
     private int id;
     private String animalName;
@@ -0,0 +1,535 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package examples.animal.data;
+
+import static examples.animal.data.AnimalDataDynamicSqlSupport.*;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.SqlConditions.*;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.JDBCType;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.jdbc.ScriptRunner;
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mybatis.dynamic.sql.ArrayDialect;
+import org.mybatis.dynamic.sql.RenderingStrategy;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.insert.InsertBatchSupport;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertSupport;
+import org.mybatis.dynamic.sql.jdbc.JdbcException;
+import org.mybatis.dynamic.sql.jdbc.JdbcExecutor;
+import org.mybatis.dynamic.sql.jdbc.JdbcSession;
+import org.mybatis.dynamic.sql.jdbc.TempTableStrategy;
+import org.mybatis.dynamic.sql.select.SelectSupport;
+import org.mybatis.dynamic.sql.util.StatementSplitter;
+
+public class AnimalDataJdbcTest {
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    private static final String JDBC_URL = "jdbc:hsqldb:mem:ajdbc";
+    private static final String JDBC_DRIVER = "org.hsqldb.jdbcDriver"; 
+
+    private JdbcExecutor executor;
+
+    @Before
+    public void setup() throws Exception {
+        Class.forName(JDBC_DRIVER);
+        InputStream is = getClass().getResourceAsStream("/examples/animal/data/CreateAnimalData.sql");
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "")) {
+            ScriptRunner sr = new ScriptRunner(connection);
+            sr.setLogWriter(null);
+            sr.runScript(new InputStreamReader(is));
+        }
+
+        UnpooledDataSource ds = new UnpooledDataSource(JDBC_DRIVER, JDBC_URL, "sa", "");
+        executor = JdbcExecutor.of(ds, 2);
+    }
+
+    @After
+    public void teardown() {
+        executor.close();
+    }
+
+    @Test
+    public void testSelectList() {
+        SelectSupport selectSupport = select(id, animalName, bodyWeight, brainWeight)
+                .from(animalData)
+                .where(id, isIn(5, 8, 10))
+                .or(animalName, isLike("%bat"), and(bodyWeight, isBetween(1.0).and(3.0)))
+                .orderBy(id)
+                .build(RenderingStrategy.POSITIONAL);
+
+        List<AnimalData> animals = executor.selectList(selectSupport, this::mapAnimal);
+        softly.assertThat(animals).extracting("id").containsExactly(5, 8, 10);
+        softly.assertThat(animals.get(1).getAnimalName()).isEqualTo("Ground squirrel");
+    }
+
+    @Test
+    public void testSelectWithRowCallback() {
+        SelectSupport selectSupport = select(animalName)
+                .from(animalData)
+                .where(id, isLessThan(4))
+                .orderBy(id)
+                .build(RenderingStrategy.POSITIONAL);
+
+        List<String> names = new ArrayList<>();
+        executor.select(selectSupport, resultSet -> names.add(resultSet.getString(1)));
+        softly.assertThat(names).containsExactly("Lesser short-tailed shrew", "Little brown bat", "Big brown bat");
+    }
+
+    @Test
+    public void testSelectOneAndCount() {
+        Optional<AnimalData> animal = executor.selectOne(select(id, animalName, bodyWeight, brainWeight)
+                .from(animalData)
+                .where(id, isEqualTo(2))
+                .build(RenderingStrategy.POSITIONAL), this::mapAnimal);
+        softly.assertThat(animal.map(AnimalData::getAnimalName)).contains("Little brown bat");
+
+        long count = executor.count(select().count()
+                .from(animalData)
+                .where(bodyWeight, isGreaterThan(100.0))
+                .build(RenderingStrategy.POSITIONAL));
+        softly.assertThat(count).isEqualTo(21);
+
+        softly.assertThatThrownBy(() -> executor.selectOne(select(id)
+                    .from(animalData)
+                    .where(id, isLessThan(3))
+                    .build(RenderingStrategy.POSITIONAL), resultSet -> resultSet.getInt(1)))
+                .isInstanceOf(JdbcException.class);
+    }
+
+    @Test
+    public void testInsertUpdateAndDelete() {
+        AnimalData record = new AnimalData();
+        record.setId(100);
+        record.setAnimalName("Old Shep");
+        record.setBodyWeight(22.5);
+        record.setBrainWeight(1.2);
+
+        try (JdbcSession session = executor.openSession()) {
+            int rows = session.insert(insert(record)
+                    .into(animalData)
+                    .map(id).toProperty("id")
+                    .map(animalName).toProperty("animalName")
+                    .map(bodyWeight).toProperty("bodyWeight")
+                    .map(brainWeight).toProperty("brainWeight")
+                    .build(RenderingStrategy.POSITIONAL));
+            softly.assertThat(rows).isEqualTo(1);
+
+            rows = session.update(update(animalData)
+                    .set(bodyWeight).equalTo(2.6)
+                    .set(animalName).equalToNull()
+                    .where(id, isIn(1, 5, 7))
+                    .or(id, isIn(2, 6, 8), and(animalName, isLike("%bat")))
+                    .or(id, isGreaterThan(60))
+                    .and(bodyWeight, isBetween(1.0).and(3.0))
+                    .build(RenderingStrategy.POSITIONAL));
+            softly.assertThat(rows).isEqualTo(4);
+
+            rows = session.delete(deleteFrom(animalData)
+                    .where(id, isEqualTo(100))
+                    .build(RenderingStrategy.POSITIONAL));
+            softly.assertThat(rows).isEqualTo(1);
+
+            softly.assertThat(session.count(select().count()
+                    .from(animalData)
+                    .where(animalName, isNull())
+                    .build(RenderingStrategy.POSITIONAL))).isEqualTo(4);
+        }
+    }
+
+    @Test
+    public void testInsertMultiple() {
+        List<AnimalData> records = new ArrayList<>();
+        for (int i = 100; i < 107; i++) {
+            AnimalData record = new AnimalData();
+            record.setId(i);
+            record.setAnimalName(i % 2 == 0 ? "Animal " + i : null);
+            record.setBodyWeight(i);
+            record.setBrainWeight(1.0);
+            records.add(record);
+        }
+
+        List<MultiRowInsertSupport<AnimalData>> insertSupports = insertMultiple(records)
+                .into(animalData)
+                .map(id).toProperty("id")
+                .map(animalName).toProperty("animalName")
+                .map(bodyWeight).toProperty("bodyWeight")
+                .map(brainWeight).toProperty("brainWeight")
+                .withMaxParameters(10)
+                .build(RenderingStrategy.POSITIONAL);
+
+        softly.assertThat(insertSupports).hasSize(4);
+        softly.assertThat(insertSupports.get(0).getValuesPhrase()).isEqualTo("values (?, ?, ?, ?), (?, ?, ?, ?)");
+        softly.assertThat(insertSupports.get(3).getBindings()).extracting("value").containsExactly(106, "Animal 106",
+                106.0, 1.0);
+
+        try (JdbcSession session = executor.openSession()) {
+            int rows = insertSupports.stream().mapToInt(session::insert).sum();
+            softly.assertThat(rows).isEqualTo(7);
+            softly.assertThat(session.count(select().count()
+                    .from(animalData)
+                    .where(id, isGreaterThanOrEqualTo(100))
+                    .and(animalName, isNull())
+                    .build(RenderingStrategy.POSITIONAL))).isEqualTo(3);
+            softly.assertThat(session.statementCache().size()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void testInsertBatch() {
+        List<AnimalData> records = new ArrayList<>();
+        for (int i = 100; i < 107; i++) {
+            AnimalData record = new AnimalData();
+            record.setId(i);
+            record.setAnimalName(i % 2 == 0 ? "Animal " + i : null);
+            record.setBodyWeight(i);
+            records.add(record);
+        }
+
+        InsertBatchSupport<AnimalData> insertBatchSupport = insertBatch(records)
+                .into(animalData)
+                .map(id).toProperty("id")
+                .map(animalName).toProperty("animalName")
+                .map(bodyWeight).toProperty("bodyWeight")
+                .map(brainWeight).toConstant("2.5")
+                .withFlushSize(3)
+                .build(RenderingStrategy.POSITIONAL);
+
+        softly.assertThat(insertBatchSupport.getValuesPhrase()).isEqualTo("values (?, ?, ?, 2.5)");
+        softly.assertThat(insertBatchSupport.bindingsFor(records.get(1))).extracting("value")
+                .containsExactly(101, null, 101.0);
+
+        try (JdbcSession session = executor.openSession()) {
+            List<int[]> updateCounts = session.insertBatch(insertBatchSupport);
+            softly.assertThat(updateCounts).hasSize(3);
+            softly.assertThat(updateCounts.get(0)).containsExactly(1, 1, 1);
+            softly.assertThat(updateCounts.get(2)).containsExactly(1);
+            softly.assertThat(session.count(select().count()
+                    .from(animalData)
+                    .where(brainWeight, isEqualTo(2.5))
+                    .and(animalName, isNull())
+                    .build(RenderingStrategy.POSITIONAL))).isEqualTo(3);
+            softly.assertThat(session.statementCache().size()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void testNamedInsertsAreRejected() {
+        AnimalData record = new AnimalData();
+        record.setId(100);
+        record.setAnimalName("Old Shep");
+
+        try (JdbcSession session = executor.openSession()) {
+            softly.assertThatThrownBy(() -> session.insert(insert(record)
+                    .into(animalData)
+                    .map(id).toProperty("id")
+                    .map(animalName).toProperty("animalName")
+                    .build())).isInstanceOf(IllegalArgumentException.class);
+            softly.assertThatThrownBy(() -> session.insert(insert(record)
+                    .into(animalData)
+                    .map(id).toProperty("id")
+                    .withMaterializedValues()
+                    .build())).isInstanceOf(IllegalArgumentException.class);
+            softly.assertThatThrownBy(() -> session.insertBatch(insertBatch(Arrays.asList(record))
+                    .into(animalData)
+                    .map(id).toProperty("id")
+                    .build())).isInstanceOf(IllegalArgumentException.class);
+            softly.assertThat(session.count(select().count()
+                    .from(animalData)
+                    .where(id, isEqualTo(100))
+                    .build(RenderingStrategy.POSITIONAL))).isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void testStatementsAreReusedInASession() {
+        try (JdbcSession session = executor.openSession()) {
+            for (int i = 1; i <= 3; i++) {
+                long count = session.count(select().count()
+                        .from(animalData)
+                        .where(id, isLessThanOrEqualTo(i))
+                        .build(RenderingStrategy.POSITIONAL));
+                softly.assertThat(count).isEqualTo(i);
+            }
+
+            softly.assertThat(session.statementCache().misses()).isEqualTo(1);
+            softly.assertThat(session.statementCache().hits()).isEqualTo(2);
+
+            session.count(select().count().from(animalData).where(id, isEqualTo(1)).build(RenderingStrategy.POSITIONAL));
+            session.count(select().count().from(animalData).where(id, isNotEqualTo(1)).build(RenderingStrategy.POSITIONAL));
+
+            softly.assertThat(session.statementCache().size()).isEqualTo(2);
+            softly.assertThat(session.statementCache().evictions()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void testStatementsAreReusedAcrossExecutorCalls() {
+        AtomicInteger connections = new AtomicInteger();
+        AtomicInteger prepares = new AtomicInteger();
+        DataSource ds = countingDataSource(new UnpooledDataSource(JDBC_DRIVER, JDBC_URL, "sa", ""),
+                connections, prepares);
+
+        try (JdbcExecutor reusingExecutor = JdbcExecutor.of(ds)) {
+            for (int i = 1; i <= 3; i++) {
+                long count = reusingExecutor.count(select().count()
+                        .from(animalData)
+                        .where(id, isLessThanOrEqualTo(i))
+                        .build(RenderingStrategy.POSITIONAL));
+                softly.assertThat(count).isEqualTo(i);
+            }
+            softly.assertThat(connections.get()).isEqualTo(1);
+            softly.assertThat(prepares.get()).isEqualTo(1);
+        }
+
+        try (JdbcExecutor oneShotExecutor = JdbcExecutor.of(ds, JdbcExecutor.DEFAULT_STATEMENT_CACHE_SIZE, 0)) {
+            for (int i = 1; i <= 3; i++) {
+                oneShotExecutor.count(select().count()
+                        .from(animalData)
+                        .where(id, isLessThanOrEqualTo(i))
+                        .build(RenderingStrategy.POSITIONAL));
+            }
+            softly.assertThat(connections.get()).isEqualTo(4);
+            softly.assertThat(prepares.get()).isEqualTo(4);
+        }
+    }
+
+    private static DataSource countingDataSource(DataSource dataSource, AtomicInteger connections,
+            AtomicInteger prepares) {
+        return proxy(DataSource.class, dataSource, (method, result) -> {
+            if (!method.equals("getConnection")) {
+                return result;
+            }
+            connections.incrementAndGet();
+            return proxy(Connection.class, (Connection) result, (connectionMethod, connectionResult) -> {
+                if (connectionMethod.equals("prepareStatement")) {
+                    prepares.incrementAndGet();
+                }
+                return connectionResult;
+            });
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, T target, BiFunction<String, Object, Object> onResult) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> {
+                    try {
+                        return onResult.apply(method.getName(), method.invoke(target, args));
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }));
+    }
+
+    @Test
+    public void testChunkedAndSplitInLists() {
+        List<Integer> ids = IntStream.rangeClosed(1, 30).boxed().collect(Collectors.toList());
+
+        List<SelectSupport> statements = StatementSplitter.splitSelect(ids, 12,
+                chunk -> select(id)
+                    .from(animalData)
+                    .where(id, isIn(chunk).withChunkSize(5))
+                    .and(id, isNotIn(3, 4, 5, 6).withChunkSize(3))
+                    .build(RenderingStrategy.POSITIONAL));
+        softly.assertThat(statements.size()).isEqualTo(4);
+
+        List<Integer> foundIds = new ArrayList<>();
+        statements.forEach(s -> executor.select(s, resultSet -> foundIds.add(resultSet.getInt(1))));
+        softly.assertThat(foundIds).hasSize(26).doesNotContain(3, 4, 5, 6);
+    }
+
+    @Test
+    public void testArrayConditions() {
+        List<Integer> ids = IntStream.rangeClosed(10, 5000).boxed().collect(Collectors.toList());
+
+        SelectSupport selectSupport = select(id)
+                .from(animalData)
+                .where(id, isInArray(ids).withDialect(ArrayDialect.UNNEST))
+                .and(id, isNotInArray(Arrays.asList(11, 12)).withDialect(ArrayDialect.UNNEST))
+                .build(RenderingStrategy.POSITIONAL);
+
+        softly.assertThat(selectSupport.getWhereClause())
+                .isEqualTo("where a.id in (unnest(?)) and a.id not in (unnest(?))");
+        softly.assertThat(executor.count(select().count()
+                .from(animalData)
+                .where(id, isInArray(ids).withDialect(ArrayDialect.UNNEST))
+                .and(id, isNotInArray(Arrays.asList(11, 12)).withDialect(ArrayDialect.UNNEST))
+                .build(RenderingStrategy.POSITIONAL))).isEqualTo(54);
+        softly.assertThat(executor.selectList(selectSupport, resultSet -> resultSet.getInt(1))).startsWith(10, 13);
+    }
+
+    @Test
+    public void testArrayConditionWithoutJdbcType() {
+        SqlColumn<Integer> untypedId = SqlColumn.<Integer>of("id", null).inTable(animalData);
+
+        try (JdbcSession session = executor.openSession()) {
+            softly.assertThatThrownBy(() -> session.count(select().count()
+                    .from(animalData)
+                    .where(untypedId, isInArray(Arrays.asList(1, 2)).withDialect(ArrayDialect.UNNEST))
+                    .build(RenderingStrategy.POSITIONAL)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("JDBC type");
+        }
+    }
+
+    @Test
+    public void testTempTableStrategy() {
+        TempTableStrategy strategy = TempTableStrategy.of("session.animal_keys", "k", JDBCType.INTEGER)
+                .withCreateStatement("declare local temporary table animal_keys (k int) on commit preserve rows")
+                .withThreshold(10)
+                .withBatchSize(7);
+        List<Integer> keys = IntStream.rangeClosed(1, 50000).boxed().collect(Collectors.toList());
+
+        try (JdbcSession session = executor.openSession()) {
+            List<SelectSupport> statements = new ArrayList<>();
+            List<Integer> ids = session.selectListWithKeys(strategy, keys,
+                    condition -> {
+                        SelectSupport selectSupport = select(id)
+                                .from(animalData)
+                                .where(id, condition)
+                                .and(bodyWeight, isGreaterThan(100.0))
+                                .build(RenderingStrategy.POSITIONAL);
+                        statements.add(selectSupport);
+                        return selectSupport;
+                    },
+                    resultSet -> resultSet.getInt(1));
+
+            softly.assertThat(ids).hasSize(21);
+            softly.assertThat(statements.get(0).getWhereClause())
+                    .isEqualTo("where a.id in (select k from session.animal_keys) and a.body_weight > ?");
+            softly.assertThat(session.count(select().count()
+                    .from(animalData)
+                    .where(id, isInTable("session.animal_keys", "k"))
+                    .build(RenderingStrategy.POSITIONAL))).isEqualTo(0);
+
+            int rows = session.deleteWithKeys(strategy, keys.subList(0, 20),
+                    condition -> deleteFrom(animalData)
+                        .where(id, condition)
+                        .build(RenderingStrategy.POSITIONAL));
+            softly.assertThat(rows).isEqualTo(20);
+
+            rows = session.deleteWithKeys(strategy, keys.subList(20, 25),
+                    condition -> deleteFrom(animalData)
+                        .where(id, condition)
+                        .build(RenderingStrategy.POSITIONAL));
+            softly.assertThat(rows).isEqualTo(5);
+            softly.assertThat(session.count(select().count().from(animalData).build(RenderingStrategy.POSITIONAL)))
+                    .isEqualTo(40);
+        }
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void testTempTableIsEmptyAfterFailedLoad() {
+        TempTableStrategy strategy = TempTableStrategy.of("session.animal_keys", "k", JDBCType.INTEGER)
+                .withCreateStatement("declare local temporary table animal_keys (k int) on commit preserve rows")
+                .withThreshold(10)
+                .withBatchSize(7);
+        List<Object> mixedKeys = new ArrayList<>(IntStream.rangeClosed(1, 17).boxed().collect(Collectors.toList()));
+        mixedKeys.add("not a number");
+        List<Integer> badKeys = (List) mixedKeys;
+
+        try (JdbcSession session = executor.openSession()) {
+            softly.assertThatThrownBy(() -> session.selectListWithKeys(strategy, badKeys,
+                    condition -> select(id).from(animalData).where(id, condition).build(RenderingStrategy.POSITIONAL),
+                    resultSet -> resultSet.getInt(1))).isInstanceOf(JdbcException.class);
+
+            softly.assertThat(session.count(select().count()
+                    .from(animalData)
+                    .where(id, isInTable("session.animal_keys", "k"))
+                    .build(RenderingStrategy.POSITIONAL))).isEqualTo(0);
+
+            List<Integer> ids = session.selectListWithKeys(strategy, Arrays.asList(21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31),
+                    condition -> select(id).from(animalData).where(id, condition).build(RenderingStrategy.POSITIONAL),
+                    resultSet -> resultSet.getInt(1));
+            softly.assertThat(ids).containsExactlyInAnyOrder(21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31);
+        }
+    }
+
+    @Test
+    public void testTempTableOnAPooledConnection() {
+        TempTableStrategy strategy = TempTableStrategy.of("session.animal_keys", "k", JDBCType.INTEGER)
+                .withCreateStatement("declare local temporary table animal_keys (k int) on commit preserve rows")
+                .withThreshold(10);
+        List<Integer> keys = IntStream.rangeClosed(1, 20).boxed().collect(Collectors.toList());
+
+        PooledDataSource ds = new PooledDataSource(JDBC_DRIVER, JDBC_URL, "sa", "");
+        ds.setPoolMaximumActiveConnections(1);
+        ds.setPoolMaximumIdleConnections(1);
+        try {
+            // no idle sessions, so every call opens a session on the pool's one connection
+            JdbcExecutor pooledExecutor = JdbcExecutor.of(ds, JdbcExecutor.DEFAULT_STATEMENT_CACHE_SIZE, 0);
+            for (int i = 0; i < 2; i++) {
+                List<Integer> ids = pooledExecutor.selectListWithKeys(strategy, keys,
+                        condition -> select(id).from(animalData).where(id, condition).build(RenderingStrategy.POSITIONAL),
+                        resultSet -> resultSet.getInt(1));
+                softly.assertThat(ids).hasSize(20);
+            }
+
+            int rows = pooledExecutor.deleteWithKeys(strategy, keys,
+                    condition -> deleteFrom(animalData).where(id, condition).build(RenderingStrategy.POSITIONAL));
+            softly.assertThat(rows).isEqualTo(20);
+        } finally {
+            ds.forceCloseAll();
+        }
+    }
+
+    @Test
+    public void testNamedStatementsAreRejected() {
+        SelectSupport selectSupport = select(id)
+                .from(animalData)
+                .where(id, isEqualTo(1))
+                .build();
+
+        softly.assertThatThrownBy(() -> executor.selectList(selectSupport, resultSet -> resultSet.getInt(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AnimalData mapAnimal(ResultSet resultSet) throws SQLException {
+        AnimalData animal = new AnimalData();
+        animal.setId(resultSet.getInt("id"));
+        animal.setAnimalName(resultSet.getString("animal_name"));
+        animal.setBodyWeight(resultSet.getDouble("body_weight"));
+        animal.setBrainWeight(resultSet.getDouble("brain_weight"));
+        return animal;
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
 import org.mybatis.dynamic.sql.delete.DeleteSupport;
 import org.mybatis.dynamic.sql.insert.InsertSupport;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertSupport;
 import org.mybatis.dynamic.sql.select.SelectSupport;
 import org.mybatis.dynamic.sql.update.UpdateSupport;
 
@@ -47,4 +48,9 @@ public interface AnimalDataMapper {
         "${fullInsertStatement}"
     })
     int insert(InsertSupport<AnimalData> insertSupport);
+    
+    @Insert({
+        "${fullInsertStatement}"
+    })
+    int insertMultiple(MultiRowInsertSupport<AnimalData> insertSupport);
 }
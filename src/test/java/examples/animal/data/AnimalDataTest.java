@@ -24,12 +24,16 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
 import org.apache.ibatis.jdbc.ScriptRunner;
+import org.apache.ibatis.executor.BatchResult;
 import org.apache.ibatis.mapping.Environment;
 import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.SqlSessionFactoryBuilder;
@@ -38,8 +42,11 @@ import org.assertj.core.api.JUnitSoftAssertions;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mybatis.dynamic.sql.ArrayDialect;
 import org.mybatis.dynamic.sql.delete.DeleteSupport;
+import org.mybatis.dynamic.sql.insert.InsertBatchSupport;
 import org.mybatis.dynamic.sql.insert.InsertSupport;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertSupport;
 import org.mybatis.dynamic.sql.select.SelectSupport;
 import org.mybatis.dynamic.sql.update.UpdateSupport;
 
@@ -121,6 +128,31 @@ public class AnimalDataTest {
         }
     }
 
+    @Test
+    public void testSelectRowsInArray() {
+        SqlSession sqlSession = sqlSessionFactory.openSession();
+        try {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+            
+            SelectSupport selectSupport = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isInArray(Arrays.asList(5, 8, 10)).withDialect(ArrayDialect.UNNEST))
+                    .or(id, isNotInArray(Arrays.asList(1, 2, 3)).withDialect(ArrayDialect.UNNEST),
+                            and(id, isLessThan(5)))
+                    .orderBy(id)
+                    .build();
+            
+            softly.assertThat(selectSupport.getWhereClause()).isEqualTo(
+                    "where a.id in (unnest(#{parameters.p1}))"
+                    + " or (a.id not in (unnest(#{parameters.p2})) and a.id < #{parameters.p3,jdbcType=INTEGER})");
+
+            List<AnimalData> animals = mapper.selectMany(selectSupport);
+            softly.assertThat(animals).extracting("id").containsExactly(4, 5, 8, 10);
+        } finally {
+            sqlSession.close();
+        }
+    }
+
     @Test
     public void testSelectRowsBetween30And40() {
         SqlSession sqlSession = sqlSessionFactory.openSession();
@@ -508,6 +540,105 @@ public class AnimalDataTest {
         }
     }
 
+    @Test
+    public void testInsertMultiple() {
+        SqlSession sqlSession = sqlSessionFactory.openSession();
+        try {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+            List<AnimalData> records = new ArrayList<>();
+            for (int i = 100; i < 110; i++) {
+                AnimalData record = new AnimalData();
+                record.setId(i);
+                record.setAnimalName("Animal " + i);
+                record.setBodyWeight(i * 2.0);
+                record.setBrainWeight(1.5);
+                records.add(record);
+            }
+            
+            List<MultiRowInsertSupport<AnimalData>> insertSupports = insertMultiple(records)
+                    .into(animalData)
+                    .map(id).toProperty("id")
+                    .map(animalName).toProperty("animalName")
+                    .map(bodyWeight).toProperty("bodyWeight")
+                    .map(brainWeight).toConstant("1.5")
+                    .withMaxParameters(12)
+                    .build();
+            
+            softly.assertThat(insertSupports.size()).isEqualTo(3);
+            softly.assertThat(insertSupports.get(0).getValuesPhrase()).startsWith(
+                    "values (#{records[0].id,jdbcType=INTEGER}, #{records[0].animalName,jdbcType=VARCHAR}, "
+                    + "#{records[0].bodyWeight,jdbcType=DOUBLE}, 1.5), (#{records[1].id,jdbcType=INTEGER}");
+            
+            int rows = insertSupports.stream().mapToInt(mapper::insertMultiple).sum();
+            softly.assertThat(rows).isEqualTo(10);
+            
+            SelectSupport selectSupport = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isGreaterThanOrEqualTo(100))
+                    .and(animalName, isLike("Animal 1%"))
+                    .and(brainWeight, isEqualTo(1.5))
+                    .orderBy(id)
+                    .build();
+            List<AnimalData> animals = mapper.selectMany(selectSupport);
+            softly.assertThat(animals).extracting("id").containsExactly(100, 101, 102, 103, 104, 105, 106, 107,
+                    108, 109);
+        } finally {
+            sqlSession.close();
+        }
+    }
+
+    @Test
+    public void testInsertBatch() {
+        SqlSession sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH);
+        try {
+            AnimalDataMapper mapper = sqlSession.getMapper(AnimalDataMapper.class);
+            List<AnimalData> records = new ArrayList<>();
+            for (int i = 100; i < 110; i++) {
+                AnimalData record = new AnimalData();
+                record.setId(i);
+                record.setAnimalName("Animal " + i);
+                record.setBodyWeight(i * 2.0);
+                records.add(record);
+            }
+            
+            InsertBatchSupport<AnimalData> insertBatchSupport = insertBatch(records)
+                    .into(animalData)
+                    .map(id).toProperty("id")
+                    .map(animalName).toProperty("animalName")
+                    .map(bodyWeight).toProperty("bodyWeight")
+                    .map(brainWeight).toConstant("1.5")
+                    .withFlushSize(4)
+                    .build();
+            
+            List<List<BatchResult>> batchResults = new ArrayList<>();
+            for (List<AnimalData> batch : insertBatchSupport.getBatches()) {
+                for (AnimalData record : batch) {
+                    mapper.insert(insertBatchSupport.forRecord(record));
+                }
+                batchResults.add(sqlSession.flushStatements());
+            }
+            
+            softly.assertThat(batchResults).hasSize(3);
+            softly.assertThat(batchResults).allSatisfy(results -> assertThat(results).hasSize(1));
+            softly.assertThat(batchResults.get(0).get(0).getUpdateCounts()).containsExactly(1, 1, 1, 1);
+            softly.assertThat(batchResults.get(2).get(0).getUpdateCounts()).containsExactly(1, 1);
+            softly.assertThat(batchResults.get(2).get(0).getSql()).isEqualTo("insert into AnimalData "
+                    + "(id, animal_name, body_weight, brain_weight) values (?, ?, ?, 1.5)");
+            
+            SelectSupport selectSupport = select(id, animalName, bodyWeight, brainWeight)
+                    .from(animalData)
+                    .where(id, isGreaterThanOrEqualTo(100))
+                    .and(brainWeight, isEqualTo(1.5))
+                    .orderBy(id)
+                    .build();
+            List<AnimalData> animals = mapper.selectMany(selectSupport);
+            softly.assertThat(animals).extracting("id").containsExactly(100, 101, 102, 103, 104, 105, 106, 107,
+                    108, 109);
+        } finally {
+            sqlSession.close();
+        }
+    }
+
     @Test
     public void testInsert() {
         SqlSession sqlSession = sqlSessionFactory.openSession();
@@ -52,6 +52,16 @@ public interface GeneratedAlwaysDynamicSqlSupport {
                 .build();
     }
     
+    static InsertSupport<GeneratedAlwaysRecord> buildMaterializedInsertSelectiveSupport(GeneratedAlwaysRecord record) {
+        return insert(record)
+                .into(generatedAlways)
+                .map(id).toPropertyWhenPresent("id", GeneratedAlwaysRecord::getId)
+                .map(firstName).toPropertyWhenPresent("firstName", GeneratedAlwaysRecord::getFirstName)
+                .map(lastName).toPropertyWhenPresent("lastName", GeneratedAlwaysRecord::getLastName)
+                .withMaterializedValues()
+                .build();
+    }
+    
     static UpdateSupport buildUpdateByPrimaryKeySupport(GeneratedAlwaysRecord record) {
         return update(generatedAlways)
                 .set(firstName).equalTo(record.getFirstName())
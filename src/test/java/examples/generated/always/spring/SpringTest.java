@@ -16,12 +16,21 @@
 package examples.generated.always.spring;
 
 import static examples.generated.always.spring.GeneratedAlwaysDynamicSqlSupport.buildInsertSupport;
+import static examples.generated.always.spring.GeneratedAlwaysDynamicSqlSupport.buildMaterializedInsertSelectiveSupport;
+import static examples.generated.always.spring.GeneratedAlwaysDynamicSqlSupport.firstName;
+import static examples.generated.always.spring.GeneratedAlwaysDynamicSqlSupport.generatedAlways;
 import static examples.generated.always.spring.GeneratedAlwaysDynamicSqlSupport.id;
+import static examples.generated.always.spring.GeneratedAlwaysDynamicSqlSupport.lastName;
 import static examples.generated.always.spring.GeneratedAlwaysDynamicSqlSupport.selectByExample;
+import static org.mybatis.dynamic.sql.SqlBuilder.insertBatch;
+import static org.mybatis.dynamic.sql.SqlBuilder.insertMultiple;
 import static org.mybatis.dynamic.sql.SqlConditions.isGreaterThan;
+import static org.mybatis.dynamic.sql.SqlConditions.isInArray;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.assertj.core.api.JUnitSoftAssertions;
@@ -29,10 +38,14 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mybatis.dynamic.sql.ArrayDialect;
+import org.mybatis.dynamic.sql.insert.InsertBatchSupport;
 import org.mybatis.dynamic.sql.insert.InsertSupport;
+import org.mybatis.dynamic.sql.insert.MultiRowInsertSupport;
 import org.mybatis.dynamic.sql.select.SelectSupport;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
@@ -84,6 +97,23 @@ public class SpringTest {
         softly.assertThat(records.get(2).getId()).isEqualTo(4);
     }
     
+    @Test
+    public void testSelectInArray() {
+        NamedParameterJdbcTemplate template = new NamedParameterJdbcTemplate(db);
+        
+        SelectSupport selectSupport = selectByExample()
+                .where(id, isInArray(Arrays.asList(2, 4, 5)).withDialect(ArrayDialect.UNNEST))
+                .orderBy(id)
+                .build();
+        
+        softly.assertThat(selectSupport.getWhereClause()).isEqualTo("where a.id in (unnest(:p1))");
+        
+        List<Integer> ids = template.query(selectSupport.getFullSelectStatement(), selectSupport.getParameters(),
+                (rs, rowNum) -> rs.getInt(1));
+        
+        softly.assertThat(ids).containsExactly(2, 4, 5);
+    }
+    
     @Test
     public void testInsert() {
         NamedParameterJdbcTemplate template = new NamedParameterJdbcTemplate(db);
@@ -104,6 +134,108 @@ public class SpringTest {
         softly.assertThat(kh.getKeys().get("FULL_NAME")).isEqualTo("Bob Jones");
     }
     
+    @Test
+    public void testInsertWithMaterializedValues() {
+        NamedParameterJdbcTemplate template = new NamedParameterJdbcTemplate(db);
+        
+        GeneratedAlwaysRecord record = new GeneratedAlwaysRecord();
+        record.setId(100);
+        record.setFirstName("Bob");
+        record.setLastName("Jones");
+        
+        InsertSupport<GeneratedAlwaysRecord> insertSupport = buildMaterializedInsertSelectiveSupport(record);
+        softly.assertThat(insertSupport.getFullInsertStatement()).isEqualTo("insert into GeneratedAlways "
+                + "(id, first_name, last_name) values (:p1, :p2, :p3)");
+        
+        SqlParameterSource ps = new MapSqlParameterSource(insertSupport.getParameters());
+        KeyHolder kh = new GeneratedKeyHolder();
+        
+        int rows = template.update(insertSupport.getFullInsertStatement(), ps, kh);
+        
+        softly.assertThat(rows).isEqualTo(1);
+        softly.assertThat(kh.getKeys().get("FULL_NAME")).isEqualTo("Bob Jones");
+    }
+    
+    @Test
+    public void testInsertMultiple() {
+        NamedParameterJdbcTemplate template = new NamedParameterJdbcTemplate(db);
+        
+        List<GeneratedAlwaysRecord> records = new ArrayList<>();
+        for (int i = 100; i < 105; i++) {
+            GeneratedAlwaysRecord record = new GeneratedAlwaysRecord();
+            record.setId(i);
+            record.setFirstName("Bob" + i);
+            record.setLastName("Jones");
+            records.add(record);
+        }
+        
+        List<MultiRowInsertSupport<GeneratedAlwaysRecord>> insertSupports = insertMultiple(records)
+                .into(generatedAlways)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastName")
+                .withMaxParameters(9)
+                .build();
+        
+        softly.assertThat(insertSupports.size()).isEqualTo(2);
+        softly.assertThat(insertSupports.get(1).getFullInsertStatement()).isEqualTo("insert into GeneratedAlways "
+                + "(id, first_name, last_name) values (:records[0].id, :records[0].firstName, :records[0].lastName), "
+                + "(:records[1].id, :records[1].firstName, :records[1].lastName)");
+        
+        int rows = 0;
+        for (MultiRowInsertSupport<GeneratedAlwaysRecord> insertSupport : insertSupports) {
+            rows += template.update(insertSupport.getFullInsertStatement(),
+                    new BeanPropertySqlParameterSource(insertSupport));
+        }
+        softly.assertThat(rows).isEqualTo(5);
+        
+        List<String> fullNames = template.query("select full_name from GeneratedAlways where id >= 100 order by id",
+                (rs, rowNum) -> rs.getString(1));
+        softly.assertThat(fullNames).containsExactly("Bob100 Jones", "Bob101 Jones", "Bob102 Jones",
+                "Bob103 Jones", "Bob104 Jones");
+    }
+    
+    @Test
+    public void testInsertBatch() {
+        NamedParameterJdbcTemplate template = new NamedParameterJdbcTemplate(db);
+        
+        List<GeneratedAlwaysRecord> records = new ArrayList<>();
+        for (int i = 100; i < 105; i++) {
+            GeneratedAlwaysRecord record = new GeneratedAlwaysRecord();
+            record.setId(i);
+            record.setFirstName("Bob" + i);
+            record.setLastName("Jones");
+            records.add(record);
+        }
+        
+        InsertBatchSupport<GeneratedAlwaysRecord> insertBatchSupport = insertBatch(records)
+                .into(generatedAlways)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toProperty("lastName")
+                .withFlushSize(3)
+                .build();
+        
+        softly.assertThat(insertBatchSupport.getFullInsertStatement()).isEqualTo("insert into GeneratedAlways "
+                + "(id, first_name, last_name) values (:id, :firstName, :lastName)");
+        
+        List<int[]> updateCounts = new ArrayList<>();
+        for (List<GeneratedAlwaysRecord> batch : insertBatchSupport.getBatches()) {
+            SqlParameterSource[] parameterSources = batch.stream()
+                    .map(BeanPropertySqlParameterSource::new)
+                    .toArray(SqlParameterSource[]::new);
+            updateCounts.add(template.batchUpdate(insertBatchSupport.getFullInsertStatement(), parameterSources));
+        }
+        softly.assertThat(updateCounts).hasSize(2);
+        softly.assertThat(updateCounts.get(0)).containsExactly(1, 1, 1);
+        softly.assertThat(updateCounts.get(1)).containsExactly(1, 1);
+        
+        List<String> fullNames = template.query("select full_name from GeneratedAlways where id >= 100 order by id",
+                (rs, rowNum) -> rs.getString(1));
+        softly.assertThat(fullNames).containsExactly("Bob100 Jones", "Bob101 Jones", "Bob102 Jones",
+                "Bob103 Jones", "Bob104 Jones");
+    }
+    
     @After
     public void teardown() {
         db.shutdown();
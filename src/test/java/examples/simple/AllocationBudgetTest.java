@@ -0,0 +1,193 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package examples.simple;
+
+import static examples.simple.SimpleTableDynamicSqlSupport.*;
+import static org.mybatis.dynamic.sql.SqlConditions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mybatis.dynamic.sql.util.BeanPropertyGetter;
+
+/**
+ * Measures the bytes allocated per build for a catalogue of representative statements,
+ * and fails if any statement allocates more than its budget.
+ *
+ * <p>Budgets are stored in allocation-budget.properties as ratios against a reference that
+ * builds a select by primary key by hand - with a StringBuilder and a HashMap, without this
+ * library.  Object and string sizes vary between JVMs and their settings, but they scale the
+ * reference and the statements in much the same way, so the budgets do not depend on the JVM
+ * and are checked by every build.
+ *
+ * <p>If a change legitimately increases allocation, raise the budget in the same commit.  If a
+ * change reduces allocation, lower the budget so that the improvement is protected.  The measured
+ * bytes and ratios are printed when the system property "allocation.report" is set:
+ *
+ * <pre>
+ *   mvn test -Dtest=AllocationBudgetTest -Dallocation.report=true
+ * </pre>
+ *
+ * <p>The test is skipped on JVMs that cannot report per thread allocation.
+ */
+public class AllocationBudgetTest {
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    private static final int WARMUP_ITERATIONS = 20000;
+    private static final int ROUNDS = 5;
+    private static final int ITERATIONS_PER_ROUND = 2000;
+
+    private static final Integer[] HUNDRED_IDS = IntStream.rangeClosed(1, 100).boxed().toArray(Integer[]::new);
+
+    private com.sun.management.ThreadMXBean threadMXBean;
+    private Properties budgets = new Properties();
+    private long sink;
+
+    @Before
+    public void setup() throws IOException {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        threadMXBean = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        try (InputStream is = getClass().getResourceAsStream("/examples/simple/allocation-budget.properties")) {
+            budgets.load(is);
+        }
+    }
+
+    @Test
+    public void testAllocationBudgets() {
+        Map<String, IntFunction<Object>> catalogue = new LinkedHashMap<>();
+        catalogue.put("selectByPrimaryKey", i -> buildSelectByPrimaryKeySupport(i));
+        catalogue.put("selectByExample", i -> selectByExample()
+                .where(id, isGreaterThan(i))
+                .and(firstName, isLike("F%"), or(lastName, isLikeCaseInsensitive("flint%")))
+                .or(birthDate, isBetween(new Date(0)).and(new Date()))
+                .orderBy(lastName, id.descending())
+                .build());
+        catalogue.put("selectIn100", i -> selectByExample()
+                .where(id, isIn(HUNDRED_IDS))
+                .build());
+        catalogue.put("fullInsert", i -> buildFullInsertSupport(record(i)));
+        catalogue.put("selectiveInsert", i -> buildSelectiveInsertSupport(record(i)));
+        catalogue.put("fullInsertFromTemplate", i -> buildFullInsertSupportFromTemplate(record(i)));
+        catalogue.put("selectiveInsertFromTemplate", i -> buildSelectiveInsertSupportFromTemplate(record(i)));
+        catalogue.put("fullUpdateByPrimaryKey", i -> buildFullUpdateByPrimaryKeySupport(record(i)));
+        catalogue.put("selectiveUpdateByPrimaryKey", i -> buildSelectiveUpdateByPrimaryKeySupport(record(i)));
+        catalogue.put("updateByExample", i -> updateByExample(record(i))
+                .where(occupation, isNull())
+                .and(id, isNotIn(1, 2, 3))
+                .build());
+        catalogue.put("deleteByPrimaryKey", i -> buildDeleteByPrimaryKeySupport(i));
+        Map<String, Object> parameter = Collections.singletonMap("record", record(0));
+        catalogue.put("propertyPath", i -> BeanPropertyGetter.instance().getPropertyValue(parameter, "record.lastName"));
+
+        long reference = bytesPerBuild(AllocationBudgetTest::referenceSelectByPrimaryKey);
+        Assume.assumeTrue(reference > 0);
+
+        StringBuilder report = new StringBuilder();
+        report.append("reference=").append(reference).append('\n');
+        catalogue.forEach((name, statement) -> {
+            long measured = bytesPerBuild(statement);
+            double ratio = (double) measured / reference;
+            report.append(name).append('=').append(measured)
+                    .append(String.format(" (%.3f)", ratio)).append('\n');
+
+            String budget = budgets.getProperty(name);
+            softly.assertThat(budget).as("allocation budget for " + name).isNotNull();
+            if (budget != null) {
+                softly.assertThat(ratio)
+                        .as(String.format("%s allocated %d bytes per build, %.3f times the reference, the budget is %s",
+                                name, measured, ratio, budget))
+                        .isLessThanOrEqualTo(Double.parseDouble(budget.trim()));
+            }
+        });
+
+        if (System.getProperty("allocation.report") != null) {
+            System.out.print(report);
+        }
+    }
+
+    /**
+     * Returns the smallest average over several rounds - other activity on the thread
+     * can only add allocation, so the minimum is the most stable measurement.
+     */
+    private long bytesPerBuild(IntFunction<Object> statement) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            consume(statement.apply(i));
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long minimum = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = threadMXBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < ITERATIONS_PER_ROUND; i++) {
+                consume(statement.apply(i));
+            }
+            long after = threadMXBean.getThreadAllocatedBytes(threadId);
+            minimum = Math.min(minimum, (after - before) / ITERATIONS_PER_ROUND);
+        }
+        return minimum;
+    }
+
+    /**
+     * Builds the statement and parameters of selectByPrimaryKey the way hand written JDBC
+     * code would.
+     */
+    private static Object referenceSelectByPrimaryKey(int i) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("p1", i);
+        parameters.put("statement", new StringBuilder()
+                .append("select a.id, a.first_name, a.last_name, a.birth_date, a.employed, a.occupation")
+                .append(" from SimpleTable a")
+                .append(" where a.id = #{parameters.p1,jdbcType=INTEGER}")
+                .toString());
+        return parameters;
+    }
+
+    private void consume(Object statement) {
+        sink += System.identityHashCode(statement);
+    }
+
+    private static SimpleTableRecord record(int i) {
+        SimpleTableRecord record = new SimpleTableRecord();
+        record.setId(i);
+        record.setFirstName("Fred");
+        record.setLastName("Flintstone");
+        record.setBirthDate(new Date(0));
+        record.setEmployed(true);
+        record.setOccupation(i % 2 == 0 ? "Brontosaurus Operator" : null);
+        return record;
+    }
+}
@@ -37,6 +37,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.mybatis.dynamic.sql.delete.DeleteSupport;
 import org.mybatis.dynamic.sql.insert.InsertSupport;
+import org.mybatis.dynamic.sql.select.CompiledSelect;
 import org.mybatis.dynamic.sql.select.SelectSupport;
 import org.mybatis.dynamic.sql.update.UpdateSupport;
 
@@ -123,6 +124,31 @@ public class SimpleTableAnnotatedMapperTest {
         }
     }
 
+    @Test
+    public void testCompiledSelect() {
+        SqlSession session = sqlSessionFactory.openSession();
+        try {
+            SimpleTableAnnotatedMapper mapper = session.getMapper(SimpleTableAnnotatedMapper.class);
+            
+            CompiledSelect compiledSelect = selectByExample()
+                    .where(lastName, isEqualTo(bindParam("lastName")))
+                    .and(employed, isEqualTo(bindParam("employed")))
+                    .orderBy(id)
+                    .compile();
+            
+            List<SimpleTableRecord> rows = mapper.selectMany(compiledSelect.bind("Flintstone", true));
+            softly.assertThat(rows.size()).isEqualTo(2);
+            softly.assertThat(rows.get(0).getId()).isEqualTo(1);
+            softly.assertThat(rows.get(1).getId()).isEqualTo(2);
+
+            rows = mapper.selectMany(compiledSelect.bind("Rubble", false));
+            softly.assertThat(rows.size()).isEqualTo(1);
+            softly.assertThat(rows.get(0).getId()).isEqualTo(6);
+        } finally {
+            session.close();
+        }
+    }
+
     @Test
     public void testDeleteByExample() {
         SqlSession session = sqlSessionFactory.openSession();
@@ -199,6 +225,92 @@ public class SimpleTableAnnotatedMapperTest {
         }
     }
 
+    @Test
+    public void testInsertFromTemplate() {
+        SqlSession session = sqlSessionFactory.openSession();
+        try {
+            SimpleTableAnnotatedMapper mapper = session.getMapper(SimpleTableAnnotatedMapper.class);
+            SimpleTableRecord record = new SimpleTableRecord();
+            record.setId(100);
+            record.setFirstName("Joe");
+            record.setLastName("Jones");
+            record.setBirthDate(new Date());
+            record.setEmployed(true);
+            record.setOccupation("Developer");
+            
+            InsertSupport<SimpleTableRecord> insertSupport = buildFullInsertSupportFromTemplate(record);
+            softly.assertThat(insertSupport.getFullInsertStatement())
+                    .isEqualTo(buildFullInsertSupport(record).getFullInsertStatement());
+            
+            int rows = mapper.insert(insertSupport);
+            
+            softly.assertThat(rows).isEqualTo(1);
+        } finally {
+            session.close();
+        }
+    }
+
+    @Test
+    public void testInsertSelectiveFromTemplate() {
+        SqlSession session = sqlSessionFactory.openSession();
+        try {
+            SimpleTableAnnotatedMapper mapper = session.getMapper(SimpleTableAnnotatedMapper.class);
+            SimpleTableRecord record = new SimpleTableRecord();
+            record.setId(100);
+            record.setFirstName("Joe");
+            record.setLastName("Jones");
+            record.setBirthDate(new Date());
+            record.setEmployed(false);
+            
+            InsertSupport<SimpleTableRecord> insertSupport = buildSelectiveInsertSupportFromTemplate(record);
+            softly.assertThat(insertSupport.getFullInsertStatement())
+                    .isEqualTo(buildSelectiveInsertSupport(record).getFullInsertStatement());
+            
+            int rows = mapper.insert(insertSupport);
+            
+            softly.assertThat(rows).isEqualTo(1);
+        } finally {
+            session.close();
+        }
+    }
+
+    @Test
+    public void testInsertSelectiveWithMaterializedValues() {
+        SqlSession session = sqlSessionFactory.openSession();
+        try {
+            SimpleTableAnnotatedMapper mapper = session.getMapper(SimpleTableAnnotatedMapper.class);
+            SimpleTableRecord record = new SimpleTableRecord();
+            record.setId(100);
+            record.setFirstName("Joe");
+            record.setLastName("Jones");
+            record.setBirthDate(new Date());
+            record.setEmployed(true);
+            
+            InsertSupport<SimpleTableRecord> insertSupport = insert(record)
+                    .into(simpleTable)
+                    .map(id).toPropertyWhenPresent("id", SimpleTableRecord::getId)
+                    .map(firstName).toPropertyWhenPresent("firstName", SimpleTableRecord::getFirstName)
+                    .map(lastName).toPropertyWhenPresent("lastName", SimpleTableRecord::getLastName)
+                    .map(birthDate).toPropertyWhenPresent("birthDate", SimpleTableRecord::getBirthDate)
+                    .map(employed).toPropertyWhenPresent("employed", SimpleTableRecord::getEmployed)
+                    .map(occupation).toPropertyWhenPresent("occupation", SimpleTableRecord::getOccupation)
+                    .withMaterializedValues()
+                    .build();
+            softly.assertThat(insertSupport.getValuesPhrase()).startsWith("values (#{parameters.p1,jdbcType=INTEGER}");
+            softly.assertThat(insertSupport.getParameters().size()).isEqualTo(5);
+            
+            int rows = mapper.insert(insertSupport);
+            softly.assertThat(rows).isEqualTo(1);
+            
+            SimpleTableRecord returnedRecord = mapper.selectOne(buildSelectByPrimaryKeySupport(100));
+            softly.assertThat(returnedRecord.getFirstName()).isEqualTo("Joe");
+            softly.assertThat(returnedRecord.getEmployed()).isTrue();
+            softly.assertThat(returnedRecord.getOccupation()).isNull();
+        } finally {
+            session.close();
+        }
+    }
+
     @Test
     public void testUpdateByPrimaryKey() {
         SqlSession session = sqlSessionFactory.openSession();
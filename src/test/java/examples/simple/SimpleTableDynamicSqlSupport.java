@@ -25,10 +25,12 @@ import org.mybatis.dynamic.sql.MyBatis3Column;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.delete.DeleteSupport;
 import org.mybatis.dynamic.sql.insert.InsertSupport;
+import org.mybatis.dynamic.sql.insert.InsertTemplate;
 import org.mybatis.dynamic.sql.select.SelectSupport;
 import org.mybatis.dynamic.sql.select.SelectSupportBuilder.SelectSupportAfterFromBuilder;
 import org.mybatis.dynamic.sql.update.UpdateSupport;
 import org.mybatis.dynamic.sql.update.UpdateSupportBuilder;
+import org.mybatis.dynamic.sql.where.ShapeCache;
 
 public interface SimpleTableDynamicSqlSupport {
     SqlTable simpleTable = SqlTable.of("SimpleTable").withAlias("a");
@@ -62,6 +64,36 @@ public interface SimpleTableDynamicSqlSupport {
                 .map(occupation).toPropertyWhenPresent("occupation")
                 .build();
     }
+
+    InsertTemplate<SimpleTableRecord> fullInsertTemplate = insertTemplate(SimpleTableRecord.class)
+            .into(simpleTable)
+            .map(id).toProperty("id")
+            .map(firstName).toProperty("firstName")
+            .map(lastName).toProperty("lastName")
+            .map(birthDate).toProperty("birthDate")
+            .map(employed).toProperty("employed")
+            .map(occupation).toProperty("occupation")
+            .build();
+
+    static InsertSupport<SimpleTableRecord> buildFullInsertSupportFromTemplate(SimpleTableRecord record) {
+        return fullInsertTemplate.forRecord(record);
+    }
+
+    InsertTemplate<SimpleTableRecord> selectiveInsertTemplate = insertTemplate(SimpleTableRecord.class)
+            .into(simpleTable)
+            .map(id).toPropertyWhenPresent("id", SimpleTableRecord::getId)
+            .map(firstName).toPropertyWhenPresent("firstName", SimpleTableRecord::getFirstName)
+            .map(lastName).toPropertyWhenPresent("lastName", SimpleTableRecord::getLastName)
+            .map(birthDate).toPropertyWhenPresent("birthDate", SimpleTableRecord::getBirthDate)
+            .map(employed).toPropertyWhenPresent("employed", SimpleTableRecord::getEmployed)
+            .map(occupation).toPropertyWhenPresent("occupation", SimpleTableRecord::getOccupation)
+            .build();
+
+    static InsertSupport<SimpleTableRecord> buildSelectiveInsertSupportFromTemplate(SimpleTableRecord record) {
+        return selectiveInsertTemplate.forRecord(record);
+    }
+
+    ShapeCache shapeCache = ShapeCache.of(100);
     
     static UpdateSupport buildFullUpdateByPrimaryKeySupport(SimpleTableRecord record) {
         return update(simpleTable)
@@ -82,6 +114,7 @@ public interface SimpleTableDynamicSqlSupport {
                 .set(employed).equalToWhenPresent(record.getEmployed())
                 .set(occupation).equalToWhenPresent(record.getOccupation())
                 .where(id, isEqualTo(record.getId()))
+                .withShapeCache(shapeCache)
                 .build();
     }
 
@@ -17,6 +17,9 @@ package examples.simple;
 
 import java.util.Date;
 
+import org.mybatis.dynamic.sql.reflection.GenerateAccessor;
+
+@GenerateAccessor
 public class SimpleTableRecord {
     private Integer id;
     private String firstName;
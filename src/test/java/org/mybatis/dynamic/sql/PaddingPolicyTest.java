@@ -0,0 +1,63 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class PaddingPolicyTest {
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @Test
+    public void testNone() {
+        PaddingPolicy policy = PaddingPolicy.none();
+        softly.assertThat(policy.paddedSize(0)).isEqualTo(0);
+        softly.assertThat(policy.paddedSize(7)).isEqualTo(7);
+    }
+
+    @Test
+    public void testPowersOfTwo() {
+        PaddingPolicy policy = PaddingPolicy.powersOfTwo();
+        softly.assertThat(policy.paddedSize(0)).isEqualTo(0);
+        softly.assertThat(policy.paddedSize(1)).isEqualTo(1);
+        softly.assertThat(policy.paddedSize(2)).isEqualTo(2);
+        softly.assertThat(policy.paddedSize(3)).isEqualTo(4);
+        softly.assertThat(policy.paddedSize(5)).isEqualTo(8);
+        softly.assertThat(policy.paddedSize(64)).isEqualTo(64);
+        softly.assertThat(policy.paddedSize(65)).isEqualTo(128);
+    }
+
+    @Test
+    public void testLadder() {
+        PaddingPolicy policy = PaddingPolicy.ladder(50, 10, 100);
+        softly.assertThat(policy.paddedSize(0)).isEqualTo(0);
+        softly.assertThat(policy.paddedSize(1)).isEqualTo(10);
+        softly.assertThat(policy.paddedSize(10)).isEqualTo(10);
+        softly.assertThat(policy.paddedSize(11)).isEqualTo(50);
+        softly.assertThat(policy.paddedSize(99)).isEqualTo(100);
+        softly.assertThat(policy.paddedSize(101)).isEqualTo(200);
+        softly.assertThat(policy.paddedSize(300)).isEqualTo(300);
+    }
+
+    @Test
+    public void testInvalidLadders() {
+        softly.assertThatThrownBy(() -> PaddingPolicy.ladder()).isInstanceOf(IllegalArgumentException.class);
+        softly.assertThatThrownBy(() -> PaddingPolicy.ladder(0, 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
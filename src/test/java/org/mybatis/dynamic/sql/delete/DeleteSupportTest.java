@@ -15,15 +15,20 @@
  */
 package org.mybatis.dynamic.sql.delete;
 
+import static org.mybatis.dynamic.sql.SqlBuilder.bindParam;
 import static org.mybatis.dynamic.sql.SqlBuilder.deleteFrom;
 import static org.mybatis.dynamic.sql.SqlConditions.isEqualTo;
 import static org.mybatis.dynamic.sql.SqlConditions.isLikeCaseInsensitive;
 
 import java.sql.JDBCType;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.assertj.core.api.JUnitSoftAssertions;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mybatis.dynamic.sql.RenderingStrategy;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
 
@@ -35,6 +40,18 @@ public class DeleteSupportTest {
     private static final SqlColumn<Integer> id = SqlColumn.of("id", JDBCType.INTEGER);
     private static final SqlColumn<String> firstName = SqlColumn.of("first_name", JDBCType.VARCHAR);
 
+    @Test
+    public void testFactoryCopiesParameters() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("p1", 3);
+
+        DeleteSupport deleteSupport = DeleteSupport.of("where id = {parameters.p1}", parameters,
+                Collections.emptyList(), foo);
+        parameters.put("p1", 5);
+
+        softly.assertThat(deleteSupport.getParameters().get("p1")).isEqualTo(3);
+    }
+
     @Test
     public void testFullStatement() {
         DeleteSupport deleteSupport = deleteFrom(foo)
@@ -65,4 +82,36 @@ public class DeleteSupportTest {
         softly.assertThat(deleteSupport.getFullDeleteStatement()).isEqualTo(expectedFullStatement);
         softly.assertThat(deleteSupport.getParameters().size()).isEqualTo(0);
     }
+
+    @Test
+    public void testCompiledDelete() {
+        CompiledDelete compiledDelete = deleteFrom(foo)
+                .where(id, isEqualTo(bindParam("id")))
+                .or(firstName, isLikeCaseInsensitive(bindParam("name")))
+                .compile();
+
+        DeleteSupport deleteSupport = compiledDelete.bind(3, "%Fr%");
+
+        String expectedFullStatement = "delete from foo where id = {parameters.p1} or upper(first_name) like {parameters.p2}";
+        softly.assertThat(deleteSupport.getFullDeleteStatement()).isEqualTo(expectedFullStatement);
+        
+        softly.assertThat(deleteSupport.getParameters().size()).isEqualTo(2);
+        softly.assertThat(deleteSupport.getParameters().get("p1")).isEqualTo(3);
+        softly.assertThat(deleteSupport.getParameters().get("p2")).isEqualTo("%FR%");
+    }
+
+    @Test
+    public void testPositionalRendering() {
+        DeleteSupport deleteSupport = deleteFrom(foo)
+                .where(id, isEqualTo(3))
+                .or(firstName, isLikeCaseInsensitive("%Fr%"))
+                .build(RenderingStrategy.POSITIONAL);
+
+        String expectedFullStatement = "delete from foo where id = ? or upper(first_name) like ?";
+        softly.assertThat(deleteSupport.getFullDeleteStatement()).isEqualTo(expectedFullStatement);
+        softly.assertThat(deleteSupport.getParameters()).isEmpty();
+        softly.assertThat(deleteSupport.getBindings()).extracting("value").containsExactly(3, "%FR%");
+        softly.assertThat(deleteSupport.getBindings()).extracting("jdbcType").containsExactly(JDBCType.INTEGER,
+                JDBCType.VARCHAR);
+    }
 }
@@ -0,0 +1,143 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.insertBatch;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mybatis.dynamic.sql.RenderingStrategy;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.InsertSupportTest.TestRecord;
+
+public class InsertBatchSupportTest {
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = SqlColumn.of("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = SqlColumn.of("first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> lastName = SqlColumn.of("last_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> occupation = SqlColumn.of("occupation", JDBCType.VARCHAR);
+
+    @Test
+    public void testStatementIsRenderedOnce() {
+        InsertBatchSupport<TestRecord> insertBatchSupport = insertBatch(records(3))
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toNull()
+                .map(occupation).toConstant("'driver'")
+                .build();
+
+        String expectedStatement = "insert into foo (id, first_name, last_name, occupation) "
+                + "values ({record.id}, {record.firstName}, null, 'driver')";
+        softly.assertThat(insertBatchSupport.getFullInsertStatement()).isEqualTo(expectedStatement);
+
+        InsertSupport<TestRecord> first = insertBatchSupport.forRecord(insertBatchSupport.getRecords().get(0));
+        InsertSupport<TestRecord> second = insertBatchSupport.forRecord(insertBatchSupport.getRecords().get(1));
+        softly.assertThat(first.getRecord().getId()).isEqualTo(0);
+        softly.assertThat(second.getRecord().getId()).isEqualTo(1);
+        softly.assertThat(first.getFullInsertStatement()).isSameAs(insertBatchSupport.getFullInsertStatement());
+        softly.assertThat(second.getFullInsertStatement()).isSameAs(insertBatchSupport.getFullInsertStatement());
+        softly.assertThat(second.getValuesPhrase()).isEqualTo(insertBatchSupport.getValuesPhrase());
+    }
+
+    @Test
+    public void testBatchesRespectFlushSize() {
+        InsertBatchSupport<TestRecord> insertBatchSupport = insertBatch(records(5))
+                .into(foo)
+                .map(id).toProperty("id")
+                .withFlushSize(2)
+                .build();
+
+        List<List<TestRecord>> batches = insertBatchSupport.getBatches();
+        softly.assertThat(insertBatchSupport.getFlushSize()).isEqualTo(2);
+        softly.assertThat(batches).hasSize(3);
+        softly.assertThat(batches.get(0)).extracting("id").containsExactly(0, 1);
+        softly.assertThat(batches.get(1)).extracting("id").containsExactly(2, 3);
+        softly.assertThat(batches.get(2)).extracting("id").containsExactly(4);
+    }
+
+    @Test
+    public void testAllRecordsInOneBatchByDefault() {
+        InsertBatchSupport<TestRecord> insertBatchSupport = insertBatch(records(5))
+                .into(foo)
+                .map(id).toProperty("id")
+                .build();
+
+        softly.assertThat(insertBatchSupport.getBatches()).hasSize(1);
+        softly.assertThat(insertBatchSupport.getBatches().get(0)).hasSize(5);
+    }
+
+    @Test
+    public void testPositionalBindingsForEachRecord() {
+        List<TestRecord> records = records(2);
+        InsertBatchSupport<TestRecord> insertBatchSupport = insertBatch(records)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(lastName).toNull()
+                .map(firstName).toProperty("firstName")
+                .build(RenderingStrategy.POSITIONAL);
+
+        softly.assertThat(insertBatchSupport.getValuesPhrase()).isEqualTo("values (?, null, ?)");
+        softly.assertThat(insertBatchSupport.getBindings()).isEmpty();
+        softly.assertThat(insertBatchSupport.bindingsFor(records.get(1))).extracting("value")
+                .containsExactly(1, "fred1");
+        softly.assertThat(insertBatchSupport.bindingsFor(records.get(1))).extracting("jdbcType")
+                .containsExactly(JDBCType.INTEGER, JDBCType.VARCHAR);
+    }
+
+    @Test
+    public void testPositionalInsertForRecord() {
+        List<TestRecord> records = records(2);
+        InsertBatchSupport<TestRecord> insertBatchSupport = insertBatch(records)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .build(RenderingStrategy.POSITIONAL);
+
+        InsertSupport<TestRecord> insertSupport = insertBatchSupport.forRecord(records.get(1));
+        softly.assertThat(insertSupport.getFullInsertStatement()).isEqualTo("insert into foo (id, first_name) values (?, ?)");
+        softly.assertThat(insertSupport.getBindings()).extracting("value").containsExactly(1, "fred1");
+        softly.assertThat(insertSupport.getRenderingStrategy()).isEqualTo(RenderingStrategy.POSITIONAL);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFlushSizeMustBePositive() {
+        insertBatch(records(1))
+                .into(foo)
+                .map(id).toProperty("id")
+                .withFlushSize(0);
+    }
+
+    private List<TestRecord> records(int count) {
+        List<TestRecord> records = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            TestRecord record = new TestRecord();
+            record.setId(i);
+            record.setFirstName("fred" + i);
+            records.add(record);
+        }
+        return records;
+    }
+}
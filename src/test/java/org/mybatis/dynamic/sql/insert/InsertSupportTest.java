@@ -21,11 +21,13 @@ import static org.mybatis.dynamic.sql.SqlBuilder.insert;
 import java.sql.JDBCType;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collector;
 
 import org.assertj.core.api.JUnitSoftAssertions;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mybatis.dynamic.sql.RenderingStrategy;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
 
@@ -171,6 +173,108 @@ public class InsertSupportTest {
         assertThat(insertSupport.getFullInsertStatement()).isEqualTo(expectedStatement);
     }
 
+    @Test
+    public void testPositionalRendering() {
+        TestRecord record = new TestRecord();
+        record.setId(22);
+        record.setLastName("jones");
+        record.setOccupation("dino driver");
+
+        InsertSupport<TestRecord> insertSupport = insert(record)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toPropertyWhenPresent("firstName")
+                .map(lastName).toProperty("lastName")
+                .map(occupation).toConstant("'Y'")
+                .build(RenderingStrategy.POSITIONAL);
+
+        String expectedStatement = "insert into foo (id, last_name, occupation) values (?, ?, 'Y')";
+        softly.assertThat(insertSupport.getFullInsertStatement()).isEqualTo(expectedStatement);
+        softly.assertThat(insertSupport.getBindings()).extracting("value").containsExactly(22, "jones");
+        softly.assertThat(insertSupport.getBindings()).extracting("jdbcType").containsExactly(JDBCType.INTEGER,
+                JDBCType.VARCHAR);
+    }
+
+    @Test
+    public void testSelectiveInsertWithGetters() {
+        TestRecord record = new TestRecord();
+        record.setId(22);
+        record.setOccupation("dino driver");
+        
+        InsertSupport<TestRecord> insertSupport = insert(record)
+                .into(foo)
+                .map(id).toPropertyWhenPresent("id", TestRecord::getId)
+                .map(firstName).toPropertyWhenPresent("firstName", TestRecord::getFirstName)
+                .map(lastName).toPropertyWhenPresent("lastName", TestRecord::getLastName)
+                .map(occupation).toPropertyWhenPresent("occupation", TestRecord::getOccupation)
+                .build();
+
+        softly.assertThat(insertSupport.getColumnsPhrase()).isEqualTo("(id, occupation)");
+        softly.assertThat(insertSupport.getValuesPhrase()).isEqualTo("values ({record.id}, {record.occupation})");
+    }
+
+    @Test
+    public void testSelectiveInsertWithGettersIsPositional() {
+        TestRecord record = new TestRecord();
+        record.setId(22);
+        record.setLastName("jones");
+        
+        InsertSupport<TestRecord> insertSupport = insert(record)
+                .into(foo)
+                .map(id).toPropertyWhenPresent("id", TestRecord::getId)
+                .map(firstName).toPropertyWhenPresent("firstName", TestRecord::getFirstName)
+                .map(lastName).toPropertyWhenPresent("lastName", r -> r.getLastName().toUpperCase())
+                .build(RenderingStrategy.POSITIONAL);
+
+        softly.assertThat(insertSupport.getFullInsertStatement())
+                .isEqualTo("insert into foo (id, last_name) values (?, ?)");
+        // the value is read with the getter, not by the property name
+        softly.assertThat(insertSupport.getBindings()).extracting("value").containsExactly(22, "JONES");
+    }
+
+    @Test
+    public void testMaterializedValues() {
+        TestRecord record = new TestRecord();
+        record.setId(3);
+        record.setLastName("jones");
+
+        AtomicInteger reads = new AtomicInteger();
+        InsertSupport<TestRecord> insertSupport = insert(record)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toPropertyWhenPresent("firstName")
+                .map(lastName).toPropertyWhenPresent("lastName", r -> {
+                    reads.incrementAndGet();
+                    return r.getLastName();
+                })
+                .map(occupation).toNull()
+                .withMaterializedValues()
+                .build();
+
+        softly.assertThat(insertSupport.getColumnsPhrase()).isEqualTo("(id, last_name, occupation)");
+        softly.assertThat(insertSupport.getValuesPhrase()).isEqualTo(
+                "values ({parameters.p1}, {parameters.p2}, null)");
+        softly.assertThat(insertSupport.getParameters()).containsOnlyKeys("p1", "p2");
+        softly.assertThat(insertSupport.getParameters().get("p1")).isEqualTo(3);
+        softly.assertThat(insertSupport.getParameters().get("p2")).isEqualTo("jones");
+        softly.assertThat(insertSupport.getBindings()).isEmpty();
+        softly.assertThat(reads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testParametersAreEmptyWithoutMaterializedValues() {
+        TestRecord record = new TestRecord();
+        record.setId(3);
+
+        InsertSupport<TestRecord> insertSupport = insert(record)
+                .into(foo)
+                .map(id).toProperty("id")
+                .build();
+
+        softly.assertThat(insertSupport.getValuesPhrase()).isEqualTo("values ({record.id})");
+        softly.assertThat(insertSupport.getParameters()).isEmpty();
+    }
+
     public static class TestRecord {
         private Integer id;
         private String firstName;
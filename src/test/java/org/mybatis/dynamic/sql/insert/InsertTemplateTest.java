@@ -0,0 +1,233 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.insert;
+import static org.mybatis.dynamic.sql.SqlBuilder.insertTemplate;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mybatis.dynamic.sql.RenderingStrategy;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.InsertSupportTest.TestRecord;
+
+public class InsertTemplateTest {
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = SqlColumn.of("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = SqlColumn.of("first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> lastName = SqlColumn.of("last_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> occupation = SqlColumn.of("occupation", JDBCType.VARCHAR);
+
+    private static final InsertTemplate<TestRecord> template = insertTemplate(TestRecord.class)
+            .into(foo)
+            .map(id).toProperty("id")
+            .map(firstName).toProperty("firstName")
+            .map(lastName).toNull()
+            .map(occupation).toConstant("'driver'")
+            .build();
+
+    @Test
+    public void testTemplateMatchesInsertBuilder() {
+        TestRecord record = record(22, "fred");
+
+        InsertSupport<TestRecord> expected = insert(record)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toNull()
+                .map(occupation).toConstant("'driver'")
+                .build();
+
+        InsertSupport<TestRecord> insertSupport = template.forRecord(record);
+        softly.assertThat(insertSupport.getColumnsPhrase()).isEqualTo(expected.getColumnsPhrase());
+        softly.assertThat(insertSupport.getValuesPhrase()).isEqualTo(expected.getValuesPhrase());
+        softly.assertThat(insertSupport.getFullInsertStatement()).isEqualTo(expected.getFullInsertStatement());
+        softly.assertThat(insertSupport.getRecord()).isSameAs(record);
+        softly.assertThat(insertSupport.getBindings()).isEmpty();
+    }
+
+    @Test
+    public void testRecordsSharePhrases() {
+        InsertSupport<TestRecord> first = template.forRecord(record(1, "fred"));
+        InsertSupport<TestRecord> second = template.forRecord(record(2, "barney"));
+
+        softly.assertThat(first.getColumnsPhrase()).isSameAs(template.getColumnsPhrase());
+        softly.assertThat(second.getValuesPhrase()).isSameAs(template.getValuesPhrase());
+        softly.assertThat(first.getFullInsertStatement()).isSameAs(template.getFullInsertStatement());
+        softly.assertThat(second.getFullInsertStatement()).isSameAs(template.getFullInsertStatement());
+        softly.assertThat(second.getRecord().getId()).isEqualTo(2);
+    }
+
+    @Test
+    public void testPositionalTemplate() {
+        InsertTemplate<TestRecord> positionalTemplate = insertTemplate(TestRecord.class)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(occupation).toConstant("'driver'")
+                .map(firstName).toProperty("firstName")
+                .build(RenderingStrategy.POSITIONAL);
+
+        InsertSupport<TestRecord> insertSupport = positionalTemplate.forRecord(record(3, "wilma"));
+        softly.assertThat(insertSupport.getFullInsertStatement())
+                .isEqualTo("insert into foo (id, occupation, first_name) values (?, 'driver', ?)");
+        softly.assertThat(insertSupport.getBindings()).extracting("value").containsExactly(3, "wilma");
+        softly.assertThat(insertSupport.getBindings()).extracting("jdbcType")
+                .containsExactly(JDBCType.INTEGER, JDBCType.VARCHAR);
+    }
+
+    @Test
+    public void testWhenPresentStatementsAreCachedByPresence() {
+        InsertTemplate<TestRecord> selectiveTemplate = selectiveTemplate();
+
+        InsertSupport<TestRecord> first = selectiveTemplate.forRecord(record(1, "fred"));
+        InsertSupport<TestRecord> second = selectiveTemplate.forRecord(record(2, "barney"));
+        InsertSupport<TestRecord> third = selectiveTemplate.forRecord(record(3, null));
+
+        InsertSupport<TestRecord> expected = insert(record(1, "fred"))
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toPropertyWhenPresent("firstName")
+                .map(lastName).toPropertyWhenPresent("lastName")
+                .map(occupation).toConstant("'driver'")
+                .build();
+
+        softly.assertThat(first.getFullInsertStatement()).isEqualTo(expected.getFullInsertStatement());
+        softly.assertThat(second.getFullInsertStatement()).isSameAs(first.getFullInsertStatement());
+        softly.assertThat(third.getFullInsertStatement())
+                .isEqualTo("insert into foo (id, occupation) values ({record.id}, 'driver')");
+        softly.assertThat(selectiveTemplate.renderedStatements()).isEqualTo(2);
+        softly.assertThat(selectiveTemplate.getFullInsertStatement()).isEqualTo("insert into foo "
+                + "(id, first_name, last_name, occupation) "
+                + "values ({record.id}, {record.firstName}, {record.lastName}, 'driver')");
+    }
+
+    @Test
+    public void testWhenPresentPositionalBindings() {
+        InsertTemplate<TestRecord> selectiveTemplate = insertTemplate(TestRecord.class)
+                .into(foo)
+                .map(id).toPropertyWhenPresent("id")
+                .map(firstName).toPropertyWhenPresent("firstName")
+                .build(RenderingStrategy.POSITIONAL);
+
+        InsertSupport<TestRecord> insertSupport = selectiveTemplate.forRecord(record(7, null));
+        softly.assertThat(insertSupport.getFullInsertStatement()).isEqualTo("insert into foo (id) values (?)");
+        softly.assertThat(insertSupport.getBindings()).extracting("value").containsExactly(7);
+    }
+
+    @Test
+    public void testWhenPresentTemplateIsThreadSafe() throws Exception {
+        InsertTemplate<TestRecord> selectiveTemplate = selectiveTemplate();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> statements = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                TestRecord record = record(i, i % 2 == 0 ? "fred" : null);
+                record.setLastName(i % 3 == 0 ? "flintstone" : null);
+                statements.add(executor.submit(() -> selectiveTemplate.forRecord(record).getFullInsertStatement()));
+            }
+
+            for (int i = 0; i < statements.size(); i++) {
+                String expected = "insert into foo (id" + (i % 2 == 0 ? ", first_name" : "")
+                        + (i % 3 == 0 ? ", last_name" : "") + ", occupation) values ({record.id}"
+                        + (i % 2 == 0 ? ", {record.firstName}" : "") + (i % 3 == 0 ? ", {record.lastName}" : "")
+                        + ", 'driver')";
+                softly.assertThat(statements.get(i).get()).isEqualTo(expected);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        softly.assertThat(selectiveTemplate.renderedStatements()).isEqualTo(4);
+    }
+
+    @Test
+    public void testWhenPresentWithGetters() {
+        InsertTemplate<TestRecord> selectiveTemplate = insertTemplate(TestRecord.class)
+                .into(foo)
+                .map(id).toPropertyWhenPresent("id", TestRecord::getId)
+                .map(firstName).toPropertyWhenPresent("firstName", TestRecord::getFirstName)
+                .map(lastName).toPropertyWhenPresent("lastName", TestRecord::getLastName)
+                .build(RenderingStrategy.POSITIONAL);
+
+        TestRecord record = record(4, null);
+        record.setLastName("rubble");
+        InsertSupport<TestRecord> insertSupport = selectiveTemplate.forRecord(record);
+        softly.assertThat(insertSupport.getFullInsertStatement())
+                .isEqualTo("insert into foo (id, last_name) values (?, ?)");
+        softly.assertThat(insertSupport.getBindings()).extracting("value").containsExactly(4, "rubble");
+    }
+
+    @Test
+    public void testMaterializedTemplate() {
+        AtomicInteger reads = new AtomicInteger();
+        InsertTemplate<TestRecord> materializedTemplate = insertTemplate(TestRecord.class)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toPropertyWhenPresent("firstName", r -> {
+                    reads.incrementAndGet();
+                    return r.getFirstName();
+                })
+                .map(lastName).toPropertyWhenPresent("lastName")
+                .map(occupation).toConstant("'driver'")
+                .withMaterializedValues()
+                .build();
+
+        TestRecord record = record(4, "fred");
+        record.setLastName("flintstone");
+        InsertSupport<TestRecord> insertSupport = materializedTemplate.forRecord(record);
+        softly.assertThat(insertSupport.getValuesPhrase())
+                .isEqualTo("values ({parameters.p1}, {parameters.p2}, {parameters.p3}, 'driver')");
+        softly.assertThat(insertSupport.getParameters()).containsOnlyKeys("p1", "p2", "p3");
+        softly.assertThat(insertSupport.getParameters().get("p3")).isEqualTo("flintstone");
+        softly.assertThat(reads.get()).isEqualTo(1);
+
+        insertSupport = materializedTemplate.forRecord(record(5, null));
+        softly.assertThat(insertSupport.getColumnsPhrase()).isEqualTo("(id, occupation)");
+        softly.assertThat(insertSupport.getValuesPhrase()).isEqualTo("values ({parameters.p1}, 'driver')");
+        softly.assertThat(insertSupport.getParameters()).containsOnlyKeys("p1");
+        softly.assertThat(insertSupport.getParameters().get("p1")).isEqualTo(5);
+        softly.assertThat(reads.get()).isEqualTo(2);
+    }
+
+    private InsertTemplate<TestRecord> selectiveTemplate() {
+        return insertTemplate(TestRecord.class)
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toPropertyWhenPresent("firstName")
+                .map(lastName).toPropertyWhenPresent("lastName")
+                .map(occupation).toConstant("'driver'")
+                .build();
+    }
+
+    private TestRecord record(int id, String firstName) {
+        TestRecord record = new TestRecord();
+        record.setId(id);
+        record.setFirstName(firstName);
+        return record;
+    }
+}
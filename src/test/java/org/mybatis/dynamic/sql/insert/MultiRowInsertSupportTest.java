@@ -0,0 +1,136 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.insert;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.insertMultiple;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mybatis.dynamic.sql.RenderingStrategy;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.insert.InsertSupportTest.TestRecord;
+
+public class MultiRowInsertSupportTest {
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    private static final SqlTable foo = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = SqlColumn.of("id", JDBCType.INTEGER);
+    private static final SqlColumn<String> firstName = SqlColumn.of("first_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> lastName = SqlColumn.of("last_name", JDBCType.VARCHAR);
+    private static final SqlColumn<String> occupation = SqlColumn.of("occupation", JDBCType.VARCHAR);
+
+    @Test
+    public void testMultiRowInsert() {
+        List<MultiRowInsertSupport<TestRecord>> insertSupports = insertMultiple(records(2))
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(lastName).toNull()
+                .map(occupation).toConstant("'driver'")
+                .build();
+
+        softly.assertThat(insertSupports.size()).isEqualTo(1);
+        MultiRowInsertSupport<TestRecord> insertSupport = insertSupports.get(0);
+        softly.assertThat(insertSupport.getColumnsPhrase()).isEqualTo("(id, first_name, last_name, occupation)");
+        softly.assertThat(insertSupport.getValuesPhrase()).isEqualTo(
+                "values ({records[0].id}, {records[0].firstName}, null, 'driver'), "
+                + "({records[1].id}, {records[1].firstName}, null, 'driver')");
+        softly.assertThat(insertSupport.getFullInsertStatement()).isEqualTo("insert into foo "
+                + insertSupport.getColumnsPhrase() + " " + insertSupport.getValuesPhrase());
+        softly.assertThat(insertSupport.getRecords()).extracting("id").containsExactly(0, 1);
+    }
+
+    @Test
+    public void testRecordsAreChunkedByMaximumParameters() {
+        List<MultiRowInsertSupport<TestRecord>> insertSupports = insertMultiple(records(5))
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .map(occupation).toConstant("'driver'")
+                .withMaxParameters(5)
+                .build();
+
+        softly.assertThat(insertSupports.size()).isEqualTo(3);
+        softly.assertThat(insertSupports.get(0).getRecords()).extracting("id").containsExactly(0, 1);
+        softly.assertThat(insertSupports.get(1).getRecords()).extracting("id").containsExactly(2, 3);
+        softly.assertThat(insertSupports.get(2).getRecords()).extracting("id").containsExactly(4);
+        softly.assertThat(insertSupports.get(1).getValuesPhrase()).isEqualTo(
+                "values ({records[0].id}, {records[0].firstName}, 'driver'), "
+                + "({records[1].id}, {records[1].firstName}, 'driver')");
+        softly.assertThat(insertSupports.get(2).getValuesPhrase()).isEqualTo(
+                "values ({records[0].id}, {records[0].firstName}, 'driver')");
+    }
+
+    @Test
+    public void testPositionalBindingsAreInRowOrder() {
+        List<MultiRowInsertSupport<TestRecord>> insertSupports = insertMultiple(records(3))
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .build(RenderingStrategy.POSITIONAL);
+
+        MultiRowInsertSupport<TestRecord> insertSupport = insertSupports.get(0);
+        softly.assertThat(insertSupport.getValuesPhrase()).isEqualTo("values (?, ?), (?, ?), (?, ?)");
+        softly.assertThat(insertSupport.getBindings()).extracting("value")
+                .containsExactly(0, "fred0", 1, "fred1", 2, "fred2");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRowLargerThanMaximumParameters() {
+        insertMultiple(records(1))
+                .into(foo)
+                .map(id).toProperty("id")
+                .map(firstName).toProperty("firstName")
+                .withMaxParameters(1)
+                .build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMaximumParametersMustBePositive() {
+        insertMultiple(records(1))
+                .into(foo)
+                .map(id).toProperty("id")
+                .withMaxParameters(0);
+    }
+
+    @Test
+    public void testEmptyRecords() {
+        List<MultiRowInsertSupport<TestRecord>> insertSupports = insertMultiple(new ArrayList<TestRecord>())
+                .into(foo)
+                .map(id).toProperty("id")
+                .build();
+
+        softly.assertThat(insertSupports).isEmpty();
+    }
+
+    private List<TestRecord> records(int count) {
+        List<TestRecord> records = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            TestRecord record = new TestRecord();
+            record.setId(i);
+            record.setFirstName("fred" + i);
+            records.add(record);
+        }
+        return records;
+    }
+}
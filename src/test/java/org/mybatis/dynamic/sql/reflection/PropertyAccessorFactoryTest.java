@@ -0,0 +1,158 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.reflection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.Optional;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mybatis.dynamic.sql.util.BeanPropertyGetter;
+
+import examples.simple.SimpleTableRecord;
+import examples.simple.SimpleTableRecordPropertyAccessor;
+
+public class PropertyAccessorFactoryTest {
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @Test
+    public void testAccessorClassName() {
+        softly.assertThat(PropertyAccessorFactory.accessorClassName("com.foo.Person"))
+                .isEqualTo("com.foo.PersonPropertyAccessor");
+        softly.assertThat(PropertyAccessorFactory.accessorClassName("com.foo.Outer$Person"))
+                .isEqualTo("com.foo.Outer_PersonPropertyAccessor");
+        softly.assertThat(PropertyAccessorFactory.accessorClassName("Person"))
+                .isEqualTo("PersonPropertyAccessor");
+    }
+
+    @Test
+    public void testGeneratedAccessor() {
+        SimpleTableRecord record = new SimpleTableRecord();
+        record.setId(3);
+        record.setFirstName("Fred");
+        Date birthDate = new Date();
+        record.setBirthDate(birthDate);
+
+        Optional<PropertyAccessor<Object>> accessor = PropertyAccessorFactory.instance()
+                .findForClass(SimpleTableRecord.class);
+
+        softly.assertThat(accessor.isPresent()).isTrue();
+        softly.assertThat(accessor.get()).isInstanceOf(SimpleTableRecordPropertyAccessor.class);
+        softly.assertThat(accessor.get().hasProperty("firstName")).isTrue();
+        softly.assertThat(accessor.get().hasProperty("class")).isFalse();
+        softly.assertThat(accessor.get().get(record, "id")).isEqualTo(3);
+        softly.assertThat(accessor.get().get(record, "firstName")).isEqualTo("Fred");
+        softly.assertThat(accessor.get().get(record, "birthDate")).isSameAs(birthDate);
+        softly.assertThat(accessor.get().get(record, "lastName")).isNull();
+        softly.assertThat(accessor.get().get(record, "unknown")).isNull();
+        softly.assertThat(SimpleTableRecordPropertyAccessor.getFirstName(record)).isEqualTo("Fred");
+    }
+
+    @Test
+    public void testInheritedAndPrimitiveProperties() {
+        TestRecord record = new TestRecord();
+
+        Optional<PropertyAccessor<Object>> accessor = PropertyAccessorFactory.instance()
+                .findForClass(TestRecord.class);
+
+        softly.assertThat(accessor.isPresent()).isTrue();
+        softly.assertThat(accessor.get().get(record, "name")).isEqualTo("fred");
+        softly.assertThat(accessor.get().get(record, "t")).isEqualTo("barney");
+        softly.assertThat(accessor.get().get(record, "active")).isEqualTo(true);
+        softly.assertThat(accessor.get().get(record, "count")).isEqualTo(22);
+        softly.assertThat(accessor.get().hasProperty("fullName")).isFalse();
+        softly.assertThat(accessor.get().hasProperty("hidden")).isFalse();
+        softly.assertThat(accessor.get().hasProperty("publicField")).isFalse();
+
+        int count = PropertyAccessorFactoryTest_TestRecordPropertyAccessor.getCount(record);
+        softly.assertThat(count).isEqualTo(22);
+    }
+
+    @Test
+    public void testClassWithoutAccessor() {
+        softly.assertThat(PropertyAccessorFactory.instance().findForClass(String.class).isPresent()).isFalse();
+        softly.assertThat(PropertyAccessorFactory.instance().findForClass(ReflectorTest.TestClass.class).isPresent())
+                .isFalse();
+    }
+
+    @Test
+    public void testBeanPropertyGetterFallsBackForOtherProperties() {
+        TestRecord record = new TestRecord();
+        record.publicField = "wilma";
+
+        BeanPropertyGetter getter = BeanPropertyGetter.instance();
+        softly.assertThat(getter.getPropertyValue(record, "name")).isEqualTo("fred");
+        softly.assertThat(getter.getPropertyValue(record, "publicField")).isEqualTo("wilma");
+        softly.assertThat(getter.getPropertyValue(record, "child.name")).isEqualTo("fred");
+    }
+
+    @Test
+    public void testMetaObjectUsesAccessor() {
+        TestRecord record = new TestRecord();
+        assertThat(MetaObject.forObject(record).getValue("child.count")).isEqualTo(22);
+    }
+
+    public static class BaseRecord<T> {
+        public String getName() {
+            return "wilma";
+        }
+
+        public T getT() {
+            return null;
+        }
+    }
+
+    @GenerateAccessor
+    public static class TestRecord extends BaseRecord<String> {
+        public String publicField;
+
+        @Override
+        public String getName() {
+            return "fred";
+        }
+
+        @Override
+        public String getT() {
+            return "barney";
+        }
+
+        public boolean isActive() {
+            return true;
+        }
+
+        public int getCount() {
+            return 22;
+        }
+
+        public TestRecord getChild() {
+            return new TestRecord();
+        }
+
+        public String getFullName(String separator) {
+            return null;
+        }
+
+        @SuppressWarnings("unused")
+        private String getHidden() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.reflection;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ReflectorFactoryTest {
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @Test
+    public void testReflectorsAreCached() {
+        Reflector reflector = ReflectorFactory.instance().findForClass(ReflectorTest.TestClass.class);
+
+        softly.assertThat(ReflectorFactory.instance().findForClass(ReflectorTest.TestClass.class)).isSameAs(reflector);
+        softly.assertThat(ReflectorFactory.instance().findForClass(ReflectorTest.BaseClass.class))
+                .isNotSameAs(reflector);
+    }
+
+    @Test
+    public void testPrewarm() throws Exception {
+        ReflectorFactory.instance().prewarm(Arrays.asList(PrewarmedRecord.class, ReflectorTest.BaseClass.class))
+                .get(10, TimeUnit.SECONDS);
+
+        Reflector reflector = ReflectorFactory.instance().findForClass(PrewarmedRecord.class);
+        softly.assertThat(reflector.getGetInvoker("name").isPresent()).isTrue();
+    }
+
+    @Test
+    public void testConcurrentLookupsShareOneReflector() throws Exception {
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Callable<Reflector> lookup = () -> {
+                start.await();
+                return ReflectorFactory.instance().findForClass(RacedRecord.class);
+            };
+
+            List<Future<Reflector>> futures = IntStream.range(0, threads)
+                    .mapToObj(i -> executor.submit(lookup))
+                    .collect(Collectors.toList());
+            start.countDown();
+
+            Reflector first = futures.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<Reflector> future : futures) {
+                softly.assertThat(future.get(10, TimeUnit.SECONDS)).isSameAs(first);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public static class PrewarmedRecord {
+        public String getName() {
+            return "fred";
+        }
+    }
+
+    public static class RacedRecord {
+        public String getName() {
+            return "barney";
+        }
+    }
+}
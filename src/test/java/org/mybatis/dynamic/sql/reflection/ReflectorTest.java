@@ -153,6 +153,60 @@ public class ReflectorTest {
         softly.assertThat(r.getGetInvoker("name").isPresent()).isEqualTo(true);
     }
     
+    @Test
+    public void testLazyReflectorMatchesFullScan() throws Exception {
+        TestClass tc = new TestClass();
+        tc.publicField = "barney";
+        Reflector lazy = Reflector.lazy(TestClass.class);
+        Reflector full = new Reflector(TestClass.class);
+
+        for (String property : new String[] {"firstName", "privateField", "name", "publicField", "t", "ignored"}) {
+            softly.assertThat(lazy.getGetInvoker(property).isPresent())
+                    .as(property)
+                    .isEqualTo(full.getGetInvoker(property).isPresent());
+        }
+        softly.assertThat(lazy.getGetInvoker("name").get().invoke(tc, new Object[0])).isEqualTo("fred");
+        softly.assertThat(lazy.getGetInvoker("privateField").get().invoke(tc, new Object[0])).isEqualTo("Test");
+        softly.assertThat(lazy.getGetInvoker("publicField").get().invoke(tc, new Object[0])).isEqualTo("barney");
+        softly.assertThat(lazy.getGetInvoker("name").get().getDeclaringClass()).isEqualTo(TestClass.class);
+    }
+
+    @Test
+    public void testLazyReflectorCachesLookups() {
+        Reflector lazy = Reflector.lazy(TestClass.class);
+
+        softly.assertThat(lazy.getGetInvoker("name")).isSameAs(lazy.getGetInvoker("name"));
+        softly.assertThat(lazy.getGetInvoker("ignored")).isSameAs(lazy.getGetInvoker("ignored"));
+    }
+
+    @Test
+    public void testResolveAllKeepsResolvedInvokers() {
+        Reflector lazy = Reflector.lazy(TestClass.class);
+        Optional<Invoker> name = lazy.getGetInvoker("name");
+
+        lazy.resolveAll();
+        softly.assertThat(lazy.getGetInvoker("name")).isSameAs(name);
+        softly.assertThat(lazy.getGetInvoker("privateField").isPresent()).isEqualTo(true);
+        softly.assertThat(lazy.getGetInvoker("ignored").isPresent()).isEqualTo(false);
+    }
+
+    @Test
+    public void testLazyDenySetAccessible() {
+        SecurityManager oldSm = System.getSecurityManager();
+        System.setSecurityManager(new DenyingSecurityManager());
+        Reflector r = Reflector.lazy(TestClass.class);
+        Optional<Invoker> firstName;
+        Optional<Invoker> publicField;
+        try {
+            firstName = r.getGetInvoker("firstName");
+            publicField = r.getGetInvoker("publicField");
+        } finally {
+            System.setSecurityManager(oldSm);
+        }
+        softly.assertThat(firstName.isPresent()).isEqualTo(false);
+        softly.assertThat(publicField.isPresent()).isEqualTo(true);
+    }
+
     public static class BaseClass<T> {
         @SuppressWarnings("unused")
         private String privateField = "Base";
@@ -0,0 +1,168 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.reflection.invoker;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class InvokersTest {
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @Test
+    public void testPublicGetterUsesLambda() throws Exception {
+        Invoker invoker = Invokers.forGetter(TestBean.class.getMethod("getName"));
+        softly.assertThat(invoker).isInstanceOf(LambdaInvoker.class);
+        softly.assertThat(invoker.invoke(new TestBean(), new Object[0])).isEqualTo("fred");
+        softly.assertThat(invoker.getDeclaringClass()).isEqualTo(TestBean.class);
+    }
+
+    @Test
+    public void testPrimitiveGetterIsBoxed() throws Exception {
+        Invoker invoker = Invokers.forGetter(TestBean.class.getMethod("getAge"));
+        softly.assertThat(invoker).isInstanceOf(LambdaInvoker.class);
+        softly.assertThat(invoker.invoke(new TestBean(), new Object[0])).isEqualTo(22);
+    }
+
+    @Test
+    public void testInterfaceGetterUsesLambda() throws Exception {
+        Invoker invoker = Invokers.forGetter(Named.class.getMethod("getName"));
+        softly.assertThat(invoker).isInstanceOf(LambdaInvoker.class);
+        softly.assertThat(invoker.invoke(new TestBean(), new Object[0])).isEqualTo("fred");
+    }
+
+    @Test
+    public void testPrivateGetterUsesMethodHandle() throws Exception {
+        java.lang.reflect.Method method = TestBean.class.getDeclaredMethod("getSecret");
+        method.setAccessible(true);
+        Invoker invoker = Invokers.forGetter(method);
+        softly.assertThat(invoker).isInstanceOf(MethodHandleInvoker.class);
+        softly.assertThat(invoker.invoke(new TestBean(), new Object[0])).isEqualTo("secret");
+    }
+
+    @Test
+    public void testGetterOfNonPublicClassUsesMethodHandle() throws Exception {
+        Invoker invoker = Invokers.forGetter(HiddenBean.class.getMethod("getName"));
+        softly.assertThat(invoker).isInstanceOf(MethodHandleInvoker.class);
+        softly.assertThat(invoker.invoke(new HiddenBean(), new Object[0])).isEqualTo("hidden");
+    }
+
+    @Test
+    public void testStaticGetterUsesReflection() throws Exception {
+        Invoker invoker = Invokers.forGetter(TestBean.class.getMethod("getDefault"));
+        softly.assertThat(invoker).isInstanceOf(MethodInvoker.class);
+        softly.assertThat(invoker.invoke(new TestBean(), new Object[0])).isEqualTo("default");
+    }
+
+    @Test
+    public void testFieldUsesMethodHandle() throws Exception {
+        java.lang.reflect.Field field = TestBean.class.getDeclaredField("secret");
+        field.setAccessible(true);
+        Invoker invoker = Invokers.forField(field);
+        softly.assertThat(invoker).isInstanceOf(MethodHandleInvoker.class);
+        softly.assertThat(invoker.invoke(new TestBean(), new Object[0])).isEqualTo("secret");
+        softly.assertThat(invoker.getDeclaringClass()).isEqualTo(TestBean.class);
+    }
+
+    @Test
+    public void testStaticFieldUsesReflection() throws Exception {
+        Invoker invoker = Invokers.forField(TestBean.class.getField("COUNT"));
+        softly.assertThat(invoker).isInstanceOf(GetFieldInvoker.class);
+        softly.assertThat(invoker.invoke(new TestBean(), new Object[0])).isEqualTo(3);
+    }
+
+    @Test(expected = InvocationTargetException.class)
+    public void testLambdaExceptionIsWrapped() throws Exception {
+        Invoker invoker = Invokers.forGetter(TestBean.class.getMethod("getBroken"));
+        invoker.invoke(new TestBean(), new Object[0]);
+    }
+
+    @Test(expected = InvocationTargetException.class)
+    public void testMethodHandleExceptionIsWrapped() throws Exception {
+        Invoker invoker = Invokers.forGetter(HiddenBean.class.getMethod("getBroken"));
+        invoker.invoke(new HiddenBean(), new Object[0]);
+    }
+
+    @Test
+    public void testWrongTargetTypeIsAnIllegalArgument() throws Exception {
+        Invoker lambdaInvoker = Invokers.forGetter(TestBean.class.getMethod("getName"));
+        softly.assertThatThrownBy(() -> lambdaInvoker.invoke(new HiddenBean(), new Object[0]))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        Invoker handleInvoker = Invokers.forGetter(HiddenBean.class.getMethod("getName"));
+        softly.assertThatThrownBy(() -> handleInvoker.invoke(new TestBean(), new Object[0]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testClassCastExceptionFromGetterIsWrapped() throws Exception {
+        Invoker invoker = Invokers.forGetter(TestBean.class.getMethod("getBadCast"));
+        softly.assertThatThrownBy(() -> invoker.invoke(new TestBean(), new Object[0]))
+                .isInstanceOf(InvocationTargetException.class)
+                .hasCauseInstanceOf(ClassCastException.class);
+    }
+
+    public interface Named {
+        String getName();
+    }
+
+    public static class TestBean implements Named {
+        public static final int COUNT = 3;
+
+        private String secret = "secret";
+
+        @Override
+        public String getName() {
+            return "fred";
+        }
+
+        public int getAge() {
+            return 22;
+        }
+
+        public String getBroken() {
+            throw new IllegalStateException();
+        }
+
+        public String getBadCast() {
+            Object age = getAge();
+            return (String) age;
+        }
+
+        public static String getDefault() {
+            return "default";
+        }
+
+        @SuppressWarnings("unused")
+        private String getSecret() {
+            return secret;
+        }
+    }
+
+    static class HiddenBean {
+        public String getName() {
+            return "hidden";
+        }
+
+        public String getBroken() {
+            throw new IllegalStateException();
+        }
+    }
+}
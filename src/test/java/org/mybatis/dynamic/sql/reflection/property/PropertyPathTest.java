@@ -0,0 +1,190 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.reflection.property;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mybatis.dynamic.sql.reflection.GenerateAccessor;
+import org.mybatis.dynamic.sql.reflection.PropertyAccessorFactory;
+import org.mybatis.dynamic.sql.reflection.ReflectionException;
+
+public class PropertyPathTest {
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @Test
+    public void testPathsAreCached() {
+        softly.assertThat(PropertyPath.of("address.lines[0]")).isSameAs(PropertyPath.of("address.lines[0]"));
+        softly.assertThat(PropertyPath.of("address.lines[0]")).isNotSameAs(PropertyPath.of("address.lines[1]"));
+    }
+
+    @Test
+    public void testSimpleAndNestedProperties() {
+        Person person = new Person("Fred", new Address("Bedrock", "1 Rocky Road", "Apartment 2"));
+
+        softly.assertThat(PropertyPath.of("name").getValue(person)).isEqualTo("Fred");
+        softly.assertThat(PropertyPath.of("address.city").getValue(person)).isEqualTo("Bedrock");
+        softly.assertThat(PropertyPath.of("address.zip").getValue(person)).isNull();
+        softly.assertThat(PropertyPath.of("unknown").getValue(person)).isNull();
+    }
+
+    @Test
+    public void testIndexedProperties() {
+        Person person = new Person("Fred", new Address("Bedrock", "1 Rocky Road", "Apartment 2"));
+
+        softly.assertThat(PropertyPath.of("address.lines[0]").getValue(person)).isEqualTo("1 Rocky Road");
+        softly.assertThat(PropertyPath.of("address.lines[1]").getValue(person)).isEqualTo("Apartment 2");
+        softly.assertThat(PropertyPath.of("address.lineArray[1]").getValue(person)).isEqualTo("Apartment 2");
+        softly.assertThat(PropertyPath.of("address.attributes[color]").getValue(person)).isEqualTo("grey");
+        softly.assertThat(PropertyPath.of("address.attributes[1]").getValue(person)).isEqualTo("one");
+    }
+
+    @Test
+    public void testMaps() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("person", new Person("Barney", new Address("Bedrock", "2 Rocky Road")));
+        map.put("lines", Arrays.asList("a", "b"));
+
+        softly.assertThat(PropertyPath.of("person.name").getValue(map)).isEqualTo("Barney");
+        softly.assertThat(PropertyPath.of("person.address.lines[0]").getValue(map)).isEqualTo("2 Rocky Road");
+        softly.assertThat(PropertyPath.of("lines[1]").getValue(map)).isEqualTo("b");
+        softly.assertThat(PropertyPath.of("missing.name").getValue(map)).isNull();
+    }
+
+    @Test
+    public void testNullValues() {
+        Person person = new Person("Fred", null);
+
+        softly.assertThat(PropertyPath.of("name").getValue(null)).isNull();
+        softly.assertThat(PropertyPath.of("address.city").getValue(person)).isNull();
+        softly.assertThat(PropertyPath.of("address.lines[0]").getValue(person)).isNull();
+    }
+
+    @Test
+    public void testDifferentClassesAtTheSameStep() {
+        PropertyPath path = PropertyPath.of("name");
+
+        softly.assertThat(path.getValue(new Person("Fred", null))).isEqualTo("Fred");
+        softly.assertThat(path.getValue(new Pet("Dino"))).isEqualTo("Dino");
+        softly.assertThat(path.getValue(new Person("Wilma", null))).isEqualTo("Wilma");
+    }
+
+    @Test
+    public void testFailingGetters() {
+        softly.assertThat(PropertyAccessorFactory.instance().findForClass(Broken.class).isPresent()).isTrue();
+        softly.assertThat(PropertyPath.of("name").getValue(new Broken())).isNull();
+        softly.assertThat(PropertyPath.of("name").getValue(new BrokenWithoutAccessor())).isNull();
+    }
+
+    @Test
+    public void testNonNumericIndex() {
+        Person person = new Person("Fred", new Address("Bedrock", "1 Rocky Road"));
+
+        assertThatThrownBy(() -> PropertyPath.of("address.lines[first]").getValue(person))
+                .isInstanceOf(ReflectionException.class)
+                .hasMessage("The index 'first' of the 'lines' property is not a number.");
+    }
+
+    @Test
+    public void testIndexOnAPropertyThatIsNotAList() {
+        Person person = new Person("Fred", new Address("Bedrock", "1 Rocky Road"));
+
+        assertThatThrownBy(() -> PropertyPath.of("address.city[0]").getValue(person))
+                .isInstanceOf(ReflectionException.class)
+                .hasMessage("The 'city' property of Bedrock is not a List or Array.");
+    }
+
+    public static class Person {
+        private String name;
+        private Address address;
+
+        public Person(String name, Address address) {
+            this.name = name;
+            this.address = address;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+    }
+
+    public static class Address {
+        private String city;
+        private List<String> lines;
+        private Map<String, String> attributes = new HashMap<>();
+
+        public Address(String city, String...lines) {
+            this.city = city;
+            this.lines = Arrays.asList(lines);
+            attributes.put("color", "grey");
+            attributes.put("1", "one");
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public List<String> getLines() {
+            return lines;
+        }
+
+        public String[] getLineArray() {
+            return lines.toArray(new String[lines.size()]);
+        }
+
+        public Map<String, String> getAttributes() {
+            return attributes;
+        }
+    }
+
+    @GenerateAccessor
+    public static class Broken {
+        public String getName() {
+            throw new IllegalStateException();
+        }
+    }
+
+    public static class BrokenWithoutAccessor {
+        public String getName() {
+            throw new IllegalStateException();
+        }
+    }
+
+    public static class Pet {
+        private String name;
+
+        public Pet(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.select;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.SqlConditions.*;
+
+import java.sql.JDBCType;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+
+public class CompiledSelectTest {
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    private static final SqlTable table = SqlTable.of("foo").withAlias("a");
+    private static final SqlColumn<Integer> id = SqlColumn.of("id", JDBCType.INTEGER).inTable(table);
+    private static final SqlColumn<String> description = SqlColumn.of("description", JDBCType.VARCHAR).inTable(table);
+
+    private static final CompiledSelect compiledSelect = select(id, description)
+            .from(table)
+            .where(id, isBetween(bindParam("low")).and(bindParam("high")))
+            .and(description, isLikeCaseInsensitive(bindParam("description")))
+            .or(id, isEqualTo(22))
+            .orderBy(id)
+            .compile();
+
+    @Test
+    public void testBindByName() {
+        Map<String, Object> bindValues = new HashMap<>();
+        bindValues.put("low", 3);
+        bindValues.put("high", 7);
+        bindValues.put("description", "%fred%");
+
+        SelectSupport selectSupport = compiledSelect.bind(bindValues);
+
+        String expectedStatement = "select a.id, a.description from foo a"
+                + " where a.id between {parameters.p1} and {parameters.p2}"
+                + " and upper(a.description) like {parameters.p3}"
+                + " or a.id = {parameters.p4}"
+                + " order by id ASC";
+        softly.assertThat(selectSupport.getFullSelectStatement()).isEqualTo(expectedStatement);
+
+        Map<String, Object> parameters = selectSupport.getParameters();
+        softly.assertThat(parameters.size()).isEqualTo(4);
+        softly.assertThat(parameters.get("p1")).isEqualTo(3);
+        softly.assertThat(parameters.get("p2")).isEqualTo(7);
+        softly.assertThat(parameters.get("p3")).isEqualTo("%FRED%");
+        softly.assertThat(parameters.get("p4")).isEqualTo(22);
+    }
+
+    @Test
+    public void testBindByPosition() {
+        SelectSupport first = compiledSelect.bind(3, 7, "%fred%");
+        SelectSupport second = compiledSelect.bind(4, 8, null);
+
+        softly.assertThat(second.getFullSelectStatement()).isEqualTo(first.getFullSelectStatement());
+        softly.assertThat(second.getFullSelectStatement()).isSameAs(first.getFullSelectStatement());
+
+        softly.assertThat(first.getParameters().get("p1")).isEqualTo(3);
+        softly.assertThat(first.getParameters().get("p2")).isEqualTo(7);
+        softly.assertThat(first.getParameters().get("p3")).isEqualTo("%FRED%");
+
+        softly.assertThat(second.getParameters().get("p1")).isEqualTo(4);
+        softly.assertThat(second.getParameters().get("p2")).isEqualTo(8);
+        softly.assertThat(second.getParameters().get("p3")).isNull();
+        softly.assertThat(second.getParameters().get("p4")).isEqualTo(22);
+    }
+
+    @Test
+    public void testSameBindParameterUsedTwice() {
+        CompiledSelect compiled = select(id)
+                .from(table)
+                .where(id, isEqualTo(bindParam("id")))
+                .or(id, isGreaterThan(bindParam("id")))
+                .compile();
+
+        SelectSupport selectSupport = compiled.bind(5);
+
+        softly.assertThat(selectSupport.getParameters().get("p1")).isEqualTo(5);
+        softly.assertThat(selectSupport.getParameters().get("p2")).isEqualTo(5);
+    }
+
+    @Test
+    public void testMissingBindValue() {
+        Map<String, Object> bindValues = new HashMap<>();
+        bindValues.put("low", 3);
+
+        assertThatThrownBy(() -> compiledSelect.bind(bindValues))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("high");
+    }
+
+    @Test
+    public void testWrongNumberOfPositionalValues() {
+        assertThatThrownBy(() -> compiledSelect.bind(3, 7))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expected 3 bind values, but received 2");
+    }
+}
@@ -19,15 +19,23 @@ import static org.mybatis.dynamic.sql.SqlBuilder.*;
 import static org.mybatis.dynamic.sql.SqlConditions.*;
 
 import java.sql.JDBCType;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.assertj.core.api.JUnitSoftAssertions;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mybatis.dynamic.sql.ArrayDialect;
+import org.mybatis.dynamic.sql.PaddingPolicy;
+import org.mybatis.dynamic.sql.RenderingStrategy;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.select.SelectSupport;
+import org.mybatis.dynamic.sql.where.condition.IsIn;
+import org.mybatis.dynamic.sql.where.condition.IsInArray;
 
 public class SelectSupportTest {
     
@@ -267,4 +275,188 @@ public class SelectSupportTest {
         Map<String, Object> parameters = selectSupport.getParameters();
         softly.assertThat(parameters.size()).isEqualTo(0);
     }
+
+    @Test
+    public void testPositionalRendering() {
+        Date d = new Date();
+
+        SelectSupport selectSupport = select(column1, column2)
+                .from(table)
+                .where(column1, isEqualTo(d))
+                .and(column2, isBetween(3).and(8), or(column2, isIn(10, 11)))
+                .orderBy(column2)
+                .build(RenderingStrategy.POSITIONAL);
+
+        softly.assertThat(selectSupport.getWhereClause())
+                .isEqualTo("where a.column1 = ? and (a.column2 between ? and ? or a.column2 in (?,?))");
+        softly.assertThat(selectSupport.getFullSelectStatement()).endsWith(" order by column2 ASC");
+        softly.assertThat(selectSupport.getParameters()).isEmpty();
+
+        softly.assertThat(selectSupport.getBindings()).extracting("value").containsExactly(d, 3, 8, 10, 11);
+        softly.assertThat(selectSupport.getBindings()).extracting("jdbcType").containsExactly(JDBCType.DATE,
+                JDBCType.INTEGER, JDBCType.INTEGER, JDBCType.INTEGER, JDBCType.INTEGER);
+    }
+
+    @Test
+    public void testNamedRenderingHasNoBindings() {
+        SelectSupport selectSupport = select(column1, column2)
+                .from(table)
+                .where(column2, isEqualTo(4))
+                .build();
+
+        softly.assertThat(selectSupport.getWhereClause()).isEqualTo("where a.column2 = {parameters.p1}");
+        softly.assertThat(selectSupport.getBindings()).isEmpty();
+    }
+
+    @Test
+    public void testInListPadding() {
+        SelectSupport selectSupport = select(column1, column2)
+                .from(table)
+                .where(column2, isIn(3, 4, 5).withPadding(PaddingPolicy.ladder(4, 8)))
+                .and(column2, isNotIn(6, 7, 8, 9, 10).withPadding(PaddingPolicy.ladder(4, 8)))
+                .build();
+
+        softly.assertThat(selectSupport.getWhereClause()).isEqualTo("where a.column2 in "
+                + "({parameters.p1},{parameters.p2},{parameters.p3},{parameters.p4})"
+                + " and a.column2 not in ({parameters.p5},{parameters.p6},{parameters.p7},{parameters.p8},"
+                + "{parameters.p9},{parameters.p10},{parameters.p11},{parameters.p12})");
+
+        Map<String, Object> parameters = selectSupport.getParameters();
+        softly.assertThat(parameters.size()).isEqualTo(12);
+        softly.assertThat(parameters.get("p3")).isEqualTo(5);
+        softly.assertThat(parameters.get("p4")).isEqualTo(5);
+        softly.assertThat(parameters.get("p9")).isEqualTo(10);
+        softly.assertThat(parameters.get("p12")).isEqualTo(10);
+    }
+
+    @Test
+    public void testCaseInsensitiveInListPadding() {
+        SqlColumn<String> column3 = SqlColumn.of("column3", JDBCType.VARCHAR).inTable(table);
+
+        SelectSupport selectSupport = select(column1, column3)
+                .from(table)
+                .where(column3, isInCaseInsensitive("fred", "wilma", "barney").withPadding(PaddingPolicy.powersOfTwo()))
+                .build(RenderingStrategy.POSITIONAL);
+
+        softly.assertThat(selectSupport.getWhereClause()).isEqualTo("where upper(a.column3) in (?,?,?,?)");
+        softly.assertThat(selectSupport.getBindings()).extracting("value")
+                .containsExactly("FRED", "WILMA", "BARNEY", "BARNEY");
+    }
+
+    @Test
+    public void testChunkedInList() {
+        SelectSupport selectSupport = select(column1, column2)
+                .from(table)
+                .where(column2, isIn(1, 2, 3, 4, 5).withChunkSize(2))
+                .and(column2, isNotIn(6, 7, 8).withChunkSize(2))
+                .build(RenderingStrategy.POSITIONAL);
+
+        softly.assertThat(selectSupport.getWhereClause()).isEqualTo("where (a.column2 in (?,?) or a.column2 in (?,?)"
+                + " or a.column2 in (?)) and (a.column2 not in (?,?) and a.column2 not in (?))");
+        softly.assertThat(selectSupport.getBindings()).extracting("value").containsExactly(1, 2, 3, 4, 5, 6, 7, 8);
+    }
+
+    @Test
+    public void testChainedListConditionKeepsItsType() {
+        IsIn<Integer> condition = isIn(1, 2, 3).withPadding(PaddingPolicy.powersOfTwo()).withChunkSize(2);
+
+        SelectSupport selectSupport = select(column1, column2)
+                .from(table)
+                .where(column2, condition)
+                .build(RenderingStrategy.POSITIONAL);
+
+        softly.assertThat(selectSupport.getWhereClause()).isEqualTo("where (a.column2 in (?,?) or a.column2 in (?,?))");
+        softly.assertThat(selectSupport.getBindings()).extracting("value").containsExactly(1, 2, 3, 3);
+    }
+
+    @Test
+    public void testListConditionsAreImmutable() {
+        IsIn<Integer> condition = isIn(1, 2, 3);
+        IsIn<Integer> padded = condition.withPadding(PaddingPolicy.powersOfTwo());
+        IsIn<Integer> chunked = padded.withChunkSize(2);
+
+        softly.assertThat(padded).isNotSameAs(condition);
+        softly.assertThat(chunked).isNotSameAs(padded);
+        softly.assertThat(condition.parameterCount()).isEqualTo(3);
+        softly.assertThat(padded.parameterCount()).isEqualTo(4);
+        softly.assertThat(condition.shapeDetails()).isEqualTo(padded.shapeDetails());
+        softly.assertThat(chunked.shapeDetails()).isNotEqualTo(padded.shapeDetails());
+    }
+
+    @Test
+    public void testPaddingNeverDropsValues() {
+        SelectSupport selectSupport = select(column1, column2)
+                .from(table)
+                .where(column2, isIn(1, 2, 3).withPadding(size -> 1))
+                .build(RenderingStrategy.POSITIONAL);
+
+        softly.assertThat(selectSupport.getWhereClause()).isEqualTo("where a.column2 in (?,?,?)");
+        softly.assertThat(selectSupport.getBindings()).extracting("value").containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void testShortListIsNotChunked() {
+        SelectSupport selectSupport = select(column1, column2)
+                .from(table)
+                .where(column2, isIn(1, 2).withChunkSize(2))
+                .build();
+
+        softly.assertThat(selectSupport.getWhereClause())
+                .isEqualTo("where a.column2 in ({parameters.p1},{parameters.p2})");
+    }
+
+    @Test
+    public void testArrayConditionsAreImmutable() {
+        IsInArray<Integer> condition = isInArray(Arrays.asList(3, 4, 5));
+        IsInArray<Integer> unnest = condition.withDialect(ArrayDialect.UNNEST);
+
+        softly.assertThat(unnest).isNotSameAs(condition);
+        softly.assertThat(condition.shapeDetails()).isEqualTo(ArrayDialect.ANY);
+        softly.assertThat(unnest.shapeDetails()).isEqualTo(ArrayDialect.UNNEST);
+    }
+
+    @Test
+    public void testArrayConditions() {
+        SelectSupport selectSupport = select(column1, column2)
+                .from(table)
+                .where(column2, isInArray(Arrays.asList(3, 4, 5)))
+                .and(column2, isNotInArray(Arrays.asList(6, 7)))
+                .or(column2, isInArray(Arrays.asList(8, 9)).withDialect(ArrayDialect.UNNEST))
+                .build();
+
+        softly.assertThat(selectSupport.getWhereClause()).isEqualTo("where a.column2 = any({parameters.p1})"
+                + " and a.column2 <> all({parameters.p2}) or a.column2 in (unnest({parameters.p3}))");
+        softly.assertThat(selectSupport.getParameters().get("p1")).isEqualTo(new Object[] {3, 4, 5});
+        softly.assertThat(selectSupport.getParameters().get("p3")).isEqualTo(new Object[] {8, 9});
+    }
+
+    @Test
+    public void testFullStatementIsRenderedOnce() {
+        SelectSupport selectSupport = select(column1, column2)
+                .from(table)
+                .where(column2, isEqualTo(4))
+                .build();
+
+        String statement = selectSupport.getFullSelectStatement();
+        softly.assertThat(statement).isEqualTo("select a.column1 as A_COLUMN1, a.column2 from foo a where a.column2 = {parameters.p1}");
+        softly.assertThat(selectSupport.getFullSelectStatement()).isSameAs(statement);
+    }
+
+    @Test
+    public void testBuilderCopiesParameters() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("p1", 3);
+
+        SelectSupport selectSupport = new SelectSupport.Builder()
+                .withTable(table)
+                .withColumnList("a.column2")
+                .withParameters(parameters)
+                .withParameters(Collections.singletonMap("p2", 4))
+                .build();
+        parameters.put("p1", 5);
+
+        softly.assertThat(selectSupport.getParameters()).hasSize(2);
+        softly.assertThat(selectSupport.getParameters().get("p1")).isEqualTo(3);
+        softly.assertThat(selectSupport.getParameters().get("p2")).isEqualTo(4);
+    }
 }
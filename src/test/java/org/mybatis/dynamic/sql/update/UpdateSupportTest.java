@@ -15,16 +15,23 @@
  */
 package org.mybatis.dynamic.sql.update;
 
+import static org.mybatis.dynamic.sql.SqlBuilder.bindParam;
 import static org.mybatis.dynamic.sql.SqlBuilder.update;
 import static org.mybatis.dynamic.sql.SqlConditions.isEqualTo;
+import static org.mybatis.dynamic.sql.SqlConditions.isIn;
 
 import java.sql.JDBCType;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 import org.assertj.core.api.JUnitSoftAssertions;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mybatis.dynamic.sql.RenderingStrategy;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.where.ShapeCache;
 
 public class UpdateSupportTest {
     @Rule
@@ -36,6 +43,17 @@ public class UpdateSupportTest {
     private static final SqlColumn<String> lastName = SqlColumn.of("lastName", JDBCType.VARCHAR);
     private static final SqlColumn<String> occupation = SqlColumn.of("occupation", JDBCType.VARCHAR);
 
+    @Test
+    public void testFactoryCopiesParameters() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("p1", "fred");
+
+        UpdateSupport updateSupport = UpdateSupport.of("set firstName = {parameters.p1}", null, parameters, foo);
+        parameters.put("p1", "barney");
+
+        softly.assertThat(updateSupport.getParameters().get("p1")).isEqualTo("fred");
+    }
+
     @Test
     public void testUpdateParameter() {
         UpdateSupport updateSupport = update(foo)
@@ -58,6 +76,26 @@ public class UpdateSupportTest {
         softly.assertThat(updateSupport.getParameters().get("p1")).isEqualTo(3);
     }
 
+    @Test
+    public void testSetAndWhereParametersShareOneMap() {
+        Integer[] ids = IntStream.rangeClosed(1, 200).boxed().toArray(Integer[]::new);
+        UpdateSupport updateSupport = update(foo)
+                .set(firstName).equalTo("fred")
+                .set(lastName).equalTo("jones")
+                .where(id, isIn(ids))
+                .or(occupation, isEqualTo("dino"))
+                .build();
+        
+        softly.assertThat(updateSupport.getWhereClause()).startsWith("where id in ({parameters.p1},{parameters.p2},");
+        softly.assertThat(updateSupport.getWhereClause()).endsWith(",{parameters.p200}) or occupation = {parameters.p201}");
+        softly.assertThat(updateSupport.getParameters().size()).isEqualTo(203);
+        softly.assertThat(updateSupport.getParameters().get("up2")).isEqualTo("jones");
+        softly.assertThat(updateSupport.getParameters().get("p200")).isEqualTo(200);
+        softly.assertThat(updateSupport.getParameters().get("p201")).isEqualTo("dino");
+        softly.assertThatThrownBy(() -> updateSupport.getParameters().put("p202", 4))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
     @Test
     public void testUpdateParameterStartWithNull() {
         UpdateSupport updateSupport = update(foo)
@@ -144,4 +182,114 @@ public class UpdateSupportTest {
         softly.assertThat(updateSupport.getParameters().get("up1")).isEqualTo("fred");
         softly.assertThat(updateSupport.getParameters().get("up2")).isEqualTo("jones");
     }
+
+    @Test
+    public void testCompiledUpdate() {
+        CompiledUpdate compiledUpdate = update(foo)
+                .set(firstName).equalTo(bindParam("firstName"))
+                .set(occupation).equalTo("dino driver")
+                .where(id, isEqualTo(bindParam("id")))
+                .compile();
+        
+        UpdateSupport updateSupport = compiledUpdate.bind("barney", 4);
+
+        String expectedStatement = "update foo set firstName = {parameters.up1}, occupation = {parameters.up2}"
+                + " where id = {parameters.p1}";
+        softly.assertThat(updateSupport.getFullUpdateStatement()).isEqualTo(expectedStatement);
+        
+        softly.assertThat(updateSupport.getParameters().size()).isEqualTo(3);
+        softly.assertThat(updateSupport.getParameters().get("up1")).isEqualTo("barney");
+        softly.assertThat(updateSupport.getParameters().get("up2")).isEqualTo("dino driver");
+        softly.assertThat(updateSupport.getParameters().get("p1")).isEqualTo(4);
+    }
+
+    @Test
+    public void testPositionalRendering() {
+        UpdateSupport updateSupport = update(foo)
+                .set(firstName).equalTo("fred")
+                .set(lastName).equalToConstant("'jones'")
+                .set(occupation).equalToNull()
+                .where(id, isEqualTo(3))
+                .or(occupation, isIn("dino", "pilot"))
+                .build(RenderingStrategy.POSITIONAL);
+
+        String expectedStatement = "update foo set firstName = ?, lastName = 'jones', occupation = null"
+                + " where id = ? or occupation in (?,?)";
+        softly.assertThat(updateSupport.getFullUpdateStatement()).isEqualTo(expectedStatement);
+        softly.assertThat(updateSupport.getParameters()).isEmpty();
+        softly.assertThat(updateSupport.getBindings()).extracting("value").containsExactly("fred", 3, "dino", "pilot");
+        softly.assertThat(updateSupport.getBindings()).extracting("jdbcType").containsExactly(JDBCType.VARCHAR,
+                JDBCType.INTEGER, JDBCType.VARCHAR, JDBCType.VARCHAR);
+    }
+
+    @Test
+    public void testSetClauseShapeCache() {
+        ShapeCache cache = ShapeCache.of(10);
+        
+        UpdateSupport first = selectiveUpdate(cache, "fred", null, "driver", 3);
+        UpdateSupport second = selectiveUpdate(cache, "barney", null, "miner", 4);
+        UpdateSupport third = selectiveUpdate(cache, null, "rubble", null, 5);
+        
+        softly.assertThat(first.getSetClause())
+                .isEqualTo("set firstName = {parameters.up1}, occupation = {parameters.up2}");
+        softly.assertThat(second.getSetClause()).isSameAs(first.getSetClause());
+        softly.assertThat(second.getParameters()).containsOnlyKeys("up1", "up2", "p1");
+        softly.assertThat(second.getParameters().get("up1")).isEqualTo("barney");
+        softly.assertThat(second.getParameters().get("up2")).isEqualTo("miner");
+        softly.assertThat(second.getParameters().get("p1")).isEqualTo(4);
+        softly.assertThat(third.getSetClause()).isEqualTo("set lastName = {parameters.up1}");
+        softly.assertThat(third.getParameters().get("up1")).isEqualTo("rubble");
+        
+        // one set clause and one where clause for each shape
+        softly.assertThat(cache.size()).isEqualTo(3);
+        softly.assertThat(cache.hits()).isEqualTo(3);
+    }
+    
+    @Test
+    public void testSetClauseShapeCacheWithoutWhere() {
+        ShapeCache cache = ShapeCache.of(10);
+        
+        UpdateSupport first = update(foo)
+                .withShapeCache(cache)
+                .set(firstName).equalTo("fred")
+                .set(occupation).equalToNull()
+                .build();
+        UpdateSupport second = update(foo)
+                .withShapeCache(cache)
+                .set(firstName).equalTo("barney")
+                .set(occupation).equalToConstant("'miner'")
+                .build();
+        
+        softly.assertThat(first.getSetClause()).isEqualTo("set firstName = {parameters.up1}, occupation = null");
+        softly.assertThat(second.getSetClause())
+                .isEqualTo("set firstName = {parameters.up1}, occupation = 'miner'");
+        softly.assertThat(cache.misses()).isEqualTo(2);
+    }
+    
+    @Test
+    public void testSetClauseShapeCacheIsNotUsedForPositionalStatements() {
+        ShapeCache cache = ShapeCache.of(10);
+        
+        UpdateSupport updateSupport = update(foo)
+                .set(firstName).equalToWhenPresent("fred")
+                .set(lastName).equalToWhenPresent(null)
+                .where(id, isEqualTo(3))
+                .withShapeCache(cache)
+                .build(RenderingStrategy.POSITIONAL);
+        
+        softly.assertThat(updateSupport.getFullUpdateStatement()).isEqualTo("update foo set firstName = ? where id = ?");
+        softly.assertThat(updateSupport.getBindings()).extracting("value").containsExactly("fred", 3);
+        softly.assertThat(cache.size()).isEqualTo(0);
+    }
+    
+    private UpdateSupport selectiveUpdate(ShapeCache cache, String firstNameValue, String lastNameValue,
+            String occupationValue, Integer idValue) {
+        return update(foo)
+                .set(firstName).equalToWhenPresent(firstNameValue)
+                .set(lastName).equalToWhenPresent(lastNameValue)
+                .set(occupation).equalToWhenPresent(occupationValue)
+                .where(id, isEqualTo(idValue))
+                .withShapeCache(cache)
+                .build();
+    }
 }
@@ -0,0 +1,178 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class OrdinalParameterMapTest {
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @Test
+    public void testOrdinalKeys() {
+        Map<String, Object> map = new OrdinalParameterMap(2);
+        map.put("p1", 1);
+        map.put("p2", "fred");
+        map.put("p3", null);
+        map.put("up1", 4);
+
+        softly.assertThat(map.size()).isEqualTo(4);
+        softly.assertThat(map.get("p1")).isEqualTo(1);
+        softly.assertThat(map.get("p2")).isEqualTo("fred");
+        softly.assertThat(map.get("p3")).isNull();
+        softly.assertThat(map.containsKey("p3")).isTrue();
+        softly.assertThat(map.containsKey("p4")).isFalse();
+        softly.assertThat(map.get("up1")).isEqualTo(4);
+        softly.assertThat(map.containsKey("up2")).isFalse();
+
+        softly.assertThat(map.put("p1", 5)).isEqualTo(1);
+        softly.assertThat(map.size()).isEqualTo(4);
+        softly.assertThat(map.remove("p3")).isNull();
+        softly.assertThat(map.containsKey("p3")).isFalse();
+        softly.assertThat(map.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void testOtherKeys() {
+        Map<String, Object> map = new OrdinalParameterMap();
+        map.put("p01", "a");
+        map.put("p", "b");
+        map.put("parameters", "c");
+        map.put("record", "d");
+        map.put("p1", "e");
+
+        softly.assertThat(map.size()).isEqualTo(5);
+        softly.assertThat(map.get("p01")).isEqualTo("a");
+        softly.assertThat(map.get("p")).isEqualTo("b");
+        softly.assertThat(map.get("parameters")).isEqualTo("c");
+        softly.assertThat(map.get("record")).isEqualTo("d");
+        softly.assertThat(map.get("p1")).isEqualTo("e");
+        softly.assertThat(map.get(1)).isNull();
+        softly.assertThat(map.containsKey(null)).isFalse();
+    }
+
+    @Test
+    public void testSparseKeyIsNotStoredInTheArray() {
+        Map<String, Object> map = new OrdinalParameterMap(2);
+        map.put("p999999999", 1);
+        map.put("p2", 2);
+
+        softly.assertThat(map.size()).isEqualTo(2);
+        softly.assertThat(map.get("p999999999")).isEqualTo(1);
+        softly.assertThat(map.remove("p999999999")).isEqualTo(1);
+        softly.assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testLargeSequenceGrowsTheArray() {
+        Map<String, Object> map = new OrdinalParameterMap(0);
+        for (int i = 1; i <= 5000; i++) {
+            map.put(OrdinalParameterMap.parameterKey(i), i);
+            map.put(OrdinalParameterMap.updateParameterKey(i), -i);
+        }
+
+        softly.assertThat(map.size()).isEqualTo(10000);
+        softly.assertThat(map.get("p5000")).isEqualTo(5000);
+        softly.assertThat(map.get("up4999")).isEqualTo(-4999);
+    }
+
+    @Test
+    public void testSharedKeys() {
+        softly.assertThat(OrdinalParameterMap.parameterKey(7)).isEqualTo("p7");
+        softly.assertThat(OrdinalParameterMap.parameterKey(7)).isSameAs(OrdinalParameterMap.parameterKey(7));
+        softly.assertThat(OrdinalParameterMap.parameterKey(100000)).isEqualTo("p100000");
+        softly.assertThat(OrdinalParameterMap.updateParameterKey(3)).isEqualTo("up3");
+    }
+
+    @Test
+    public void testMapSemanticsMatchHashMap() {
+        Map<String, Object> map = new OrdinalParameterMap();
+        map.put("p2", 2);
+        map.put("p1", null);
+        map.put("up1", "fred");
+        map.put("other", 3);
+
+        Map<String, Object> hashMap = new HashMap<>(map);
+
+        softly.assertThat(map).isEqualTo(hashMap);
+        softly.assertThat(hashMap).isEqualTo(map);
+        softly.assertThat(map.hashCode()).isEqualTo(hashMap.hashCode());
+        softly.assertThat(map.containsValue(null)).isTrue();
+        softly.assertThat(map.keySet()).containsExactly("up1", "p1", "p2", "other");
+        softly.assertThat(map.toString()).isEqualTo("{up1=fred, p1=null, p2=2, other=3}");
+    }
+
+    @Test
+    public void testIterator() {
+        Map<String, Object> map = new OrdinalParameterMap();
+        map.put("p1", 1);
+        map.put("p2", 2);
+        map.put("p3", 3);
+        map.put("other", 4);
+
+        Iterator<Map.Entry<String, Object>> iterator = map.entrySet().iterator();
+        List<String> keys = new ArrayList<>();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Object> entry = iterator.next();
+            keys.add(entry.getKey());
+            if (entry.getKey().equals("p2") || entry.getKey().equals("other")) {
+                iterator.remove();
+            } else {
+                entry.setValue(10);
+            }
+        }
+
+        softly.assertThat(keys).containsExactly("p1", "p2", "p3", "other");
+        softly.assertThat(map.size()).isEqualTo(2);
+        softly.assertThat(map.get("p1")).isEqualTo(10);
+        softly.assertThat(map.get("p3")).isEqualTo(10);
+        softly.assertThat(map.containsKey("other")).isFalse();
+
+        map.clear();
+        softly.assertThat(map.isEmpty()).isTrue();
+        softly.assertThat(map.entrySet().iterator().hasNext()).isFalse();
+    }
+
+    @Test
+    public void testIteratorRemoveTwice() {
+        Map<String, Object> map = new OrdinalParameterMap();
+        map.put("p1", 1);
+        map.put("p2", 2);
+        map.put("other", 3);
+
+        Iterator<Map.Entry<String, Object>> iterator = map.entrySet().iterator();
+        softly.assertThatThrownBy(() -> iterator.remove()).isInstanceOf(IllegalStateException.class);
+        iterator.next();
+        iterator.remove();
+        softly.assertThatThrownBy(() -> iterator.remove()).isInstanceOf(IllegalStateException.class);
+        iterator.next();
+        iterator.next();
+        iterator.remove();
+        softly.assertThatThrownBy(() -> iterator.remove()).isInstanceOf(IllegalStateException.class);
+
+        softly.assertThat(map).hasSize(1);
+        softly.assertThat(map.get("p2")).isEqualTo(2);
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.util;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.SqlConditions.*;
+
+import java.sql.JDBCType;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mybatis.dynamic.sql.PaddingPolicy;
+import org.mybatis.dynamic.sql.RenderingStrategy;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.DeleteSupport;
+import org.mybatis.dynamic.sql.select.SelectSupport;
+
+public class StatementSplitterTest {
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    private static final SqlTable table = SqlTable.of("foo");
+    private static final SqlColumn<Integer> id = SqlColumn.of("id", JDBCType.INTEGER).inTable(table);
+    private static final SqlColumn<String> description = SqlColumn.of("description", JDBCType.VARCHAR).inTable(table);
+
+    private static final List<Integer> ids = IntStream.rangeClosed(1, 25).boxed().collect(Collectors.toList());
+
+    @Test
+    public void testSplitSelect() {
+        List<SelectSupport> statements = StatementSplitter.splitSelect(ids, 10,
+                chunk -> select(id, description)
+                    .from(table)
+                    .where(description, isLike("%fred%"))
+                    .and(id, isIn(chunk))
+                    .build(RenderingStrategy.POSITIONAL));
+
+        softly.assertThat(statements.size()).isEqualTo(3);
+        softly.assertThat(statements.get(0).getBindings().size()).isEqualTo(10);
+        softly.assertThat(statements.get(0).getBindings()).extracting("value").startsWith("%fred%", 1, 2);
+        softly.assertThat(statements.get(1).getBindings()).extracting("value").startsWith("%fred%", 10, 11);
+        softly.assertThat(statements.get(2).getBindings()).extracting("value").containsExactly("%fred%", 19, 20, 21, 22, 23, 24, 25);
+    }
+
+    @Test
+    public void testSplitDelete() {
+        List<DeleteSupport> statements = StatementSplitter.splitDelete(ids, 20,
+                chunk -> deleteFrom(table)
+                    .where(id, isIn(chunk))
+                    .build());
+
+        softly.assertThat(statements.size()).isEqualTo(2);
+        softly.assertThat(statements.get(0).getParameters().size()).isEqualTo(20);
+        softly.assertThat(statements.get(1).getParameters().size()).isEqualTo(5);
+        softly.assertThat(statements.get(1).getParameters().get("p5")).isEqualTo(25);
+    }
+
+    @Test
+    public void testEmptyList() {
+        softly.assertThat(StatementSplitter.splitDelete(ids.subList(0, 0), 20,
+                chunk -> deleteFrom(table).where(id, isIn(chunk)).build())).isEmpty();
+    }
+
+    @Test
+    public void testStatementsThatCannotBeSplit() {
+        softly.assertThatThrownBy(() -> StatementSplitter.splitSelect(ids, 2,
+                chunk -> select(id)
+                    .from(table)
+                    .where(description, isLike("%fred%"))
+                    .and(description, isNotLike("%barney%"))
+                    .and(id, isIn(chunk))
+                    .build())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testSplitPaddedSelect() {
+        List<SelectSupport> statements = StatementSplitter.splitSelect(ids, 10,
+                chunk -> select(id)
+                    .from(table)
+                    .where(id, isIn(chunk).withPadding(PaddingPolicy.powersOfTwo()))
+                    .build(RenderingStrategy.POSITIONAL));
+
+        softly.assertThat(statements.size()).isEqualTo(4);
+        softly.assertThat(statements).allSatisfy(s -> softly.assertThat(s.getBindings().size()).isLessThanOrEqualTo(10));
+        softly.assertThat(statements.get(0).getBindings()).extracting("value").containsExactly(1, 2, 3, 4, 5, 6, 7, 8);
+        softly.assertThat(statements.get(3).getBindings()).extracting("value").containsExactly(25);
+    }
+}
@@ -0,0 +1,207 @@
+/**
+ *    Copyright 2016-2017 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.dynamic.sql.where;
+
+import static org.mybatis.dynamic.sql.SqlBuilder.*;
+import static org.mybatis.dynamic.sql.SqlConditions.*;
+
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mybatis.dynamic.sql.PaddingPolicy;
+import org.mybatis.dynamic.sql.SqlColumn;
+import org.mybatis.dynamic.sql.SqlTable;
+import org.mybatis.dynamic.sql.delete.DeleteSupport;
+import org.mybatis.dynamic.sql.select.SelectSupport;
+
+public class ShapeCacheTest {
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    private static final SqlTable table = SqlTable.of("foo").withAlias("a");
+    private static final SqlColumn<Integer> id = SqlColumn.of("id", JDBCType.INTEGER).inTable(table);
+    private static final SqlColumn<String> description = SqlColumn.of("description", JDBCType.VARCHAR).inTable(table);
+
+    @Test
+    public void testRepeatedShapeIsReused() {
+        ShapeCache cache = ShapeCache.of(10);
+
+        SelectSupport first = buildSelect(cache, 3, "fred", 4, 5);
+        SelectSupport second = buildSelect(cache, 7, "barney", 8, 9);
+
+        String expectedWhereClause = "where a.id = {parameters.p1}"
+                + " and (a.description like {parameters.p2} or a.id in ({parameters.p3},{parameters.p4}))";
+        softly.assertThat(first.getWhereClause()).isEqualTo(expectedWhereClause);
+        softly.assertThat(second.getWhereClause()).isEqualTo(expectedWhereClause);
+
+        softly.assertThat(second.getParameters().size()).isEqualTo(4);
+        softly.assertThat(second.getParameters().get("p1")).isEqualTo(7);
+        softly.assertThat(second.getParameters().get("p2")).isEqualTo("barney");
+        softly.assertThat(second.getParameters().get("p3")).isEqualTo(8);
+        softly.assertThat(second.getParameters().get("p4")).isEqualTo(9);
+
+        softly.assertThat(cache.misses()).isEqualTo(1);
+        softly.assertThat(cache.hits()).isEqualTo(1);
+        softly.assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testDifferentListSizesAreDifferentShapes() {
+        ShapeCache cache = ShapeCache.of(10);
+
+        SelectSupport first = buildSelect(cache, 3, "fred", 4, 5);
+        SelectSupport second = buildSelect(cache, 3, "fred", 4, 5, 6);
+
+        softly.assertThat(first.getWhereClause()).endsWith("in ({parameters.p3},{parameters.p4}))");
+        softly.assertThat(second.getWhereClause()).endsWith("in ({parameters.p3},{parameters.p4},{parameters.p5}))");
+        softly.assertThat(cache.misses()).isEqualTo(2);
+        softly.assertThat(cache.hits()).isEqualTo(0);
+    }
+
+    @Test
+    public void testRenderModeIsPartOfTheShape() {
+        ShapeCache cache = ShapeCache.of(10);
+
+        SelectSupport selectSupport = select(id)
+                .from(table)
+                .where(id, isEqualTo(3))
+                .withShapeCache(cache)
+                .build();
+
+        DeleteSupport deleteSupport = deleteFrom(table)
+                .where(id, isEqualTo(4))
+                .withShapeCache(cache)
+                .build();
+
+        softly.assertThat(selectSupport.getWhereClause()).isEqualTo("where a.id = {parameters.p1}");
+        softly.assertThat(deleteSupport.getWhereClause()).isEqualTo("where id = {parameters.p1}");
+        softly.assertThat(deleteSupport.getParameters().get("p1")).isEqualTo(4);
+        softly.assertThat(cache.misses()).isEqualTo(2);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedShapeIsEvicted() {
+        ShapeCache cache = ShapeCache.of(2);
+
+        buildSelect(cache, 1, "a", 1);
+        buildSelect(cache, 1, "a", 1, 2);
+        buildSelect(cache, 1, "a", 1);
+        buildSelect(cache, 1, "a", 1, 2, 3);
+
+        softly.assertThat(cache.size()).isEqualTo(2);
+        softly.assertThat(cache.evictions()).isEqualTo(1);
+
+        buildSelect(cache, 1, "a", 1);
+        softly.assertThat(cache.hits()).isEqualTo(2);
+
+        buildSelect(cache, 1, "a", 1, 2);
+        softly.assertThat(cache.misses()).isEqualTo(4);
+    }
+
+    @Test
+    public void testPaddedListsShareAShape() {
+        ShapeCache cache = ShapeCache.of(10);
+
+        for (int size = 5; size <= 8; size++) {
+            Integer[] ids = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                ids[i] = i;
+            }
+
+            SelectSupport selectSupport = select(id)
+                    .from(table)
+                    .where(id, isIn(ids).withPadding(PaddingPolicy.powersOfTwo()))
+                    .withShapeCache(cache)
+                    .build();
+            softly.assertThat(selectSupport.getParameters().size()).isEqualTo(8);
+            softly.assertThat(selectSupport.getParameters().get("p8")).isEqualTo(size - 1);
+        }
+
+        softly.assertThat(cache.misses()).isEqualTo(1);
+        softly.assertThat(cache.hits()).isEqualTo(3);
+    }
+
+    @Test
+    public void testChunkSizeIsPartOfTheShape() {
+        ShapeCache cache = ShapeCache.of(10);
+
+        SelectSupport first = select(id)
+                .from(table)
+                .where(id, isIn(1, 2, 3))
+                .withShapeCache(cache)
+                .build();
+
+        SelectSupport second = select(id)
+                .from(table)
+                .where(id, isIn(1, 2, 3).withChunkSize(2))
+                .withShapeCache(cache)
+                .build();
+
+        softly.assertThat(first.getWhereClause()).isEqualTo("where a.id in ({parameters.p1},{parameters.p2},{parameters.p3})");
+        softly.assertThat(second.getWhereClause())
+                .isEqualTo("where (a.id in ({parameters.p1},{parameters.p2}) or a.id in ({parameters.p3}))");
+        softly.assertThat(cache.misses()).isEqualTo(2);
+    }
+
+    @Test
+    public void testConcurrentUseStaysBoundedAndCorrect() throws Exception {
+        ShapeCache cache = ShapeCache.of(3);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        Integer[] ids = new Integer[i % 5 + 1];
+                        for (int j = 0; j < ids.length; j++) {
+                            ids[j] = i + j;
+                        }
+                        SelectSupport selectSupport = buildSelect(cache, i, "fred", ids);
+                        softly.assertThat(selectSupport.getParameters().size()).isEqualTo(ids.length + 2);
+                        softly.assertThat(selectSupport.getParameters().get("p" + (ids.length + 2)))
+                                .isEqualTo(i + ids.length - 1);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        softly.assertThat(cache.size()).isLessThanOrEqualTo(3);
+        softly.assertThat(cache.hits() + cache.misses()).isEqualTo(2000);
+        softly.assertThat(cache.evictions()).isGreaterThan(0);
+    }
+
+    private SelectSupport buildSelect(ShapeCache cache, Integer idValue, String descriptionValue, Integer...ids) {
+        return select(id, description)
+                .from(table)
+                .where(id, isEqualTo(idValue))
+                .and(description, isLike(descriptionValue), or(id, isIn(ids)))
+                .withShapeCache(cache)
+                .build();
+    }
+}
@@ -19,14 +19,20 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.sql.JDBCType;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import org.junit.Test;
 import org.mybatis.dynamic.sql.SqlColumn;
 import org.mybatis.dynamic.sql.SqlCriterion;
 import org.mybatis.dynamic.sql.SqlTable;
 import org.mybatis.dynamic.sql.util.FragmentAndParameters;
+import org.mybatis.dynamic.sql.util.RenderingContext;
 import org.mybatis.dynamic.sql.where.CriterionRenderer;
+import org.mybatis.dynamic.sql.where.condition.IsBetween;
 import org.mybatis.dynamic.sql.where.condition.IsEqualTo;
+import org.mybatis.dynamic.sql.where.condition.IsIn;
+import org.mybatis.dynamic.sql.where.condition.IsLike;
+import org.mybatis.dynamic.sql.where.condition.IsNull;
 
 public class CriterionRendererTest {
 
@@ -88,4 +94,28 @@ public class CriterionRendererTest {
         assertThat(fp.parameters().size()).isEqualTo(1);
         assertThat(fp.parameters().get("p1")).isEqualTo(3);
     }
+
+    @Test
+    public void testSubCriteriaRenderedIntoOneContext() {
+        SqlTable table = SqlTable.of("foo").withAlias("a");
+        SqlColumn<Integer> id = SqlColumn.of("id", JDBCType.INTEGER).inTable(table);
+        SqlColumn<String> description = SqlColumn.of("description", JDBCType.VARCHAR).inTable(table);
+        
+        SqlCriterion<Integer> criterion = SqlCriterion.of("and", id, IsBetween.isBetween(1).and(5),
+                SqlCriterion.of("or", description, IsLike.of("%fred%")),
+                SqlCriterion.of("or", id, IsIn.of(Stream.of(7, 8)),
+                        SqlCriterion.of("and", description, new IsNull<>())));
+        AtomicInteger sequence = new AtomicInteger(1);
+        RenderingContext context = RenderingContext.of(sequence);
+        context.append("where a.id = 2 ");
+        CriterionRenderer.newRendererIncludingTableAlias(sequence).render(criterion, context);
+        
+        assertThat(context.sql()).isEqualTo("where a.id = 2 and (a.id between {parameters.p1} and {parameters.p2}"
+                + " or a.description like {parameters.p3}"
+                + " or (a.id in ({parameters.p4},{parameters.p5}) and a.description is null))");
+        assertThat(context.parameters().size()).isEqualTo(5);
+        assertThat(context.parameters().get("p3")).isEqualTo("%fred%");
+        assertThat(context.parameters().get("p5")).isEqualTo(8);
+        assertThat(sequence.get()).isEqualTo(6);
+    }
 }